@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Dispatches the messages of a channel to all its downstreams.
+ * <p>
+ * Without this annotation, a channel must have a single downstream. When the upstream of a channel, either a method
+ * annotated with {@link Outgoing} or an injected {@link Emitter}, is annotated with {@code @Broadcast}, the channel can
+ * have several downstreams, and each message is delivered to every downstream, in the order of the upstream:
+ *
+ * <pre>
+ * &#64;Outgoing("prices")
+ * &#64;Broadcast(2)
+ * public PublisherBuilder&lt;Price&gt; prices() {
+ *     // ...
+ * }
+ *
+ * &#64;Incoming("prices")
+ * public void store(Price price) {
+ *     // ...
+ * }
+ *
+ * &#64;Incoming("prices")
+ * public void display(Price price) {
+ *     // ...
+ * }
+ * </pre>
+ * <p>
+ * Each downstream has its own buffer of {@link #bufferSize()} messages, so a slow downstream does not delay the others
+ * until its buffer is full. The upstream is then back-pressured until the slow downstream catches up.
+ * <p>
+ * Each downstream receives its own copy of the {@link Message}. The original message is acknowledged once every
+ * downstream has acknowledged its copy. It is <em>nacked</em> as soon as one downstream <em>nacks</em> its copy, with
+ * the same reason, and the later acknowledgements of the other copies are ignored.
+ * <p>
+ * Using this annotation on a method without {@link Outgoing}, on an injection point that is not an {@link Emitter}, or
+ * with a negative {@link #value()} or a {@link #bufferSize()} that is not strictly positive, must be reported as a
+ * {@link jakarta.enterprise.inject.spi.DeploymentException}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({METHOD, FIELD, PARAMETER})
+public @interface Broadcast {
+
+    /**
+     * @return the number of downstreams to wait for before dispatching the first message. {@code 0}, the default,
+     *         dispatches the messages as soon as the first downstream subscribes, so the downstreams subscribing later
+     *         miss the messages dispatched before their subscription. Must be positive.
+     */
+    int value() default 0;
+
+    /**
+     * @return the maximum number of messages buffered for each downstream. Must be strictly positive.
+     */
+    int bufferSize() default 128;
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A message whose payload is a {@link ByteBuffer} lent by a connector, such as a pooled buffer or a view of a
+ * memory-mapped file, so the content reaches the application without being copied.
+ * <p>
+ * The connector owns the buffer: it is valid until the message is acknowledged or negatively acknowledged. The release
+ * function passed to {@link #of(ByteBuffer, Metadata, Runnable, Supplier, Function)} is invoked exactly once, when a
+ * completion stage returned by {@link #ack()} or {@link #nack(Throwable)} completes for the first time, successfully or
+ * not. The connector can then recycle the buffer. Methods consuming the payload must not access it once the message is
+ * acknowledged, and must copy it to retain its content:
+ *
+ * <pre>
+ * &#64;Incoming("frames")
+ * &#64;Outgoing("bodies")
+ * public ByteBuffer body(ByteBuffer frame) {
+ *     // No copy: the body is valid until the outgoing message, and so the frame, is acknowledged
+ *     return ((ByteBuffer) frame.position(HEADER_SIZE)).slice();
+ * }
+ * </pre>
+ * <p>
+ * As messages derived with {@code withPayload} or {@code withMetadata} keep the acknowledgement functions, they keep
+ * the buffer until they are acknowledged. A message derived with {@code withAck} or {@code withNack} must acknowledge
+ * or negatively acknowledge the original message, or the buffer is never released.
+ * <p>
+ * Connectors lending a buffer that must not be modified, such as a view of a shared file, should pass a read-only
+ * buffer.
+ */
+public interface BufferMessage extends Message<ByteBuffer> {
+
+    /**
+     * Creates a message lending the given buffer, with a no-op ack function.
+     *
+     * @param buffer
+     *            the buffer, must not be {@code null}
+     * @param release
+     *            the function releasing the buffer, must not be {@code null}
+     * @return the message
+     */
+    static BufferMessage of(ByteBuffer buffer, Runnable release) {
+        return of(buffer, Metadata.empty(), release, () -> CompletableFuture.completedFuture(null),
+                reason -> CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Creates a message lending the given buffer, with the given metadata, ack and nack functions.
+     *
+     * @param buffer
+     *            the buffer, must not be {@code null}
+     * @param metadata
+     *            the metadata, must not be {@code null}
+     * @param release
+     *            the function releasing the buffer, invoked exactly once when an acknowledgement or negative
+     *            acknowledgement completes, must not be {@code null}
+     * @param ack
+     *            the ack function, invoked when the message is acknowledged
+     * @param nack
+     *            the nack function, invoked when the message is negatively acknowledged
+     * @return the message
+     */
+    static BufferMessage of(ByteBuffer buffer, Metadata metadata, Runnable release,
+            Supplier<CompletionStage<Void>> ack, Function<Throwable, CompletionStage<Void>> nack) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("The buffer must not be `null`");
+        }
+        if (metadata == null) {
+            throw new IllegalArgumentException("The metadata must not be `null`");
+        }
+        if (release == null) {
+            throw new IllegalArgumentException("The release function must not be `null`");
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable releaseOnce = () -> {
+            if (released.compareAndSet(false, true)) {
+                release.run();
+            }
+        };
+        // Invokes an ack or nack function, and releases the buffer once it completes, even if it fails
+        Function<Supplier<CompletionStage<Void>>, CompletionStage<Void>> releaseOnCompletion = acknowledgement -> {
+            CompletionStage<Void> stage;
+            try {
+                stage = acknowledgement.get();
+            } catch (RuntimeException e) {
+                releaseOnce.run();
+                throw e;
+            }
+            if (stage == null) {
+                releaseOnce.run();
+                return CompletableFuture.completedFuture(null);
+            }
+            return stage.whenComplete((x, failure) -> releaseOnce.run());
+        };
+        Supplier<CompletionStage<Void>> releasingAck = () -> releaseOnCompletion
+                .apply(() -> ack == null ? null : ack.get());
+        Function<Throwable, CompletionStage<Void>> releasingNack = reason -> releaseOnCompletion
+                .apply(() -> nack == null ? null : nack.apply(reason));
+        return new BufferMessage() {
+            @Override
+            public ByteBuffer getPayload() {
+                return buffer;
+            }
+
+            @Override
+            public Metadata getMetadata() {
+                return metadata;
+            }
+
+            @Override
+            public Supplier<CompletionStage<Void>> getAck() {
+                return releasingAck;
+            }
+
+            @Override
+            public Function<Throwable, CompletionStage<Void>> getNack() {
+                return releasingNack;
+            }
+
+            @Override
+            public boolean isReleased() {
+                return released.get();
+            }
+        };
+    }
+
+    /**
+     * @return {@code true} once the buffer has been released, after which the payload must not be accessed
+     */
+    boolean isReleased();
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+/**
+ * Pauses and resumes the consumption of channels at runtime, without cancelling the subscriptions or closing the
+ * connections of the connectors.
+ * <p>
+ * The Reactive Messaging implementation provides an {@code ApplicationScoped} bean of this type, injected using:
+ *
+ * <pre>
+ * &#64;Inject
+ * ChannelControl control;
+ * </pre>
+ * <p>
+ * For example, the consumption of a channel can be suspended while a downstream database is overloaded:
+ *
+ * <pre>
+ * control.pause("orders");
+ * // ... the database recovers
+ * control.resume("orders");
+ * </pre>
+ * <p>
+ * While a channel is paused, the implementation stops requesting messages from the upstream of the channel, such as an
+ * incoming connector, and does not deliver messages to the methods consuming it. The messages already requested before
+ * the pause are kept by the implementation and delivered once the channel is resumed. Messages already being processed
+ * continue their processing and are acknowledged as usual. If the upstream is an incoming connector, the implementation
+ * also notifies the connector with
+ * {@link org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory#pause(String)}, so it can pause the
+ * consumption at the broker level.
+ * <p>
+ * Pausing a paused channel, or resuming a channel that is not paused, has no effect.
+ */
+public interface ChannelControl {
+
+    /**
+     * Pauses a channel. Once this method returns, no message of the channel is delivered until the channel is resumed.
+     *
+     * @param channel
+     *            the name of the channel, must not be {@code null}
+     * @throws IllegalArgumentException
+     *             if the application has no channel with this name
+     */
+    void pause(String channel);
+
+    /**
+     * Resumes a paused channel: the implementation requests messages again, starting with the messages kept during the
+     * pause.
+     *
+     * @param channel
+     *            the name of the channel, must not be {@code null}
+     * @throws IllegalArgumentException
+     *             if the application has no channel with this name
+     */
+    void resume(String channel);
+
+    /**
+     * @param channel
+     *            the name of the channel, must not be {@code null}
+     * @return {@code true} if the channel is paused
+     * @throws IllegalArgumentException
+     *             if the application has no channel with this name
+     */
+    boolean isPaused(String channel);
+}
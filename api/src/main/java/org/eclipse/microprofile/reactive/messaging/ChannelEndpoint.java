@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+/**
+ * An endpoint of a channel, either sending messages to the channel (an <em>upstream</em>) or receiving them (a
+ * <em>downstream</em>).
+ *
+ * @see ChannelState
+ */
+public interface ChannelEndpoint {
+
+    /**
+     * The kind of endpoint.
+     */
+    enum Kind {
+        /**
+         * A method annotated with {@link Incoming} or {@link Outgoing}.
+         */
+        METHOD,
+        /**
+         * An injected {@link Emitter}, or an injected {@link RequestReplyEmitter}, which is also a downstream of its
+         * reply channel.
+         */
+        EMITTER,
+        /**
+         * An injected {@link Channel}, such as a {@code Publisher}.
+         */
+        INJECTED_CHANNEL,
+        /**
+         * A connector.
+         */
+        CONNECTOR,
+        /**
+         * An incoming channel routing its <em>nacked</em> messages to the channel, see {@link DeadLetter}.
+         */
+        DEAD_LETTER
+    }
+
+    /**
+     * @return the kind of endpoint
+     */
+    Kind getKind();
+
+    /**
+     * Returns the name of the endpoint, depending on its kind:
+     * <ul>
+     * <li>{@link Kind#METHOD}: {@code <class>#<method>(<parameter types>)}, such as
+     * {@code com.acme.Billing#bill(com.acme.Order)}</li>
+     * <li>{@link Kind#EMITTER} and {@link Kind#INJECTED_CHANNEL}: {@code <class>#<field>} for field injection points,
+     * {@code <class>#<method>.<parameter>} for parameter injection points, {@code <init>} being used for
+     * constructors</li>
+     * <li>{@link Kind#CONNECTOR}: the name of the connector</li>
+     * <li>{@link Kind#DEAD_LETTER}: the name of the channel whose <em>nacked</em> messages are routed</li>
+     * </ul>
+     * Class names are binary names and parameter types are erased. The descriptor written by the
+     * {@link org.eclipse.microprofile.reactive.messaging.spi.processor.ChannelGraphProcessor} uses the same names,
+     * prefixed with the kind, such as {@code connector:<name>}.
+     *
+     * @return the name of the endpoint
+     */
+    String getName();
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Gives access to the channels of the application at runtime, with their endpoints and back-pressure state.
+ * <p>
+ * The Reactive Messaging implementation provides an {@code ApplicationScoped} bean of this type, injected using:
+ *
+ * <pre>
+ * &#64;Inject
+ * ChannelRegistry registry;
+ * </pre>
+ * <p>
+ * The registry can be used to find the links where messages accumulate in a running application:
+ *
+ * <pre>
+ * for (String name : registry.getChannelNames()) {
+ *     registry.getChannel(name)
+ *             .filter(channel -&gt; channel.getBuffered() &gt; 0)
+ *             .ifPresent(channel -&gt; log.info(name + " buffers " + channel.getBuffered() + " messages"));
+ * }
+ * </pre>
+ * <p>
+ * The registry is populated once the application is assembled.
+ */
+public interface ChannelRegistry {
+
+    /**
+     * @return the names of the channels of the application, never {@code null}
+     */
+    Set<String> getChannelNames();
+
+    /**
+     * Retrieves a channel.
+     *
+     * @param name
+     *            the name of the channel, must not be {@code null}
+     * @return the channel, empty if the application has no channel with this name
+     */
+    Optional<ChannelState> getChannel(String name);
+}
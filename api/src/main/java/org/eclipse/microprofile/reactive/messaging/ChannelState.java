@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A channel of the application, as exposed by the {@link ChannelRegistry}.
+ * <p>
+ * The endpoints of the channel are fixed once the application is assembled. The back-pressure state is read when
+ * {@link #getRequested()} and {@link #getBuffered()} are called, so successive calls may return different values.
+ * Implementations are not required to read the state atomically.
+ */
+public interface ChannelState {
+
+    /**
+     * @return the name of the channel
+     */
+    String getName();
+
+    /**
+     * @return the endpoints sending messages to the channel, never {@code null}
+     */
+    List<ChannelEndpoint> getUpstreams();
+
+    /**
+     * @return the endpoints receiving the messages of the channel, never {@code null}
+     */
+    List<ChannelEndpoint> getDownstreams();
+
+    /**
+     * @return the overflow strategy of the channel, empty if the channel is not fed by an {@link Emitter}. The
+     *         {@link OnOverflow.Strategy#BUFFER BUFFER} strategy is returned if the emitter is not annotated with
+     *         {@link OnOverflow}.
+     */
+    Optional<OnOverflow.Strategy> getOverflowStrategy();
+
+    /**
+     * @return the number of messages requested by the downstreams and not delivered yet, {@link Long#MAX_VALUE} if the
+     *         demand is unbounded
+     */
+    long getRequested();
+
+    /**
+     * @return the number of messages held by the channel because the downstreams have not requested them yet, such as
+     *         the messages in the buffer of an {@link Emitter}
+     */
+    long getBuffered();
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A message carrying a correlation identifier, used to match a reply with the request it answers.
+ * <p>
+ * The messages sent by a {@link RequestReplyEmitter} are {@link CorrelatedMessage CorrelatedMessages}. The application
+ * or the remote service handling the request answers with a message carrying the same correlation identifier, on the
+ * reply channel of the emitter:
+ *
+ * <pre>
+ * &#64;Incoming("prices-requests")
+ * &#64;Outgoing("prices-replies")
+ * public CorrelatedMessage&lt;Price&gt; quote(CorrelatedMessage&lt;String&gt; request) {
+ *     return request.reply(lookup(request.getPayload()));
+ * }
+ * </pre>
+ * <p>
+ * Connectors can use {@code message.unwrap(CorrelatedMessage.class)} to retrieve the correlation identifier of the
+ * outgoing messages and map it to the correlation mechanism of the transport, and produce {@link CorrelatedMessage
+ * CorrelatedMessages} on incoming channels carrying replies.
+ * <p>
+ * The correlation identifier is also available as the {@link CorrelationId} entry of the {@link Metadata} of the
+ * message, which is kept when the message is wrapped by code unaware of {@link CorrelatedMessage}.
+ * <p>
+ * The {@code withPayload}, {@code withMetadata}, {@code withAck} and {@code withNack} methods keep the correlation
+ * identifier.
+ *
+ * @param <T>
+ *            the type of the payload
+ */
+public interface CorrelatedMessage<T> extends Message<T> {
+
+    /**
+     * Creates a correlated message with the given payload and a no-op ack function.
+     *
+     * @param correlationId
+     *            the correlation identifier, must not be {@code null}
+     * @param payload
+     *            the payload
+     * @param <T>
+     *            the type of payload
+     * @return the message
+     */
+    static <T> CorrelatedMessage<T> of(String correlationId, T payload) {
+        return of(correlationId, payload, () -> CompletableFuture.completedFuture(null),
+                reason -> CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Creates a correlated message with the given payload, ack and nack functions.
+     *
+     * @param correlationId
+     *            the correlation identifier, must not be {@code null}
+     * @param payload
+     *            the payload
+     * @param ack
+     *            the ack function, invoked when the message is acknowledged
+     * @param nack
+     *            the nack function, invoked when the message is negatively acknowledged
+     * @param <T>
+     *            the type of payload
+     * @return the message
+     */
+    static <T> CorrelatedMessage<T> of(String correlationId, T payload, Supplier<CompletionStage<Void>> ack,
+            Function<Throwable, CompletionStage<Void>> nack) {
+        return of(correlationId, payload, Metadata.empty(), ack, nack);
+    }
+
+    /**
+     * Creates a correlated message with the given payload, metadata, ack and nack functions.
+     *
+     * @param correlationId
+     *            the correlation identifier, must not be {@code null}
+     * @param payload
+     *            the payload
+     * @param metadata
+     *            the metadata, must not be {@code null}. Its {@link CorrelationId} entry, if any, is replaced by the
+     *            given correlation identifier
+     * @param ack
+     *            the ack function, invoked when the message is acknowledged
+     * @param nack
+     *            the nack function, invoked when the message is negatively acknowledged
+     * @param <T>
+     *            the type of payload
+     * @return the message
+     */
+    static <T> CorrelatedMessage<T> of(String correlationId, T payload, Metadata metadata,
+            Supplier<CompletionStage<Void>> ack, Function<Throwable, CompletionStage<Void>> nack) {
+        if (metadata == null) {
+            throw new IllegalArgumentException("The metadata must not be `null`");
+        }
+        if (correlationId == null) {
+            throw new IllegalArgumentException("The correlation id must not be `null`");
+        }
+        Metadata correlated = metadata.with(CorrelationId.of(correlationId));
+        return new CorrelatedMessage<T>() {
+            @Override
+            public String getCorrelationId() {
+                return correlationId;
+            }
+
+            @Override
+            public T getPayload() {
+                return payload;
+            }
+
+            @Override
+            public Metadata getMetadata() {
+                return correlated;
+            }
+
+            @Override
+            public Supplier<CompletionStage<Void>> getAck() {
+                return ack;
+            }
+
+            @Override
+            public Function<Throwable, CompletionStage<Void>> getNack() {
+                return nack;
+            }
+        };
+    }
+
+    /**
+     * @return the correlation identifier, never {@code null}. It is also the value of the {@link CorrelationId} entry
+     *         of the metadata of this message
+     */
+    String getCorrelationId();
+
+    /**
+     * Creates the reply to this message: a message carrying the given payload and the correlation identifier of this
+     * message. Acknowledging the reply acknowledges this message, and negatively acknowledging the reply negatively
+     * acknowledges this message.
+     *
+     * @param payload
+     *            the payload of the reply
+     * @param <R>
+     *            the type of the reply payload
+     * @return the reply
+     */
+    default <R> CorrelatedMessage<R> reply(R payload) {
+        // The metadata of the request, such as its destination, does not apply to the reply
+        return of(getCorrelationId(), payload, Metadata.empty(), getAck(), getNack());
+    }
+
+    @Override
+    default <P> CorrelatedMessage<P> withPayload(P payload) {
+        return of(getCorrelationId(), payload, getMetadata(), getAck(), getNack());
+    }
+
+    @Override
+    default CorrelatedMessage<T> withMetadata(Metadata metadata) {
+        return of(getCorrelationId(), getPayload(), metadata, getAck(), getNack());
+    }
+
+    @Override
+    default CorrelatedMessage<T> addMetadata(Object metadata) {
+        return withMetadata(getMetadata().with(metadata));
+    }
+
+    @Override
+    default CorrelatedMessage<T> withAck(Supplier<CompletionStage<Void>> ack) {
+        return of(getCorrelationId(), getPayload(), getMetadata(), ack, getNack());
+    }
+
+    @Override
+    default CorrelatedMessage<T> withNack(Function<Throwable, CompletionStage<Void>> nack) {
+        return of(getCorrelationId(), getPayload(), getMetadata(), getAck(), nack);
+    }
+}
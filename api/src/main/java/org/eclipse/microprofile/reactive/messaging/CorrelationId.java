@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+/**
+ * The {@link Metadata} entry carrying the correlation identifier of a {@link CorrelatedMessage}.
+ * <p>
+ * The metadata of a {@link CorrelatedMessage} always contains a {@code CorrelationId} entry matching
+ * {@link CorrelatedMessage#getCorrelationId()}. Unlike the {@link CorrelatedMessage} type, the entry is kept when the
+ * message is wrapped or rebuilt with {@link Message#withPayload(Object)}, so connectors can retrieve the correlation
+ * identifier with {@code message.getMetadata(CorrelationId.class)}, and produce replies as regular messages carrying
+ * this entry.
+ */
+public final class CorrelationId {
+
+    private final String value;
+
+    private CorrelationId(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Creates a correlation identifier entry.
+     *
+     * @param value
+     *            the correlation identifier, must not be {@code null}
+     * @return the entry
+     */
+    public static CorrelationId of(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("The correlation id must not be `null`");
+        }
+        return new CorrelationId(value);
+    }
+
+    /**
+     * @return the correlation identifier, never {@code null}
+     */
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CorrelationId && value.equals(((CorrelationId) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CorrelationId[" + value + "]";
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+/**
+ * A message routed to a dead-letter channel because its processing failed.
+ * <p>
+ * When an incoming channel is configured with the {@code dead-letter} failure strategy:
+ *
+ * <pre>
+ * mp.messaging.incoming.orders.failure-strategy=dead-letter
+ * mp.messaging.incoming.orders.dead-letter-channel=orders-dlq
+ * </pre>
+ *
+ * the messages <em>nacked</em> on the {@code orders} channel are not passed to the connector. Instead, the container
+ * sends a {@link DeadLetter} to the {@code orders-dlq} channel. The dead letter contains the payload and the
+ * {@link Metadata} of the failed message, the failure reason and the name of the channel on which the failure happened.
+ * Once the dead letter is acknowledged, the original message is acknowledged. If the dead letter is <em>nacked</em>,
+ * the original message is <em>nacked</em> with the same reason.
+ * <p>
+ * The dead-letter channel can be consumed by a method annotated with {@link Incoming}, or mapped to an outgoing
+ * connector. Methods can receive the {@link DeadLetter} directly:
+ *
+ * <pre>
+ * &#64;Incoming("orders-dlq")
+ * public CompletionStage&lt;Void&gt; failed(DeadLetter&lt;Order&gt; letter) {
+ *     log.warn("Order processing failed on " + letter.getChannel(), letter.getFailure());
+ *     return letter.ack();
+ * }
+ * </pre>
+ * <p>
+ * Connectors and methods receiving a {@link Message} can use {@code message.unwrap(DeadLetter.class)} to retrieve the
+ * failure.
+ *
+ * @param <T>
+ *            the type of the payload
+ */
+public interface DeadLetter<T> extends Message<T> {
+
+    /**
+     * The value of the {@code failure-strategy} attribute enabling the routing of <em>nacked</em> messages to a
+     * dead-letter channel.
+     */
+    String FAILURE_STRATEGY = "dead-letter";
+
+    /**
+     * The {@code failure-strategy} channel attribute name. It configures how the container handles the messages
+     * <em>nacked</em> on an incoming channel. When not set, the <em>nack</em> is propagated to the connector.
+     */
+    String FAILURE_STRATEGY_ATTRIBUTE = "failure-strategy";
+
+    /**
+     * The {@code dead-letter-channel} channel attribute name. It configures the name of the channel receiving the dead
+     * letters. Mandatory when the {@code dead-letter} failure strategy is used.
+     */
+    String DEAD_LETTER_CHANNEL_ATTRIBUTE = "dead-letter-channel";
+
+    /**
+     * @return the reason passed to {@link Message#nack(Throwable)} when the original message was <em>nacked</em>, never
+     *         {@code null}
+     */
+    Throwable getFailure();
+
+    /**
+     * @return the name of the channel on which the original message was <em>nacked</em>, never {@code null}
+     */
+    String getChannel();
+}
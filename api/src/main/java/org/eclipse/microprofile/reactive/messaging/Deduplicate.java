@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Discards the duplicates of the messages already processed by a method annotated with {@link Incoming}.
+ * <p>
+ * At-least-once connectors deliver a message again when its acknowledgement is lost, for example after a rebalance.
+ * With this annotation, the container extracts a key from each incoming message using the {@link #key()} extractor, and
+ * keeps the keys of the processed messages in a cache bounded by {@link #maxSize()} keys, each key expiring after
+ * {@link #ttl()}. When the key of a message is in the cache, the message is acknowledged immediately and the method is
+ * not called. Messages whose key is {@code null} are never considered as duplicates.
+ *
+ * <pre>
+ * &#64;Incoming("orders")
+ * &#64;Deduplicate(key = OrderIdExtractor.class, maxSize = 100_000, ttl = 1, ttlUnit = ChronoUnit.HOURS)
+ * public void process(Order order) {
+ *     // ...
+ * }
+ * </pre>
+ * <p>
+ * The key is added to the cache when the method is called, and removed if the processing fails, so a message
+ * <em>nacked</em> and delivered again is processed again. The cache may evict keys before they expire to stay within
+ * {@link #maxSize()}, so a duplicate can occasionally be processed, but a message whose key is not in the cache must
+ * never be discarded: probabilistic structures reporting false positives, such as Bloom filters, must not be used.
+ * <p>
+ * When MicroProfile Metrics is enabled, the container counts the duplicates discarded and the messages passed to the
+ * method for each channel, in the {@code mp.messaging.deduplication.hits} and {@code mp.messaging.deduplication.misses}
+ * counters.
+ * <p>
+ * Using this annotation on a method without {@link Incoming}, on a method consuming a stream (such as methods returning
+ * a {@link org.reactivestreams.Subscriber} or a {@link org.reactivestreams.Processor}), with a {@link #maxSize()} or a
+ * {@link #ttl()} lower than 1, or with a {@link #key()} class without public no-argument constructor, must be reported
+ * as a {@link jakarta.enterprise.inject.spi.DeploymentException}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Deduplicate {
+
+    /**
+     * @return the class extracting the deduplication key of a message. It must have a public no-argument constructor.
+     *         By default, the payload is the key.
+     */
+    Class<? extends KeyExtractor> key() default PayloadKeyExtractor.class;
+
+    /**
+     * @return the maximum number of keys kept in the cache, must be strictly positive
+     */
+    int maxSize() default 10_000;
+
+    /**
+     * @return the duration after which a key expires, expressed in {@link #ttlUnit()}. Must be strictly positive.
+     */
+    long ttl() default 10;
+
+    /**
+     * @return the unit of {@link #ttl()}
+     */
+    ChronoUnit ttlUnit() default ChronoUnit.MINUTES;
+
+    /**
+     * Extracts the deduplication key of a message. Keys are compared with {@link Object#equals(Object)}.
+     */
+    @FunctionalInterface
+    interface KeyExtractor {
+
+        /**
+         * @param message
+         *            the incoming message
+         * @return the key identifying the message, {@code null} if the message must not be deduplicated
+         */
+        Object extract(Message<?> message);
+    }
+
+    /**
+     * The default {@link KeyExtractor}, using the payload of the message as key.
+     */
+    final class PayloadKeyExtractor implements KeyExtractor {
+
+        @Override
+        public Object extract(Message<?> message) {
+            return message.getPayload();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the invocations of a method annotated with {@link Incoming} on a named pool of threads, isolating the channel it
+ * consumes from the other channels of the application.
+ * <p>
+ * By default, the container calls methods on the threads of the runtime or of the connectors, so a CPU-heavy method can
+ * delay a latency-sensitive one. With this annotation, each invocation of the method runs on a thread of the
+ * {@link #value() pool}, and at most {@link #concurrency()} invocations are in progress at a time. The container only
+ * requests messages from the upstream when an invocation can start, so the pool never accumulates more than
+ * {@link #concurrency()} messages per method.
+ *
+ * <pre>
+ * &#64;Incoming("reports")
+ * &#64;ExecuteOn(value = "cpu", concurrency = 4)
+ * public Report render(ReportRequest request) {
+ *     // ...
+ * }
+ * </pre>
+ * <p>
+ * Pools are configured with MicroProfile Config, using the {@value #POOL_PREFIX} prefix:
+ *
+ * <pre>
+ * mp.messaging.pool.cpu.size=4
+ * mp.messaging.pool.io.virtual-threads=true
+ * </pre>
+ * <p>
+ * A pool must be configured, with at least one {@value #POOL_PREFIX}{@code <pool name>} property, or provided by the
+ * application: the container does not create pools that are only referenced by name. A pool has
+ * {@value #SIZE_ATTRIBUTE} threads, the number of available processors by default. When
+ * {@value #VIRTUAL_THREADS_ATTRIBUTE} is {@code true}, each invocation runs on a new virtual thread instead, and the
+ * size is ignored. The application can also provide the pool, as a bean of type
+ * {@link java.util.concurrent.ExecutorService} qualified with {@code @Named("<pool name>")}; the container does not
+ * shut down such pools. Pools created by the container are shut down once the application is stopped.
+ * <p>
+ * The pool of the methods consuming a channel can also be set, or overridden, with the {@value #POOL_ATTRIBUTE}
+ * attribute of the channel, for example {@code mp.messaging.incoming.reports.pool=io}. Invocations are sequential when
+ * the pool is only set in the configuration.
+ * <p>
+ * When the concurrency is {@code 1}, invocations happen in the order of the messages. Otherwise, messages can be
+ * processed, and acknowledged, out of order. Methods returning a {@link java.util.concurrent.CompletionStage} are
+ * called on the pool, and the invocation is in progress until the returned stage completes.
+ * <p>
+ * When MicroProfile Metrics is enabled, the container reports for each pool the number of invocations running and
+ * waiting for a thread, in the {@code mp.messaging.pool.active} and {@code mp.messaging.pool.queued} gauges, and the
+ * number of invocations that had to wait because all the threads were busy, in the {@code mp.messaging.pool.saturation}
+ * counter.
+ * <p>
+ * The following conditions must be reported as a {@link jakarta.enterprise.inject.spi.DeploymentException}: using this
+ * annotation on a method without {@link Incoming}, or on a method consuming a stream (such as methods returning a
+ * {@link org.reactivestreams.Subscriber} or a {@link org.reactivestreams.Processor}), a blank pool name, a concurrency
+ * or a size lower than {@code 1}, referencing a pool that is neither configured nor provided by the application,
+ * enabling virtual threads on a runtime that does not support them, and configuring the size or the virtual threads of
+ * a pool provided by the application.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ExecuteOn {
+
+    /**
+     * The prefix of the configuration of the pools, followed by the pool name and the attribute name.
+     */
+    String POOL_PREFIX = "mp.messaging.pool.";
+
+    /**
+     * The {@code size} pool attribute name. It configures the number of threads of the pool.
+     */
+    String SIZE_ATTRIBUTE = "size";
+
+    /**
+     * The {@code virtual-threads} pool attribute name. When {@code true}, invocations run on virtual threads.
+     */
+    String VIRTUAL_THREADS_ATTRIBUTE = "virtual-threads";
+
+    /**
+     * The {@code pool} channel attribute name. It configures the pool of the methods consuming the channel, overriding
+     * the {@link ExecuteOn} annotation.
+     */
+    String POOL_ATTRIBUTE = "pool";
+
+    /**
+     * @return the name of the pool, must not be blank
+     */
+    String value();
+
+    /**
+     * @return the maximum number of invocations of the method in progress at a time, must be strictly positive
+     */
+    int concurrency() default 1;
+}
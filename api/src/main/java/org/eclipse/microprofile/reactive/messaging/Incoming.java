@@ -19,6 +19,7 @@
 package org.eclipse.microprofile.reactive.messaging;
 
 import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
@@ -80,11 +81,20 @@ import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
  * If the method has an output value but no {@link Outgoing} annotation, then the actual unwrapped value is ignored,
  * though wrapped messages must still have their {@code ack} callback invoked by the container.
  * </p>
+ * <p>
+ * This annotation is repeatable: a method annotated with several {@code Incoming} annotations consumes all the listed
+ * channels. The container subscribes to each channel independently, as if the method was declared once per channel, so
+ * each channel has its own demand and the messages of a given channel are received in order. Methods returning a
+ * {@link SubscriberBuilder}, a {@link ProcessorBuilder} or their Reactive Streams counterparts are invoked once per
+ * channel. When the method is also annotated with {@link Outgoing}, the messages produced for all the channels are sent
+ * to the outgoing channel. The method may be invoked concurrently for different channels.
+ * </p>
  *
  * @see org.eclipse.microprofile.reactive.messaging
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
+@Repeatable(Incomings.class)
 public @interface Incoming {
 
     /**
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The container of repeated {@link Incoming} annotations, used by the compiler when a method consumes several channels.
+ * Applications annotate the method with several {@link Incoming} annotations instead of using this annotation directly:
+ *
+ * <pre>
+ * &#64;Incoming("orders-eu")
+ * &#64;Incoming("orders-us")
+ * public void process(Order order) {
+ *     // receives the orders of both channels
+ * }
+ * </pre>
+ *
+ * @see Incoming
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Incomings {
+
+    /**
+     * @return the {@link Incoming} annotations of the method
+     */
+    Incoming[] value();
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Merges several upstreams into the channel consumed by a method annotated with {@link Incoming}.
+ * <p>
+ * Without this annotation, a channel must have a single upstream. When the method consuming a channel is annotated with
+ * {@code @Merge}, the channel can be fed by several upstreams: methods annotated with {@link Outgoing}, injected
+ * {@link Emitter Emitters} and incoming connectors.
+ *
+ * <pre>
+ * &#64;Incoming("orders")
+ * &#64;Merge
+ * public void process(Order order) {
+ *     // receives the orders of all the upstreams of the orders channel
+ * }
+ * </pre>
+ * <p>
+ * The way the upstreams are combined depends on the {@link Mode}. In every mode, the messages of a given upstream are
+ * received in the order of this upstream, and the method is never called concurrently.
+ * <p>
+ * When a channel has several downstreams, see {@link Broadcast}, the methods annotated with {@code @Merge} consuming it
+ * must use the same {@link Mode}. Using this annotation on a method without {@link Incoming}, or with a mode that
+ * differs from the mode of another method consuming the same channel, must be reported as a
+ * {@link jakarta.enterprise.inject.spi.DeploymentException}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Merge {
+
+    /**
+     * The merge policy.
+     */
+    enum Mode {
+        /**
+         * Subscribes to all the upstreams at once and delivers their messages as they arrive. The demand of the method
+         * is distributed fairly across the upstreams, so a fast upstream cannot starve the others.
+         */
+        MERGE,
+
+        /**
+         * Subscribes to the upstreams one after the other: the messages of an upstream are delivered once all the
+         * messages of the previous upstream have been delivered and this upstream has completed. The order of the
+         * upstreams is not specified.
+         */
+        CONCAT,
+
+        /**
+         * Only subscribes to one of the upstreams, the other upstreams are ignored. Which upstream is selected is not
+         * specified.
+         */
+        ONE
+    }
+
+    /**
+     * @return the merge policy, {@link Mode#MERGE} by default
+     */
+    Mode value() default Mode.MERGE;
+}
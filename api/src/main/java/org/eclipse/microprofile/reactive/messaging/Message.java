@@ -18,6 +18,7 @@
  */
 package org.eclipse.microprofile.reactive.messaging;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -29,6 +30,11 @@ import java.util.function.Supplier;
  * Messaging providers may provide their own sub classes of this type, in order to allow messaging provider specific
  * information to be passed to and from applications.
  * </p>
+ * <p>
+ * Messages can also carry {@link Metadata}, such as the partition, offset, key or headers of a record. Unlike
+ * subclasses, metadata is retrieved without unwrapping the message, and is kept when deriving messages with
+ * {@link #withPayload(Object)}, {@link #withAck(Supplier)} or {@link #withNack(Function)}.
+ * </p>
  *
  * @param <T>
  *            The type of the message payload.
@@ -37,6 +43,9 @@ public interface Message<T> {
 
     /**
      * Create a message with the given payload.
+     * <p>
+     * Use {@code Message.of(payload).withMetadata(metadata)} to create a message carrying metadata with a no-op ack
+     * function.
      *
      * @param payload
      *            The payload.
@@ -108,8 +117,52 @@ public interface Message<T> {
     }
 
     /**
-     * Creates a new instance of {@link Message} with the specified payload. The ack/nack functions are taken from the
-     * current {@link Message}.
+     * Create a message with the given payload, metadata, ack and nack functions.
+     *
+     * @param payload
+     *            The payload.
+     * @param metadata
+     *            The metadata, must not be {@code null}. It is not copied.
+     * @param ack
+     *            The ack function, this will be invoked when the returned messages {@link #ack()} method is invoked.
+     * @param nack
+     *            The negative-ack function, this will be invoked when the returned messages {@link #nack(Throwable)}
+     *            method is invoked.
+     * @param <T>
+     *            the type of payload
+     * @return A message with the given payload, metadata, ack and nack functions.
+     */
+    static <T> Message<T> of(T payload, Metadata metadata,
+            Supplier<CompletionStage<Void>> ack, Function<Throwable, CompletionStage<Void>> nack) {
+        if (metadata == null) {
+            throw new IllegalArgumentException("The metadata must not be `null`");
+        }
+        return new Message<T>() {
+            @Override
+            public T getPayload() {
+                return payload;
+            }
+
+            @Override
+            public Metadata getMetadata() {
+                return metadata;
+            }
+
+            @Override
+            public Supplier<CompletionStage<Void>> getAck() {
+                return ack;
+            }
+
+            @Override
+            public Function<Throwable, CompletionStage<Void>> getNack() {
+                return nack;
+            }
+        };
+    }
+
+    /**
+     * Creates a new instance of {@link Message} with the specified payload. The metadata and ack/nack functions are
+     * taken from the current {@link Message}.
      *
      * @param payload
      *            the new payload.
@@ -118,31 +171,56 @@ public interface Message<T> {
      * @return the new instance of {@link Message}
      */
     default <P> Message<P> withPayload(P payload) {
-        return Message.of(payload, getAck(), getNack());
+        return Message.of(payload, getMetadata(), getAck(), getNack());
+    }
+
+    /**
+     * Creates a new instance of {@link Message} with the specified metadata. The payload and ack/nack functions are
+     * taken from the current {@link Message}. The metadata is shared, not copied.
+     *
+     * @param metadata
+     *            the metadata, must not be {@code null}
+     * @return the new instance of {@link Message}
+     */
+    default Message<T> withMetadata(Metadata metadata) {
+        return Message.of(getPayload(), metadata, getAck(), getNack());
     }
 
     /**
-     * Creates a new instance of {@link Message} with the given acknowledgement supplier. The payload, and nack function
-     * are taken from the current {@link Message}.
+     * Creates a new instance of {@link Message} with the metadata of the current {@link Message} and the given entry,
+     * which replaces the entry of the same class if any. The payload and ack/nack functions are taken from the current
+     * {@link Message}.
+     *
+     * @param metadata
+     *            the metadata entry, must not be {@code null}
+     * @return the new instance of {@link Message}
+     */
+    default Message<T> addMetadata(Object metadata) {
+        return withMetadata(getMetadata().with(metadata));
+    }
+
+    /**
+     * Creates a new instance of {@link Message} with the given acknowledgement supplier. The payload, metadata and nack
+     * function are taken from the current {@link Message}.
      *
      * @param ack
      *            the positive-acknowledgement function
      * @return the new instance of {@link Message}
      */
     default Message<T> withAck(Supplier<CompletionStage<Void>> ack) {
-        return Message.of(getPayload(), ack, getNack());
+        return Message.of(getPayload(), getMetadata(), ack, getNack());
     }
 
     /**
-     * Creates a new instance of {@link Message} with the given negative-acknowledgement function. The payload and
-     * acknowledgment are taken from the current {@link Message}.
+     * Creates a new instance of {@link Message} with the given negative-acknowledgement function. The payload, metadata
+     * and acknowledgment are taken from the current {@link Message}.
      *
      * @param nack
      *            the negative-acknowledgement function
      * @return the new instance of {@link Message}
      */
     default Message<T> withNack(Function<Throwable, CompletionStage<Void>> nack) {
-        return Message.of(getPayload(), getAck(), nack);
+        return Message.of(getPayload(), getMetadata(), getAck(), nack);
     }
 
     /**
@@ -150,6 +228,26 @@ public interface Message<T> {
      */
     T getPayload();
 
+    /**
+     * @return the metadata of this message, {@link Metadata#empty()} by default, never {@code null}
+     */
+    default Metadata getMetadata() {
+        return Metadata.empty();
+    }
+
+    /**
+     * Retrieves the metadata entry of the given class, as {@link Metadata#get(Class)}.
+     *
+     * @param type
+     *            the class of the entry, must not be {@code null}
+     * @param <M>
+     *            the type of the entry
+     * @return the entry, empty if this message has no matching entry
+     */
+    default <M> Optional<M> getMetadata(Class<M> type) {
+        return getMetadata().get(type);
+    }
+
     /**
      * Acknowledge this message.
      *
@@ -204,11 +302,12 @@ public interface Message<T> {
      * Returns an object of the specified type to allow access to the connector-specific {@link Message} implementation,
      * and other classes. For example, a Kafka connector could implement this method to allow unwrapping to a specific
      * Kafka message implementation, or to {@code ConsumerRecord} and {@code ProducerRecord}. If the {@link Message}
-     * implementation does not support the target class, an {@link IllegalArgumentException} should be raised.
+     * implementation does not support the target class, an {@link IllegalArgumentException} should be raised, and
+     * {@link #isUnwrappable(Class)} must return {@code false}.
      *
-     * The default implementation tries to <em>cast</em> the current {@link Message} instance to the target class. When
-     * a connector provides its own {@link Message} implementation, it should override this method to support specific
-     * types.
+     * The default implementation <em>casts</em> the current {@link Message} instance to the target class if it is an
+     * instance of it. When a connector provides its own {@link Message} implementation, it should override this method,
+     * and {@link #isUnwrappable(Class)}, to support specific types.
      *
      * @param unwrapType
      *            the class of the object to be returned, must not be {@code null}
@@ -222,12 +321,71 @@ public interface Message<T> {
         if (unwrapType == null) {
             throw new IllegalArgumentException("The target class must not be `null`");
         }
-        try {
-            return unwrapType.cast(this);
-        } catch (ClassCastException e) {
+        // Not isUnwrappable, which implementations may override to accept types this method cannot cast to
+        if (!unwrapType.isInstance(this)) {
             throw new IllegalArgumentException("Cannot unwrap an instance of " + this.getClass().getName()
-                    + " to " + unwrapType.getName(), e);
+                    + " to " + unwrapType.getName());
         }
+        return unwrapType.cast(this);
+    }
 
+    /**
+     * Checks whether {@link #unwrap(Class)} supports the given class, without raising an exception when it does not.
+     * Probing a message for a connector-specific type on every message must use this method, or
+     * {@link #tryUnwrap(Class)}, rather than catching the exception raised by {@link #unwrap(Class)}.
+     * <p>
+     * Implementations must not allocate. A {@link Message} implementation overriding {@link #unwrap(Class)} must
+     * override this method consistently: {@link #unwrap(Class)} succeeds if and only if this method returns
+     * {@code true}. Checking this method then calling {@link #unwrap(Class)} does not allocate when the message is an
+     * instance of the target class.
+     * <p>
+     * The default implementation checks whether the current {@link Message} instance is an instance of the target
+     * class.
+     *
+     * @param unwrapType
+     *            the class of the object to be returned, must not be {@code null}
+     * @return {@code true} if {@link #unwrap(Class)} returns an instance of the specified class, {@code false}
+     *         otherwise
+     * @throws IllegalArgumentException
+     *             if {@code unwrapType} is {@code null}
+     */
+    default boolean isUnwrappable(Class<?> unwrapType) {
+        if (unwrapType == null) {
+            throw new IllegalArgumentException("The target class must not be `null`");
+        }
+        return unwrapType.isInstance(this);
+    }
+
+    /**
+     * Returns an object of the specified type, as {@link #unwrap(Class)}, or an empty {@link Optional} if the
+     * {@link Message} implementation does not support the target class.
+     * <p>
+     * No exception is created when the target class is not supported, and the returned empty {@link Optional} is
+     * shared. On success, the only allocation is the returned {@link Optional}; use {@link #isUnwrappable(Class)} on
+     * paths where this allocation matters.
+     * <p>
+     * The support of the target class is checked with {@link #isUnwrappable(Class)}, not by catching the exception of
+     * {@link #unwrap(Class)}: for an implementation overriding {@link #unwrap(Class)} but not
+     * {@link #isUnwrappable(Class)}, this method returns an empty {@link Optional} for the types the implementation
+     * adds.
+     *
+     * @param unwrapType
+     *            the class of the object to be returned, must not be {@code null}
+     * @param <C>
+     *            the target type
+     * @return an {@link Optional} containing an instance of the specified class, empty if the current {@link Message}
+     *         instance does not support it
+     * @throws IllegalArgumentException
+     *             if {@code unwrapType} is {@code null}
+     */
+    default <C> Optional<C> tryUnwrap(Class<C> unwrapType) {
+        // Checked here too, as implementations overriding isUnwrappable may not reject null
+        if (unwrapType == null) {
+            throw new IllegalArgumentException("The target class must not be `null`");
+        }
+        if (!isUnwrappable(unwrapType)) {
+            return Optional.empty();
+        }
+        return Optional.of(unwrap(unwrapType));
     }
 }
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * The metadata attached to a {@link Message}, such as the partition, offset, key or headers of a record.
+ * <p>
+ * Metadata entries are arbitrary objects, retrieved by class: {@code message.getMetadata(KafkaMetadata.class)}. A
+ * {@code Metadata} instance contains at most one entry of a given class. It is immutable: {@link #with(Object)} and
+ * {@link #without(Class)} return new instances, so a {@code Metadata} can be shared by several messages, and
+ * {@link Message#withMetadata(Metadata)} does not copy it.
+ * <p>
+ * A message carries few metadata entries, so they are stored in a small array rather than in a map. Retrieving an entry
+ * compares the classes of the entries with the requested class, without hashing nor allocating, and
+ * {@link #getOrNull(Class)} returns the entry without wrapping it in an {@link Optional}.
+ */
+public final class Metadata implements Iterable<Object> {
+
+    private static final Metadata EMPTY = new Metadata(new Object[0]);
+
+    private final Object[] entries;
+
+    private Metadata(Object[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * @return the empty metadata, shared by all the messages without metadata
+     */
+    public static Metadata empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a metadata containing the given entries.
+     *
+     * @param entries
+     *            the entries, must not contain {@code null} nor two entries of the same class
+     * @return the metadata
+     * @throws IllegalArgumentException
+     *             if an entry is {@code null} or if two entries have the same class
+     */
+    public static Metadata of(Object... entries) {
+        if (entries == null || entries.length == 0) {
+            return EMPTY;
+        }
+        Object[] copy = entries.clone();
+        for (int i = 0; i < copy.length; i++) {
+            if (copy[i] == null) {
+                throw new IllegalArgumentException("The metadata entries must not contain `null`");
+            }
+            if (indexOf(copy, i, copy[i].getClass()) != -1) {
+                throw new IllegalArgumentException("Duplicate metadata entry of class " + copy[i].getClass().getName());
+            }
+        }
+        return new Metadata(copy);
+    }
+
+    /**
+     * Creates a metadata containing the given entries.
+     *
+     * @param entries
+     *            the entries, must not contain {@code null} nor two entries of the same class
+     * @return the metadata
+     * @throws IllegalArgumentException
+     *             if an entry is {@code null} or if two entries have the same class
+     */
+    public static Metadata from(Iterable<?> entries) {
+        if (entries instanceof Metadata) {
+            return (Metadata) entries;
+        }
+        Metadata metadata = EMPTY;
+        for (Object entry : entries) {
+            if (entry == null) {
+                throw new IllegalArgumentException("The metadata entries must not contain `null`");
+            }
+            if (metadata.indexOf(entry.getClass()) != -1) {
+                throw new IllegalArgumentException("Duplicate metadata entry of class " + entry.getClass().getName());
+            }
+            metadata = metadata.with(entry);
+        }
+        return metadata;
+    }
+
+    /**
+     * Returns a metadata containing the entries of this metadata and the given entry, which replaces the entry of the
+     * same class if any.
+     *
+     * @param entry
+     *            the entry, must not be {@code null}
+     * @return the new metadata, or this metadata if it already contains the given entry
+     */
+    public Metadata with(Object entry) {
+        if (entry == null) {
+            throw new IllegalArgumentException("The metadata entry must not be `null`");
+        }
+        int index = indexOf(entry.getClass());
+        if (index != -1) {
+            if (entries[index] == entry) {
+                return this;
+            }
+            Object[] copy = entries.clone();
+            copy[index] = entry;
+            return new Metadata(copy);
+        }
+        Object[] copy = Arrays.copyOf(entries, entries.length + 1);
+        copy[entries.length] = entry;
+        return new Metadata(copy);
+    }
+
+    /**
+     * Returns a metadata containing the entries of this metadata, except the entry of the given class.
+     *
+     * @param type
+     *            the class of the entry to remove, must not be {@code null}
+     * @return the new metadata, or this metadata if it does not contain an entry of the given class
+     */
+    public Metadata without(Class<?> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("The type must not be `null`");
+        }
+        int index = indexOf(type);
+        if (index == -1) {
+            return this;
+        }
+        if (entries.length == 1) {
+            return EMPTY;
+        }
+        Object[] copy = new Object[entries.length - 1];
+        System.arraycopy(entries, 0, copy, 0, index);
+        System.arraycopy(entries, index + 1, copy, index, entries.length - index - 1);
+        return new Metadata(copy);
+    }
+
+    /**
+     * Retrieves the entry of the given class. If there is no entry of this exact class, the first entry that is an
+     * instance of the given class is returned.
+     *
+     * @param type
+     *            the class of the entry, must not be {@code null}
+     * @param <T>
+     *            the type of the entry
+     * @return the entry, {@code null} if there is no matching entry
+     */
+    public <T> T getOrNull(Class<T> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("The type must not be `null`");
+        }
+        int index = indexOf(type);
+        if (index != -1) {
+            return type.cast(entries[index]);
+        }
+        for (Object entry : entries) {
+            if (type.isInstance(entry)) {
+                return type.cast(entry);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the entry of the given class, as {@link #getOrNull(Class)}.
+     *
+     * @param type
+     *            the class of the entry, must not be {@code null}
+     * @param <T>
+     *            the type of the entry
+     * @return the entry, empty if there is no matching entry
+     */
+    public <T> Optional<T> get(Class<T> type) {
+        return Optional.ofNullable(getOrNull(type));
+    }
+
+    /**
+     * @param type
+     *            the class of the entry, must not be {@code null}
+     * @return {@code true} if this metadata contains an entry of the given class, or an instance of it
+     */
+    public boolean contains(Class<?> type) {
+        return getOrNull(type) != null;
+    }
+
+    /**
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * @return {@code true} if this metadata has no entry
+     */
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    /**
+     * @return an iterator over the entries, in insertion order, not supporting removal
+     */
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < entries.length;
+            }
+
+            @Override
+            public Object next() {
+                if (index >= entries.length) {
+                    throw new NoSuchElementException();
+                }
+                return entries[index++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Metadata)) {
+            return false;
+        }
+        Metadata metadata = (Metadata) other;
+        if (metadata.entries.length != entries.length) {
+            return false;
+        }
+        for (Object entry : entries) {
+            int index = metadata.indexOf(entry.getClass());
+            if (index == -1 || !entry.equals(metadata.entries[index])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (Object entry : entries) {
+            // Independent of the order of the entries, as equals
+            hash += entry.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "Metadata" + Arrays.toString(entries);
+    }
+
+    private int indexOf(Class<?> type) {
+        return indexOf(entries, entries.length, type);
+    }
+
+    private static int indexOf(Object[] entries, int length, Class<?> type) {
+        for (int i = 0; i < length; i++) {
+            if (entries[i].getClass() == type) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -28,7 +28,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Configures the back pressure policy on an injected {@link Emitter}:
+ * Configures the back pressure policy on an injected {@link Emitter} or {@link RequestReplyEmitter}:
  *
  * <pre>
  * {
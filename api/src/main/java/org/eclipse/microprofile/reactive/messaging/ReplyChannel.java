@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the channel on which a {@link RequestReplyEmitter} receives the replies to its requests, and how many
+ * replies it waits for.
+ * <p>
+ * The reply channel is consumed by the emitter only: it must not be consumed by another method, emitter or connector.
+ *
+ * <pre>
+ * &#64;Inject
+ * &#64;Channel("prices-requests")
+ * &#64;ReplyChannel(value = "prices-replies", timeout = 5000)
+ * RequestReplyEmitter&lt;String, Price&gt; prices;
+ * </pre>
+ */
+@Target({METHOD, CONSTRUCTOR, FIELD, PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplyChannel {
+
+    /**
+     * The default timeout in milliseconds.
+     */
+    long DEFAULT_TIMEOUT = 30000;
+
+    /**
+     * The default maximum number of pending replies.
+     */
+    int DEFAULT_MAX_PENDING_REPLIES = 10000;
+
+    /**
+     * @return the name of the channel receiving the replies, must not be blank
+     */
+    String value();
+
+    /**
+     * @return the delay in milliseconds after which a request without reply fails with a
+     *         {@link java.util.concurrent.TimeoutException}, must be strictly positive
+     */
+    long timeout() default DEFAULT_TIMEOUT;
+
+    /**
+     * @return the maximum number of requests waiting for their reply, must be strictly positive
+     */
+    int maxPendingReplies() default DEFAULT_MAX_PENDING_REPLIES;
+}
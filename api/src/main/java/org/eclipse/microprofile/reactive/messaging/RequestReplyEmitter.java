@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Interface used to send requests to a channel from an <em>imperative</em> piece of code, and receive their replies
+ * from another channel.
+ * <p>
+ * Instances are injected using:
+ *
+ * <pre>
+ * &#64;Inject
+ * &#64;Channel("prices-requests")
+ * &#64;ReplyChannel("prices-replies")
+ * RequestReplyEmitter&lt;String, Price&gt; prices;
+ *
+ * // ...
+ * prices.request("ACME").thenAccept(price -&gt; display(price));
+ * </pre>
+ * <p>
+ * Each request is sent to the channel given in the {@link Channel Channel annotation} as a {@link CorrelatedMessage}
+ * carrying a unique correlation identifier. The emitter consumes the channel given in the {@link ReplyChannel
+ * ReplyChannel annotation}, which is mandatory, and completes the pending request whose correlation identifier matches
+ * the one of the reply. Replies must therefore be {@link CorrelatedMessage CorrelatedMessages}, or carry a
+ * {@link CorrelationId} metadata entry: other messages are <em>nacked</em>. Replies whose correlation identifier does
+ * not match a pending request, for example because the request timed out, are acknowledged and ignored.
+ * <p>
+ * The pending requests are kept in a bounded correlation table: once {@link ReplyChannel#maxPendingReplies()} requests
+ * are waiting for their reply, new requests are rejected. A request without reply after {@link ReplyChannel#timeout()}
+ * milliseconds is removed from the table and its completion stage fails with a
+ * {@link java.util.concurrent.TimeoutException}.
+ * <p>
+ * As for an {@link Emitter}, the {@link OnOverflow OnOverflow annotation} configures what to do if requests are sent
+ * when the downstream of the request channel hasn't requested more messages.
+ *
+ * @param <Req>
+ *            type of the request payload
+ * @param <Rep>
+ *            type of the reply payload
+ */
+public interface RequestReplyEmitter<Req, Rep> {
+
+    /**
+     * Sends a request payload to the channel and waits for its reply.
+     * <p>
+     * The reply message is acknowledged once the returned {@code CompletionStage} is completed with its payload.
+     *
+     * @param request
+     *            the request payload, must not be {@code null}
+     * @return the {@code CompletionStage} completed with the payload of the reply. It is completed exceptionally with a
+     *         {@link java.util.concurrent.TimeoutException} if no reply is received before the timeout, or with the
+     *         reason if the request message is <em>nacked</em>.
+     * @throws IllegalStateException
+     *             if the channel has been cancelled or terminated, or if the maximum number of pending replies is
+     *             reached
+     */
+    CompletionStage<Rep> request(Req request);
+
+    /**
+     * Sends a request message to the channel and waits for its reply.
+     * <p>
+     * The request is sent as a {@link CorrelatedMessage} keeping the payload, the metadata and the ack and nack
+     * functions of the given message. The reply message is not acknowledged by the emitter: the application must
+     * acknowledge it.
+     *
+     * @param request
+     *            the request message, must not be {@code null}
+     * @return the {@code CompletionStage} completed with the reply message. It is completed exceptionally with a
+     *         {@link java.util.concurrent.TimeoutException} if no reply is received before the timeout, or with the
+     *         reason if the request message is <em>nacked</em>.
+     * @throws IllegalStateException
+     *             if the channel has been cancelled or terminated, or if the maximum number of pending replies is
+     *             reached
+     */
+    CompletionStage<Message<Rep>> request(Message<? extends Req> request);
+
+    /**
+     * @return the number of requests waiting for their reply
+     */
+    int getPendingReplies();
+
+    /**
+     * Sends the completion event to the channel indicating that no other requests will be sent afterward. The pending
+     * requests still wait for their reply.
+     */
+    void complete();
+
+    /**
+     * @return {@code true} if the emitter has been terminated or the subscription cancelled.
+     */
+    boolean isCancelled();
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Configures the retry policy applied when the processing of an incoming message fails.
+ * <p>
+ * This annotation can only be used on methods annotated with {@link Incoming} and receiving a single payload or
+ * {@link Message}. The processing of a message fails when the method throws an exception, or returns a
+ * {@link java.util.concurrent.CompletionStage} completed exceptionally. Instead of <em>nacking</em> the incoming
+ * message immediately, the container invokes the method again with the same message after a delay. The delay grows
+ * exponentially between attempts:
+ *
+ * <pre>
+ * delay(n) = min(delay * factor ^ (n - 1), maxDelay) +/- random(jitter * delay(n))
+ * </pre>
+ * <p>
+ * The delay must not block the thread delivering the messages. While a message waits for its next attempt, the
+ * container keeps delivering the other messages of the channel to the method, so ordering is not preserved for retried
+ * messages. Once {@link #maxAttempts()} is reached, the message is <em>nacked</em> with the failure of the last
+ * attempt.
+ *
+ * <pre>
+ * &#64;Incoming("orders")
+ * &#64;Retry(maxAttempts = 5, delay = 100, maxDelay = 10_000)
+ * public CompletionStage&lt;Void&gt; store(Order order) {
+ *     // ...
+ * }
+ * </pre>
+ * <p>
+ * Using this annotation on a method without {@link Incoming}, or on a method consuming a stream (such as methods
+ * returning a {@link org.reactivestreams.Subscriber} or a {@link org.reactivestreams.Processor}), or with invalid
+ * attribute values, must be reported as a {@link jakarta.enterprise.inject.spi.DeploymentException}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Retry {
+
+    /**
+     * @return the maximum number of invocations of the method for a single message, including the first one. Must be
+     *         strictly positive. {@code 1} disables the retry.
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * @return the delay before the second attempt, expressed in {@link #delayUnit()}. Must be positive.
+     */
+    long delay() default 100;
+
+    /**
+     * @return the upper bound of the delay between two attempts, expressed in {@link #delayUnit()}. Must be greater or
+     *         equal to {@link #delay()}.
+     */
+    long maxDelay() default 30_000;
+
+    /**
+     * @return the unit of {@link #delay()} and {@link #maxDelay()}.
+     */
+    ChronoUnit delayUnit() default ChronoUnit.MILLIS;
+
+    /**
+     * @return the factor applied to the delay after each failed attempt. Must be greater or equal to {@code 1.0}.
+     *         {@code 1.0} configures a constant delay.
+     */
+    double factor() default 2.0;
+
+    /**
+     * @return the fraction of the computed delay used to randomize it, between {@code 0.0} (no jitter) and {@code 1.0}.
+     *         Randomizing the delay avoids failed messages being retried all at once.
+     */
+    double jitter() default 0.2;
+
+    /**
+     * @return the failures triggering a retry. Other failures <em>nack</em> the message immediately.
+     */
+    Class<? extends Throwable>[] retryOn() default {Exception.class};
+
+    /**
+     * @return the failures that must not be retried and <em>nack</em> the message immediately. Takes precedence over
+     *         {@link #retryOn()}.
+     */
+    Class<? extends Throwable>[] abortOn() default {};
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Groups the messages of the channel consumed by a method annotated with {@link Incoming} into windows, and calls the
+ * method once per window with the list of the payloads of the window.
+ * <p>
+ * A window is bounded by a number of messages ({@link #size()}), a duration ({@link #duration()}), or both, in which
+ * case it closes as soon as one of the bounds is reached. By default, windows are <em>tumbling</em>: each message
+ * belongs to exactly one window. When {@link #slide()} is set, windows are <em>sliding</em>: a new window starts every
+ * {@code slide} messages or milliseconds, so a message can belong to several windows.
+ *
+ * <pre>
+ * &#64;Incoming("measures")
+ * &#64;Outgoing("rollups")
+ * &#64;Window(size = 1000, duration = 10000)
+ * public Rollup rollup(List&lt;Measure&gt; measures) {
+ *     return Rollup.of(measures);
+ * }
+ * </pre>
+ * <p>
+ * The method must accept a single {@link java.util.List} of payloads, and return a payload, a {@link Message} or a
+ * {@link java.util.concurrent.CompletionStage} of them, or {@code void} when the method is not annotated with
+ * {@link Outgoing}. It is never called concurrently, and never called with an empty list. When the channel completes,
+ * the method is called with the messages of each pending window.
+ * <p>
+ * The container handles the acknowledgement of the messages of a window: they are acknowledged when the produced
+ * message is acknowledged, or when the method returns (or the returned {@code CompletionStage} completes) if the method
+ * is not annotated with {@link Outgoing}. If the method throws an exception, or the produced message is
+ * <em>nacked</em>, the messages of the window are <em>nacked</em> with the same reason. With sliding windows, a message
+ * is acknowledged once all the windows containing it are acknowledged, and <em>nacked</em> as soon as one of them is.
+ * <p>
+ * Using this annotation on a method without {@link Incoming}, with a method not accepting a {@link java.util.List},
+ * without {@link #size()} nor {@link #duration()}, or with a {@link #slide()} that is negative, greater than the window
+ * bound or set while both bounds are set, must be reported as a
+ * {@link jakarta.enterprise.inject.spi.DeploymentException}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Window {
+
+    /**
+     * @return the maximum number of messages in a window, {@code 0} (default) for no count bound
+     */
+    int size() default 0;
+
+    /**
+     * @return the maximum duration of a window in milliseconds, measured from the reception of its first message,
+     *         {@code 0} (default) for no time bound
+     */
+    long duration() default 0;
+
+    /**
+     * The interval between the start of two consecutive windows, in number of messages for windows bounded by
+     * {@link #size()}, in milliseconds for windows bounded by {@link #duration()}. It can only be set when a single
+     * bound is set.
+     *
+     * @return the interval between two windows, {@code 0} (default) for tumbling windows
+     */
+    long slide() default 0;
+}
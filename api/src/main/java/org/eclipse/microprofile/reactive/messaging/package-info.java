@@ -55,5 +55,5 @@
  * </pre>
  */
 
-@org.osgi.annotation.versioning.Version("2.0")
+@org.osgi.annotation.versioning.Version("2.1")
 package org.eclipse.microprofile.reactive.messaging;
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.spi;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+/**
+ * The converters provided by every Reactive Messaging implementation, between {@code String}, {@code byte[]} and
+ * {@code ByteBuffer} payloads. Strings are encoded in UTF-8.
+ * <p>
+ * The conversions avoid copying the content when possible: a {@code byte[]} is wrapped into a {@code ByteBuffer}, and a
+ * {@code ByteBuffer} spanning the whole of a writable array is converted to this array. A converted payload sharing the
+ * content of a lent buffer follows the ownership rules of
+ * {@link org.eclipse.microprofile.reactive.messaging.BufferMessage}.
+ */
+public final class BuiltInConverters {
+
+    /**
+     * The priority of the built-in converters, lower than the {@link MessageConverter#DEFAULT_PRIORITY default
+     * priority}, so application converters are selected first.
+     */
+    public static final int PRIORITY = 1;
+
+    private static final List<MessageConverter> CONVERTERS = Collections.unmodifiableList(Arrays.asList(
+            new Conversion<>(byte[].class, String.class, bytes -> new String(bytes, StandardCharsets.UTF_8)),
+            new Conversion<>(byte[].class, ByteBuffer.class, ByteBuffer::wrap),
+            new Conversion<>(ByteBuffer.class, byte[].class, BuiltInConverters::toBytes),
+            new Conversion<>(ByteBuffer.class, String.class,
+                    buffer -> StandardCharsets.UTF_8.decode(buffer.duplicate()).toString()),
+            new Conversion<>(String.class, byte[].class, string -> string.getBytes(StandardCharsets.UTF_8)),
+            new Conversion<>(String.class, ByteBuffer.class,
+                    string -> ByteBuffer.wrap(string.getBytes(StandardCharsets.UTF_8)))));
+
+    private BuiltInConverters() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * @return the built-in converters
+     */
+    public static List<MessageConverter> all() {
+        return CONVERTERS;
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+                && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static final class Conversion<S, T> implements MessageConverter {
+        private final Class<S> source;
+        private final Class<T> target;
+        private final Function<S, T> function;
+
+        private Conversion(Class<S> source, Class<T> target, Function<S, T> function) {
+            this.source = source;
+            this.target = target;
+            this.function = function;
+        }
+
+        @Override
+        public boolean canConvert(Class<?> payloadClass, Type type) {
+            return target.equals(type) && source.isAssignableFrom(payloadClass);
+        }
+
+        @Override
+        public Message<?> convert(Message<?> message, Type type) {
+            return message.withPayload(function.apply(source.cast(message.getPayload())));
+        }
+
+        @Override
+        public int getPriority() {
+            return PRIORITY;
+        }
+
+        @Override
+        public String toString() {
+            return "Converter from " + source.getSimpleName() + " to " + target.getSimpleName();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.spi;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes payloads to bytes and decodes them, on behalf of a connector.
+ * <p>
+ * Codecs are created by a {@link CodecFactory} once per channel, when the connector creates the channel, so they can
+ * prepare everything they need, such as a schema or the accessors of a class, instead of resolving it for every
+ * message. A codec instance is only used by its channel, but may be called from different threads, one message at a
+ * time.
+ * <p>
+ * Codecs read and write {@link ByteBuffer ByteBuffers} directly, so connectors can decode the buffers they receive from
+ * the transport and encode into pooled output buffers, without intermediate {@code byte[]}.
+ *
+ * @param <T>
+ *            the type of the payloads
+ */
+public interface Codec<T> {
+
+    /**
+     * Encodes a payload, writing it at the position of the output buffer and advancing this position.
+     * <p>
+     * If the output buffer is too small, the codec throws a {@link java.nio.BufferOverflowException}. The connector
+     * then calls this method again with a larger buffer, so the codec must not have side effects other than writing to
+     * the buffer.
+     *
+     * @param payload
+     *            the payload
+     * @param output
+     *            the buffer receiving the encoded payload
+     * @throws java.nio.BufferOverflowException
+     *             if the remaining space of the output buffer is too small
+     * @throws IllegalArgumentException
+     *             if the payload cannot be encoded, the connector then nacks the message
+     */
+    void encode(T payload, ByteBuffer output);
+
+    /**
+     * Decodes a payload from the remaining bytes of the input buffer.
+     * <p>
+     * The input buffer may be lent by the connector, so the decoded payload must not retain it, or any view of it.
+     *
+     * @param input
+     *            the buffer containing the encoded payload
+     * @return the payload
+     * @throws IllegalArgumentException
+     *             if the content cannot be decoded
+     */
+    T decode(ByteBuffer input);
+
+    /**
+     * Estimates the size of an encoded payload, so the connector can provide a large enough output buffer. The default
+     * implementation returns {@code -1}, meaning the size is unknown.
+     *
+     * @param payload
+     *            the payload
+     * @return the estimated number of bytes, {@code -1} if unknown
+     */
+    default int estimateSize(T payload) {
+        return -1;
+    }
+}
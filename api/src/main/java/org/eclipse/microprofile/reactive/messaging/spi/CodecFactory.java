@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.spi;
+
+import org.eclipse.microprofile.config.Config;
+
+/**
+ * SPI used to provide a {@link Codec} to connectors, so binary formats are implemented once and used by every
+ * connector.
+ * <p>
+ * Codec factories are CDI beans identified using the {@link CodecName} qualifier. A connector supporting codecs
+ * declares the {@value #VALUE_CODEC_ATTRIBUTE} attribute, containing the name of the codec of the payloads of a
+ * channel:
+ *
+ * <pre>
+ * mp.messaging.outgoing.orders.connector=acme.kafka
+ * mp.messaging.outgoing.orders.value.codec=avro
+ * mp.messaging.outgoing.orders.value.codec.schema=order.avsc
+ * </pre>
+ * <p>
+ * When creating the channel, the connector retrieves the bean implementing this interface qualified with
+ * {@code @CodecName("avro")}, and calls {@link #create(Config)} once. A channel naming a codec that does not exist
+ * fails the deployment.
+ */
+public interface CodecFactory {
+
+    /**
+     * The connector attribute containing the name of the codec used for the payloads of a channel.
+     */
+    String VALUE_CODEC_ATTRIBUTE = "value.codec";
+
+    /**
+     * Creates the codec of a channel.
+     *
+     * @param config
+     *            the configuration of the channel, as passed to the connector, codecs read their own attributes, such
+     *            as a schema, from it
+     * @return the codec, must not be {@code null}
+     * @throws IllegalArgumentException
+     *             if the configuration is invalid
+     */
+    Codec<?> create(Config config);
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.spi;
+
+import jakarta.enterprise.util.AnnotationLiteral;
+
+/**
+ * Supports inline instantiation of the {@link CodecName} qualifier, so connectors can select the {@link CodecFactory}
+ * named in the configuration of a channel.
+ */
+public final class CodecNameLiteral extends AnnotationLiteral<CodecName> implements CodecName {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String value;
+
+    /**
+     * Creates a new instance of {@link CodecNameLiteral}.
+     *
+     * @param value
+     *            the name of the codec, must not be {@code null}, must not be {@code blank}
+     * @return the {@link CodecNameLiteral} instance.
+     */
+    public static CodecName of(String value) {
+        return new CodecNameLiteral(value);
+    }
+
+    private CodecNameLiteral(String value) {
+        this.value = value;
+    }
+
+    /**
+     * @return the codec name.
+     */
+    public String value() {
+        return value;
+    }
+}
@@ -20,6 +20,21 @@ package org.eclipse.microprofile.reactive.messaging.spi;
 
 /**
  * Parent class for {@link IncomingConnectorFactory} and {@link OutgoingConnectorFactory}.
+ * <p>
+ * <strong>Thread safety.</strong> When the application starts, the reactive messaging implementation may create the
+ * channels in parallel: {@link IncomingConnectorFactory#getPublisherBuilder(org.eclipse.microprofile.config.Config)}
+ * and {@link OutgoingConnectorFactory#getSubscriberBuilder(org.eclipse.microprofile.config.Config)} can be called
+ * concurrently, for different channels, from threads other than the one starting the application. Connector
+ * implementations must therefore:
+ * <ul>
+ * <li>protect the state shared by their channels, such as a client or a connection pool shared by the channels using
+ * the same broker, for example with {@link java.util.concurrent.ConcurrentHashMap#computeIfAbsent};</li>
+ * <li>not rely on the order in which the channels are created;</li>
+ * <li>not rely on the CDI request context, which is not active.</li>
+ * </ul>
+ * The implementation never creates the same channel twice concurrently, and starts the streams of the channels once all
+ * of them are created. Creating a channel may block, for example to open a broker connection, but it delays the startup
+ * of the application when the channels are created sequentially.
  */
 public interface ConnectorFactory {
 
@@ -45,6 +60,26 @@ public interface ConnectorFactory {
      */
     String CONNECTOR_ATTRIBUTE = "connector";
 
+    /**
+     * The {@code enabled} attribute name.
+     *
+     * When this attribute is set to {@code false} for a channel, the channel is disabled: the reactive messaging
+     * implementation does not call the {@link IncomingConnectorFactory} or {@link OutgoingConnectorFactory} for it, and
+     * the part of the application only connected to the channel is not started. Channels are enabled by default.
+     */
+    String ENABLED_ATTRIBUTE = "enabled";
+
+    /**
+     * The {@code lazy} attribute name.
+     *
+     * When this attribute is set to {@code true} for a channel, the reactive messaging implementation does not call
+     * {@link IncomingConnectorFactory#getPublisherBuilder(org.eclipse.microprofile.config.Config)} or
+     * {@link OutgoingConnectorFactory#getSubscriberBuilder(org.eclipse.microprofile.config.Config)} when the
+     * application starts, but when the channel is first requested messages or first sent a message. Channels are
+     * created eagerly by default.
+     */
+    String LAZY_ATTRIBUTE = "lazy";
+
     /**
      * Prefix used in the MicroProfile Config to configure an {@code incoming} channel.
      */
@@ -108,6 +108,8 @@ public interface IncomingConnectorFactory extends ConnectorFactory {
      * <p>
      * Note that the connection to the <em>transport</em> or <em>broker</em> is generally postponed until the
      * subscription occurs.
+     * <p>
+     * This method can be called concurrently for different channels, see {@link ConnectorFactory}.
      *
      * @param config
      *            the configuration, must not be {@code null}, must contain the {@link #CHANNEL_NAME_ATTRIBUTE}
@@ -120,4 +122,36 @@ public interface IncomingConnectorFactory extends ConnectorFactory {
      */
     PublisherBuilder<? extends Message<?>> getPublisherBuilder(Config config);
 
+    /**
+     * Notifies the connector that a channel it created has been paused with
+     * {@link org.eclipse.microprofile.reactive.messaging.ChannelControl#pause(String)}.
+     * <p>
+     * The implementation has already stopped requesting messages from the channel, so connectors do not need to
+     * override this method. Connectors can override it to pause the consumption at the broker level, for example to
+     * stop fetching records while keeping the connection and the partition assignment. The subscription to the channel
+     * is not cancelled, and must not be completed by the connector.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param channel
+     *            the name of the channel
+     */
+    default void pause(String channel) {
+        // Demand is already stopped by the implementation
+    }
+
+    /**
+     * Notifies the connector that a channel it created has been resumed with
+     * {@link org.eclipse.microprofile.reactive.messaging.ChannelControl#resume(String)}, before the implementation
+     * requests messages again.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param channel
+     *            the name of the channel
+     */
+    default void resume(String channel) {
+        // Demand is resumed by the implementation
+    }
+
 }
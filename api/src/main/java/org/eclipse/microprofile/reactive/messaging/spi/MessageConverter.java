@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.spi;
+
+import java.lang.reflect.Type;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+/**
+ * SPI used to convert the payload of incoming messages to the type expected by a method annotated with
+ * {@link org.eclipse.microprofile.reactive.messaging.Incoming}, such as a {@code byte[]} received from a connector to
+ * an application object, without writing a processor.
+ * <p>
+ * Converters are CDI beans implementing this interface. The Reactive Messaging implementation also provides the
+ * converters returned by {@link BuiltInConverters#all()}. When the payload of a message is not an instance of the type
+ * expected by a method, the implementation selects the converter with the highest {@link #getPriority() priority} whose
+ * {@link #canConvert(Class, Type)} method returns {@code true}.
+ * <p>
+ * The selection is resolved once per channel, method and payload class, and cached: {@link #canConvert(Class, Type)} is
+ * not called for every message, so its result must only depend on its parameters. Only {@link #convert(Message, Type)}
+ * is called for every message.
+ *
+ * <pre>
+ * &#64;ApplicationScoped
+ * public class OrderConverter implements MessageConverter {
+ *
+ *     &#64;Override
+ *     public boolean canConvert(Class&lt;?&gt; payloadClass, Type target) {
+ *         return payloadClass == byte[].class &amp;&amp; target == Order.class;
+ *     }
+ *
+ *     &#64;Override
+ *     public Message&lt;?&gt; convert(Message&lt;?&gt; message, Type target) {
+ *         return message.withPayload(Order.parse((byte[]) message.getPayload()));
+ *     }
+ * }
+ * </pre>
+ */
+public interface MessageConverter {
+
+    /**
+     * The priority of converters that do not override {@link #getPriority()}.
+     */
+    int DEFAULT_PRIORITY = 100;
+
+    /**
+     * Checks whether this converter converts payloads of the given class to the given type.
+     *
+     * @param payloadClass
+     *            the class of the payload of the incoming messages
+     * @param target
+     *            the payload type expected by the method, the type argument of {@code Message} when the method consumes
+     *            messages
+     * @return {@code true} if {@link #convert(Message, Type)} supports these payloads
+     */
+    boolean canConvert(Class<?> payloadClass, Type target);
+
+    /**
+     * Converts the payload of a message. The implementation only calls this method with a message whose payload class
+     * and a target for which {@link #canConvert(Class, Type)} returned {@code true}.
+     * <p>
+     * The returned message must keep the metadata and the acknowledgement functions of the given message, which
+     * {@link Message#withPayload(Object)} does.
+     *
+     * @param message
+     *            the message to convert
+     * @param target
+     *            the payload type expected by the method
+     * @return a message whose payload is an instance of the target type
+     */
+    Message<?> convert(Message<?> message, Type target);
+
+    /**
+     * @return the priority of this converter, converters with a higher priority are selected first
+     */
+    default int getPriority() {
+        return DEFAULT_PRIORITY;
+    }
+}
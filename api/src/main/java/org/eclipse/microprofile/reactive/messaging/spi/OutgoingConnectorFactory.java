@@ -98,6 +98,8 @@ public interface OutgoingConnectorFactory extends ConnectorFactory {
      * <p>
      * Note that the connection to the <em>transport</em> or <em>broker</em> is generally postponed until the
      * subscription.
+     * <p>
+     * This method can be called concurrently for different channels, see {@link ConnectorFactory}.
      *
      * @param config
      *            the configuration, never {@code null}, must contain the {@link #CHANNEL_NAME_ATTRIBUTE} attribute.
@@ -39,5 +39,5 @@
  * {@link org.eclipse.microprofile.reactive.messaging.spi.Connector} qualifier. Connectors receive the channel
  * configuration matching their {@link org.eclipse.microprofile.reactive.messaging.spi.Connector} name.
  */
-@org.osgi.annotation.versioning.Version("2.0")
+@org.osgi.annotation.versioning.Version("2.1")
 package org.eclipse.microprofile.reactive.messaging.spi;
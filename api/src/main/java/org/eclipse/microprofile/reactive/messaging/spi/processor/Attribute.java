@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.spi.processor;
+
+import javax.lang.model.SourceVersion;
+
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttribute;
+
+/**
+ * A validated connector attribute and the names of its generated field and getter.
+ */
+final class Attribute {
+
+    private final ConnectorAttribute annotation;
+    private final AttributeType type;
+    private final String field;
+    private final String getter;
+
+    Attribute(ConnectorAttribute annotation, AttributeType type) {
+        this.annotation = annotation;
+        this.type = type;
+        String camelCase = camelCase(annotation.name());
+        this.field = SourceVersion.isName(camelCase) ? camelCase : camelCase + "Value";
+        this.getter = "get" + Character.toUpperCase(camelCase.charAt(0)) + camelCase.substring(1);
+    }
+
+    private static String camelCase(String name) {
+        StringBuilder builder = new StringBuilder();
+        boolean upper = false;
+        for (char c : name.toCharArray()) {
+            if (!Character.isJavaIdentifierPart(c) || c == '_' || c == '$') {
+                upper = builder.length() > 0;
+            } else if (upper) {
+                builder.append(Character.toUpperCase(c));
+                upper = false;
+            } else {
+                builder.append(c);
+            }
+        }
+        if (builder.length() == 0 || !Character.isJavaIdentifierStart(builder.charAt(0))) {
+            builder.insert(0, "attribute");
+        }
+        return builder.toString();
+    }
+
+    ConnectorAttribute annotation() {
+        return annotation;
+    }
+
+    String name() {
+        return annotation.name();
+    }
+
+    AttributeType type() {
+        return type;
+    }
+
+    String field() {
+        return field;
+    }
+
+    String getter() {
+        return getter;
+    }
+
+    boolean hasDefaultValue() {
+        return !annotation.defaultValue().equals(ConnectorAttribute.NO_VALUE);
+    }
+
+    boolean hasAlias() {
+        return !annotation.alias().equals(ConnectorAttribute.NO_VALUE);
+    }
+
+    /**
+     * @return whether the getter returns the value as is rather than an {@code Optional}
+     */
+    boolean isAlwaysPresent() {
+        return annotation.mandatory() || hasDefaultValue();
+    }
+}
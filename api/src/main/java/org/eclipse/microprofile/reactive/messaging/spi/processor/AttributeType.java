@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.spi.processor;
+
+import java.util.regex.Pattern;
+
+import javax.lang.model.util.Elements;
+
+/**
+ * The Java type of a connector attribute, resolved from
+ * {@link org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttribute#type()}.
+ */
+final class AttributeType {
+
+    /**
+     * The decimal values that are also valid Java literals once suffixed: no type suffix, {@code NaN}, infinity,
+     * hexadecimal notation or surrounding whitespace.
+     */
+    private static final Pattern DECIMAL = Pattern.compile("[+-]?(\\d+(\\.\\d*)?|\\.\\d+)([eE][+-]?\\d+)?");
+
+    private final String type;
+    private final String boxed;
+    private final boolean builtIn;
+
+    private AttributeType(String type, String boxed, boolean builtIn) {
+        this.type = type;
+        this.boxed = boxed;
+        this.builtIn = builtIn;
+    }
+
+    /**
+     * @param type
+     *            the type declared by the attribute
+     * @param elements
+     *            the element utilities, used to resolve class names
+     * @return the resolved type, {@code null} if the type is neither a supported type nor a known class
+     */
+    static AttributeType of(String type, Elements elements) {
+        switch (type) {
+            case "string" :
+            case "java.lang.String" :
+                return new AttributeType("java.lang.String", "java.lang.String", true);
+            case "boolean" :
+                return new AttributeType("boolean", "java.lang.Boolean", true);
+            case "int" :
+                return new AttributeType("int", "java.lang.Integer", true);
+            case "long" :
+                return new AttributeType("long", "java.lang.Long", true);
+            case "short" :
+                return new AttributeType("short", "java.lang.Short", true);
+            case "byte" :
+                return new AttributeType("byte", "java.lang.Byte", true);
+            case "float" :
+                return new AttributeType("float", "java.lang.Float", true);
+            case "double" :
+                return new AttributeType("double", "java.lang.Double", true);
+            default :
+                if (elements.getTypeElement(type) == null) {
+                    return null;
+                }
+                return new AttributeType(type, type, false);
+        }
+    }
+
+    /**
+     * @return the type of a value that is always present, a primitive type for numbers and booleans
+     */
+    String type() {
+        return type;
+    }
+
+    /**
+     * @return the type used to look up the value and as type argument of {@code Optional}
+     */
+    String boxed() {
+        return boxed;
+    }
+
+    /**
+     * @return whether default values can be checked and written as Java literals
+     */
+    boolean isBuiltIn() {
+        return builtIn;
+    }
+
+    /**
+     * @param value
+     *            a default value
+     * @return {@code null} if the value can be converted to this type, the reason otherwise
+     */
+    String validate(String value) {
+        try {
+            switch (type) {
+                case "boolean" :
+                    if (!value.equals("true") && !value.equals("false")) {
+                        return "'" + value + "' is not a boolean";
+                    }
+                    return null;
+                case "int" :
+                    Integer.parseInt(value);
+                    return null;
+                case "long" :
+                    Long.parseLong(value);
+                    return null;
+                case "short" :
+                    Short.parseShort(value);
+                    return null;
+                case "byte" :
+                    Byte.parseByte(value);
+                    return null;
+                case "float" :
+                    return validateDecimal(value, Float.parseFloat(value));
+                case "double" :
+                    return validateDecimal(value, Double.parseDouble(value));
+                default :
+                    // Strings are always valid, other classes are converted at runtime
+                    return null;
+            }
+        } catch (NumberFormatException e) {
+            return "'" + value + "' is not a valid " + type;
+        }
+    }
+
+    private String validateDecimal(String value, double parsed) {
+        if (!DECIMAL.matcher(value).matches()) {
+            return "'" + value + "' is not a valid " + type + ", only decimal values without suffix are supported";
+        }
+        // A literal that is not zero must not round to zero or overflow
+        boolean zero = !value.split("[eE]")[0].matches(".*[1-9].*");
+        if (Double.isInfinite(parsed) || (parsed == 0 && !zero)) {
+            return "'" + value + "' is out of the range of " + type;
+        }
+        return null;
+    }
+
+    /**
+     * @param value
+     *            a valid default value of a built-in type
+     * @return the Java literal of the value
+     */
+    String literal(String value) {
+        switch (type) {
+            case "java.lang.String" :
+                return ConfigurationWriter.quote(value);
+            case "long" :
+                return value + "L";
+            case "short" :
+                return "(short) " + value;
+            case "byte" :
+                return "(byte) " + value;
+            case "float" :
+                return value + "F";
+            case "double" :
+                return value + "D";
+            default :
+                return value;
+        }
+    }
+}
@@ -0,0 +1,521 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.spi.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.eclipse.microprofile.reactive.messaging.Broadcast;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.DeadLetter;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Incomings;
+import org.eclipse.microprofile.reactive.messaging.Merge;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.messaging.ReplyChannel;
+import org.eclipse.microprofile.reactive.messaging.RequestReplyEmitter;
+
+/**
+ * An annotation processor building the channel graph of an application at build time.
+ * <p>
+ * The processor collects the methods annotated with {@link Incoming}, possibly repeated, and {@link Outgoing}, and the
+ * injection points annotated with {@link Channel}: an injected {@link Emitter} is an upstream of its channel, an
+ * injected {@link RequestReplyEmitter} is also a downstream of its {@link ReplyChannel}, any other injected type (such
+ * as a {@code Publisher}) is a downstream. Channels mapped to a connector, or used as dead-letter channels, in the
+ * {@code META-INF/microprofile-config.properties} file of the compilation output are also taken into account, as well
+ * as the channels disabled with the {@code enabled} attribute. The processor then reports the following compilation
+ * errors:
+ * <ul>
+ * <li>an {@link Incoming} or {@link Outgoing} annotation with a blank channel name;</li>
+ * <li>a {@link RequestReplyEmitter} without {@link ReplyChannel};</li>
+ * <li>a channel with several upstreams unless its downstreams are annotated with {@link Merge}, or with several
+ * downstreams unless its upstream is annotated with {@link Broadcast};</li>
+ * <li>a channel consumed by several methods annotated with {@link Merge} with different modes;</li>
+ * <li>a channel without upstream or without downstream. As connectors can also be configured with other configuration
+ * sources, these errors are reported as warnings when the {@value #MISSING_OPTION} option is set to
+ * {@code warning}.</li>
+ * </ul>
+ * <p>
+ * The channels are not verified when they are inactive: disabled channels, and channels whose upstreams or downstreams
+ * are all inactive. A method is inactive when all its incoming channels, or its outgoing channel, are inactive, and an
+ * injection point is inactive when its channel is. For example, disabling the outgoing channel of a processor
+ * deactivates the processor and, unless another method consumes it, its incoming channel.
+ * <p>
+ * When the graph is valid, the processor writes the {@value #DESCRIPTOR} descriptor. For each channel, it contains the
+ * {@code upstream} and {@code downstream} of the channel, each one written {@code <kind>:<name>}, where the kind is the
+ * {@link org.eclipse.microprofile.reactive.messaging.ChannelEndpoint.Kind} of the endpoint in lower case, with dashes
+ * instead of underscores, and the name is the
+ * {@link org.eclipse.microprofile.reactive.messaging.ChannelEndpoint#getName() name} of the endpoint in the
+ * {@link org.eclipse.microprofile.reactive.messaging.ChannelRegistry}: {@code method:<class>#<method>(<parameter
+ * types>)}, {@code emitter:<class>#<member>}, {@code injected-channel:<class>#<member>}, {@code connector:<connector>}
+ * or {@code dead-letter:<failing channel>}. The upstreams of merged channels and the downstreams of broadcast channels
+ * are listed with indexed keys. Inactive channels are marked with {@code enabled=false}:
+ *
+ * <pre>
+ * channels=audit,orders,prices
+ * channel.orders.upstream=connector:broker
+ * channel.orders.downstream=method:com.acme.Billing#bill(com.acme.Order)
+ * channel.prices.upstream=method:com.acme.Prices#prices()
+ * channel.prices.broadcast=true
+ * channel.prices.downstream.0=method:com.acme.Store#store(com.acme.Price)
+ * channel.prices.downstream.1=method:com.acme.Display#display(com.acme.Price)
+ * channel.audit.upstream=method:com.acme.Billing#audit(com.acme.Order)
+ * channel.audit.enabled=false
+ * </pre>
+ * <p>
+ * Runtimes can load the descriptor instead of discovering and validating the graph at startup. The graph only covers
+ * the classes of the compilation, so the processor must process all the classes declaring channels of the application,
+ * and is not registered as a service: it is enabled explicitly, for example with the {@code annotationProcessors}
+ * parameter of the Maven compiler plugin.
+ */
+public class ChannelGraphProcessor extends AbstractProcessor {
+
+    /**
+     * The location of the generated descriptor in the compilation output.
+     */
+    public static final String DESCRIPTOR = "META-INF/microprofile-reactive-messaging-graph.properties";
+
+    /**
+     * The processor option configuring the severity of missing upstreams and downstreams, either {@code error} (the
+     * default) or {@code warning}.
+     */
+    public static final String MISSING_OPTION = "mp.messaging.graph.missing";
+
+    static final String CONNECTOR = "connector:";
+    static final String DEAD_LETTER = "dead-letter:";
+
+    private static final String CONFIG_FILE = "META-INF/microprofile-config.properties";
+    private static final String INCOMING_PREFIX = "mp.messaging.incoming.";
+    private static final String OUTGOING_PREFIX = "mp.messaging.outgoing.";
+    private static final String CONNECTOR_SUFFIX = ".connector";
+    private static final String ENABLED_SUFFIX = ".enabled";
+
+    private final Map<String, Endpoints> channels = new TreeMap<>();
+    private final Set<String> disabled = new HashSet<>();
+    private final Set<String> inactive = new HashSet<>();
+    private boolean failed;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(Incoming.class.getName(), Incomings.class.getName(),
+                Outgoing.class.getName(), Channel.class.getName()));
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return new HashSet<>(Arrays.asList(MISSING_OPTION));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!channels.isEmpty()) {
+                readConfiguration();
+                deactivate();
+                validate();
+                if (!failed) {
+                    writeDescriptor();
+                }
+            }
+            return false;
+        }
+        // Methods with several @Incoming annotations are only annotated with the @Incomings container
+        Set<Element> consumers = new LinkedHashSet<>(roundEnv.getElementsAnnotatedWith(Incoming.class));
+        consumers.addAll(roundEnv.getElementsAnnotatedWith(Incomings.class));
+        for (Element element : consumers) {
+            for (Incoming incoming : element.getAnnotationsByType(Incoming.class)) {
+                String channel = incoming.value();
+                if (checkName(element, "@Incoming", channel)) {
+                    endpoints(channel).downstream(endpoint(element), element.getAnnotation(Merge.class));
+                }
+            }
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(Outgoing.class)) {
+            String channel = element.getAnnotation(Outgoing.class).value();
+            if (checkName(element, "@Outgoing", channel)) {
+                endpoints(channel).upstream(endpoint(element), element.getAnnotation(Broadcast.class) != null);
+            }
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(Channel.class)) {
+            if (element.getKind() != ElementKind.FIELD && element.getKind() != ElementKind.PARAMETER) {
+                continue;
+            }
+            String channel = element.getAnnotation(Channel.class).value();
+            if (!checkName(element, "@Channel", channel)) {
+                continue;
+            }
+            if (isEmitter(element.asType())) {
+                endpoints(channel).upstream(endpoint(element), element.getAnnotation(Broadcast.class) != null);
+                ReplyChannel reply = element.getAnnotation(ReplyChannel.class);
+                if (isRequestReplyEmitter(element.asType())) {
+                    if (reply == null) {
+                        error(element, "A RequestReplyEmitter must be annotated with @ReplyChannel");
+                    } else if (checkName(element, "@ReplyChannel", reply.value())) {
+                        endpoints(reply.value()).downstream(endpoint(element), null);
+                    }
+                }
+            } else {
+                endpoints(channel).downstream(endpoint(element), null);
+            }
+        }
+        return false;
+    }
+
+    private boolean checkName(Element element, String annotation, String channel) {
+        if (channel == null || channel.trim().isEmpty()) {
+            error(element, "The channel name of " + annotation + " must not be blank");
+            return false;
+        }
+        return true;
+    }
+
+    private Endpoints endpoints(String channel) {
+        return channels.computeIfAbsent(channel, name -> new Endpoints());
+    }
+
+    private boolean isEmitter(TypeMirror type) {
+        return isAssignable(type, Emitter.class) || isRequestReplyEmitter(type);
+    }
+
+    private boolean isRequestReplyEmitter(TypeMirror type) {
+        return isAssignable(type, RequestReplyEmitter.class);
+    }
+
+    private boolean isAssignable(TypeMirror type, Class<?> target) {
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(target.getName());
+        return element != null && processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type),
+                processingEnv.getTypeUtils().erasure(element.asType()));
+    }
+
+    private void readConfiguration() {
+        Properties config = new Properties();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", CONFIG_FILE);
+            try (InputStream stream = file.openInputStream()) {
+                config.load(stream);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // No configuration file, channels are only connected to the application
+            return;
+        }
+        for (String key : config.stringPropertyNames()) {
+            if (key.startsWith(INCOMING_PREFIX) && key.endsWith(CONNECTOR_SUFFIX)) {
+                String channel = key.substring(INCOMING_PREFIX.length(), key.length() - CONNECTOR_SUFFIX.length());
+                endpoints(channel).upstreams.add(new Endpoint(CONNECTOR + config.getProperty(key).trim(), null, null));
+            } else if (key.startsWith(OUTGOING_PREFIX) && key.endsWith(CONNECTOR_SUFFIX)) {
+                String channel = key.substring(OUTGOING_PREFIX.length(), key.length() - CONNECTOR_SUFFIX.length());
+                endpoints(channel).downstream(new Endpoint(CONNECTOR + config.getProperty(key).trim(), null, null),
+                        null);
+            } else if ((key.startsWith(INCOMING_PREFIX) || key.startsWith(OUTGOING_PREFIX))
+                    && key.endsWith(ENABLED_SUFFIX)) {
+                if ("false".equalsIgnoreCase(config.getProperty(key).trim())) {
+                    String prefix = key.startsWith(INCOMING_PREFIX) ? INCOMING_PREFIX : OUTGOING_PREFIX;
+                    disabled.add(key.substring(prefix.length(), key.length() - ENABLED_SUFFIX.length()));
+                }
+            } else if (key.startsWith(INCOMING_PREFIX)
+                    && key.endsWith("." + DeadLetter.DEAD_LETTER_CHANNEL_ATTRIBUTE)) {
+                String prefix = key.substring(0, key.length() - DeadLetter.DEAD_LETTER_CHANNEL_ATTRIBUTE.length());
+                if (DeadLetter.FAILURE_STRATEGY.equals(
+                        config.getProperty(prefix + DeadLetter.FAILURE_STRATEGY_ATTRIBUTE))) {
+                    String failing = prefix.substring(INCOMING_PREFIX.length(), prefix.length() - 1);
+                    endpoints(config.getProperty(key)).upstreams.add(new Endpoint(DEAD_LETTER + failing, null, null));
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the inactive channels, starting from the disabled channels, until no other channel becomes inactive.
+     */
+    private void deactivate() {
+        // Connectors and dead-letter endpoints are local to their channel, so they are not indexed
+        Map<String, Set<String>> consumed = new HashMap<>();
+        Map<String, Set<String>> produced = new HashMap<>();
+        for (Map.Entry<String, Endpoints> entry : channels.entrySet()) {
+            for (Endpoint endpoint : entry.getValue().upstreams) {
+                if (endpoint.owner != null) {
+                    produced.computeIfAbsent(endpoint.name, name -> new HashSet<>()).add(entry.getKey());
+                }
+            }
+            for (Endpoint endpoint : entry.getValue().downstreams) {
+                if (endpoint.owner != null) {
+                    consumed.computeIfAbsent(endpoint.name, name -> new HashSet<>()).add(entry.getKey());
+                }
+            }
+        }
+        Predicate<Endpoint> isInactive = endpoint -> {
+            Set<String> incoming = consumed.get(endpoint.name);
+            Set<String> outgoing = produced.get(endpoint.name);
+            return (incoming != null && inactive.containsAll(incoming))
+                    || (outgoing != null && inactive.containsAll(outgoing));
+        };
+        inactive.addAll(disabled);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<String, Endpoints> entry : channels.entrySet()) {
+                Endpoints endpoints = entry.getValue();
+                if (!inactive.contains(entry.getKey())
+                        && (!endpoints.upstreams.isEmpty() && endpoints.upstreams.stream().allMatch(isInactive)
+                                || !endpoints.downstreams.isEmpty()
+                                        && endpoints.downstreams.stream().allMatch(isInactive))) {
+                    inactive.add(entry.getKey());
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    private void validate() {
+        Diagnostic.Kind missing = "warning".equalsIgnoreCase(processingEnv.getOptions().get(MISSING_OPTION))
+                ? Diagnostic.Kind.WARNING
+                : Diagnostic.Kind.ERROR;
+        for (Map.Entry<String, Endpoints> entry : channels.entrySet()) {
+            String channel = entry.getKey();
+            Endpoints endpoints = entry.getValue();
+            if (inactive.contains(channel)) {
+                continue;
+            }
+            if (endpoints.upstreams.size() > 1 && !endpoints.isMerged()) {
+                report(Diagnostic.Kind.ERROR, endpoints.upstreams, "The channel " + channel
+                        + " has several upstreams: " + names(endpoints.upstreams));
+            }
+            if (endpoints.conflicting) {
+                report(Diagnostic.Kind.ERROR, endpoints.downstreams, "The channel " + channel
+                        + " is merged with different modes by " + names(endpoints.downstreams));
+            }
+            if (endpoints.downstreams.size() > 1 && !endpoints.broadcast) {
+                report(Diagnostic.Kind.ERROR, endpoints.downstreams, "The channel " + channel
+                        + " has several downstreams: " + names(endpoints.downstreams));
+            }
+            if (endpoints.upstreams.isEmpty()) {
+                report(missing, endpoints.downstreams, "The channel " + channel
+                        + " has no upstream, it is neither produced by the application nor mapped to a connector");
+            }
+            if (endpoints.downstreams.isEmpty()) {
+                report(missing, endpoints.upstreams, "The channel " + channel
+                        + " has no downstream, it is neither consumed by the application nor mapped to a connector");
+            }
+        }
+    }
+
+    private void writeDescriptor() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", DESCRIPTOR);
+            try (Writer writer = file.openWriter()) {
+                writer.write("# Generated by " + getClass().getName() + ", do not edit\n");
+                writer.write(entry("channels", String.join(",", channels.keySet())));
+                for (Map.Entry<String, Endpoints> channel : channels.entrySet()) {
+                    Endpoints endpoints = channel.getValue();
+                    String prefix = "channel." + channel.getKey() + ".";
+                    if (endpoints.isMerged()) {
+                        writer.write(entry(prefix + "merge", endpoints.merge.name()));
+                        writeEndpoints(writer, prefix + "upstream.", endpoints.upstreams);
+                    } else if (!endpoints.upstreams.isEmpty()) {
+                        writer.write(entry(prefix + "upstream", endpoints.upstreams.get(0).name));
+                    }
+                    if (endpoints.broadcast) {
+                        writer.write(entry(prefix + "broadcast", "true"));
+                        writeEndpoints(writer, prefix + "downstream.", endpoints.downstreams);
+                    } else if (!endpoints.downstreams.isEmpty()) {
+                        writer.write(entry(prefix + "downstream", endpoints.downstreams.get(0).name));
+                    }
+                    if (inactive.contains(channel.getKey())) {
+                        writer.write(entry(prefix + "enabled", "false"));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write " + DESCRIPTOR + ": " + e.getMessage());
+        }
+    }
+
+    private static void writeEndpoints(Writer writer, String prefix, List<Endpoint> endpoints) throws IOException {
+        for (int i = 0; i < endpoints.size(); i++) {
+            writer.write(entry(prefix + i, endpoints.get(i).name));
+        }
+    }
+
+    private static String entry(String key, String value) {
+        // Escapes the key and the value as Properties.store does, without its timestamp
+        StringBuilder builder = new StringBuilder();
+        escape(builder, key, true);
+        builder.append('=');
+        escape(builder, value, false);
+        return builder.append('\n').toString();
+    }
+
+    private static void escape(StringBuilder builder, String value, boolean key) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '=' || c == ':' || c == '#' || c == '!' || (c == ' ' && (key || i == 0))) {
+                builder.append('\\').append(c);
+            } else if (c < ' ' || c > '~') {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+    }
+
+    private Endpoint endpoint(Element element) {
+        // Elements are not valid across rounds, so the location is resolved again when reporting
+        Element member = element.getKind() == ElementKind.PARAMETER ? element.getEnclosingElement() : element;
+        return new Endpoint(describe(element), owner(member), member.getSimpleName().toString());
+    }
+
+    private Element locate(Endpoint endpoint) {
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(endpoint.owner.replace('$', '.'));
+        if (type == null) {
+            return null;
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getSimpleName().contentEquals(endpoint.member)) {
+                return enclosed;
+            }
+        }
+        return type;
+    }
+
+    private String describe(Element element) {
+        if (element.getKind() == ElementKind.METHOD) {
+            ExecutableElement method = (ExecutableElement) element;
+            return "method:" + owner(element) + "#" + method.getSimpleName() + "(" + method.getParameters().stream()
+                    .map(p -> processingEnv.getTypeUtils().erasure(p.asType()).toString())
+                    .collect(Collectors.joining(",")) + ")";
+        }
+        String kind = isEmitter(element.asType()) ? "emitter:" : "injected-channel:";
+        if (element.getKind() == ElementKind.PARAMETER) {
+            Element executable = element.getEnclosingElement();
+            String member = executable.getKind() == ElementKind.CONSTRUCTOR
+                    ? "<init>"
+                    : executable.getSimpleName()
+                            .toString();
+            return kind + owner(executable) + "#" + member + "." + ((VariableElement) element).getSimpleName();
+        }
+        return kind + owner(element) + "#" + element.getSimpleName();
+    }
+
+    private String owner(Element member) {
+        return processingEnv.getElementUtils().getBinaryName((TypeElement) member.getEnclosingElement()).toString();
+    }
+
+    private static String names(List<Endpoint> endpoints) {
+        return endpoints.stream().map(e -> e.name).collect(Collectors.joining(", "));
+    }
+
+    private void report(Diagnostic.Kind kind, List<Endpoint> endpoints, String message) {
+        if (kind == Diagnostic.Kind.ERROR) {
+            failed = true;
+        }
+        boolean reported = false;
+        for (Endpoint endpoint : endpoints) {
+            Element element = endpoint.owner == null ? null : locate(endpoint);
+            if (element != null) {
+                processingEnv.getMessager().printMessage(kind, message, element);
+                reported = true;
+            }
+        }
+        if (!reported) {
+            processingEnv.getMessager().printMessage(kind, message);
+        }
+    }
+
+    private void error(Element element, String message) {
+        failed = true;
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static final class Endpoints {
+        private final List<Endpoint> upstreams = new ArrayList<>();
+        private final List<Endpoint> downstreams = new ArrayList<>();
+        private boolean broadcast;
+        private Merge.Mode merge;
+        private boolean conflicting;
+        private int unmerged;
+
+        private void upstream(Endpoint endpoint, boolean broadcasting) {
+            upstreams.add(endpoint);
+            broadcast |= broadcasting;
+        }
+
+        private void downstream(Endpoint endpoint, Merge merging) {
+            downstreams.add(endpoint);
+            if (merging == null) {
+                unmerged++;
+            } else if (merge == null) {
+                merge = merging.value();
+            } else if (merge != merging.value()) {
+                conflicting = true;
+            }
+        }
+
+        /**
+         * @return whether all the downstreams accept several upstreams
+         */
+        private boolean isMerged() {
+            return merge != null && unmerged == 0;
+        }
+    }
+
+    private static final class Endpoint {
+        private final String name;
+        private final String owner;
+        private final String member;
+
+        private Endpoint(String name, String owner, String member) {
+            this.name = name;
+            this.owner = owner;
+            this.member = member;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.spi.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes the source of the configuration class generated for one direction of a connector.
+ * <p>
+ * The generated class only depends on the JDK and on the MicroProfile Config API, and uses fully qualified names so
+ * that it never clashes with the types of the connector package.
+ */
+final class ConfigurationWriter {
+
+    private static final String CONFIG = "org.eclipse.microprofile.config.Config";
+    private static final String OPTIONAL = "java.util.Optional";
+    private static final String STRING = "java.lang.String";
+
+    private final Writer writer;
+    private final String packageName;
+    private final String className;
+    private final String connectorClass;
+    private final String connectorName;
+    private final String direction;
+    private final List<Attribute> attributes;
+
+    ConfigurationWriter(Writer writer, String packageName, String className, String connectorClass,
+            String connectorName, String direction, List<Attribute> attributes) {
+        this.writer = writer;
+        this.packageName = packageName;
+        this.className = className;
+        this.connectorClass = connectorClass;
+        this.connectorName = connectorName;
+        this.direction = direction;
+        this.attributes = attributes;
+    }
+
+    void write() throws IOException {
+        if (!packageName.isEmpty()) {
+            line("package " + packageName + ";");
+            line("");
+        }
+        line("/**");
+        line(" * The configuration of the " + direction + " channels of the {@code " + javadoc(connectorName)
+                + "} connector.");
+        line(" * <p>");
+        line(" * Generated from the {@code @ConnectorAttribute} annotations of {@link " + connectorClass
+                + "}, do not edit.");
+        line(" */");
+        line("public final class " + className + " {");
+        line("");
+        line("    private final " + STRING + " channel;");
+        for (Attribute attribute : attributes) {
+            line("    private final " + fieldType(attribute) + " " + attribute.field() + ";");
+        }
+        line("");
+        writeConstructor();
+        writeFactory();
+        line("    /**");
+        line("     * @return the name of the channel");
+        line("     */");
+        line("    public " + STRING + " getChannel() {");
+        line("        return channel;");
+        line("    }");
+        line("");
+        for (Attribute attribute : attributes) {
+            writeGetter(attribute);
+        }
+        writeHelpers();
+        line("}");
+    }
+
+    private void writeConstructor() throws IOException {
+        line("    private " + className + "(" + CONFIG + " config) {");
+        line("        this.channel = config.getValue(\"channel-name\", " + STRING + ".class);");
+        for (Attribute attribute : attributes) {
+            String name = quote(attribute.name());
+            String alias = attribute.hasAlias() ? quote(attribute.annotation().alias()) : "null";
+            String lookup = "value(config, " + name + ", " + alias + ", " + attribute.type().boxed() + ".class)";
+            String value;
+            if (attribute.hasDefaultValue()) {
+                String defaultValue = attribute.annotation().defaultValue();
+                if (attribute.type().isBuiltIn()) {
+                    value = lookup + ".orElse(" + attribute.type().literal(defaultValue) + ")";
+                } else {
+                    value = lookup + ".orElseGet(() -> convert(config, " + name + ", " + quote(defaultValue) + ", "
+                            + attribute.type().boxed() + ".class))";
+                }
+            } else if (attribute.annotation().mandatory()) {
+                value = lookup + ".orElseThrow(() -> missing(" + name + "))";
+            } else {
+                value = lookup;
+            }
+            line("        this." + attribute.field() + " = " + value + ";");
+        }
+        line("    }");
+        line("");
+    }
+
+    private void writeFactory() throws IOException {
+        line("    /**");
+        line("     * Reads the configuration of a channel, looking up and converting each attribute once.");
+        line("     *");
+        line("     * @param config");
+        line("     *            the configuration of the channel received by the connector");
+        line("     * @return the configuration");
+        line("     * @throws IllegalArgumentException");
+        line("     *             if a mandatory attribute is missing or if a value cannot be converted");
+        line("     */");
+        line("    public static " + className + " of(" + CONFIG + " config) {");
+        line("        return new " + className + "(config);");
+        line("    }");
+        line("");
+    }
+
+    private void writeGetter(Attribute attribute) throws IOException {
+        line("    /**");
+        line("     * " + javadoc(attribute.annotation().description()));
+        line("     *");
+        String returned = "the value of the {@code " + javadoc(attribute.name()) + "} attribute";
+        if (attribute.hasDefaultValue()) {
+            returned += ", {@code " + javadoc(attribute.annotation().defaultValue()) + "} by default";
+        }
+        line("     * @return " + returned);
+        if (attribute.annotation().deprecated()) {
+            line("     * @deprecated the {@code " + javadoc(attribute.name()) + "} attribute is deprecated");
+        }
+        line("     */");
+        if (attribute.annotation().deprecated()) {
+            line("    @Deprecated");
+        }
+        line("    public " + fieldType(attribute) + " " + attribute.getter() + "() {");
+        line("        return " + attribute.field() + ";");
+        line("    }");
+        line("");
+    }
+
+    private void writeHelpers() throws IOException {
+        line("    private static <T> " + OPTIONAL + "<T> value(" + CONFIG + " config, " + STRING + " name, " + STRING
+                + " alias, Class<T> type) {");
+        line("        " + OPTIONAL + "<T> value = config.getOptionalValue(name, type);");
+        line("        if (!value.isPresent() && alias != null) {");
+        line("            value = org.eclipse.microprofile.config.ConfigProvider.getConfig().getOptionalValue(alias, type);");
+        line("        }");
+        line("        return value;");
+        line("    }");
+        line("");
+        line("    private static <T> T convert(" + CONFIG + " config, " + STRING + " name, " + STRING
+                + " value, Class<T> type) {");
+        line("        return config.getConverter(type)");
+        line("                .map(converter -> converter.convert(value))");
+        line("                .orElseThrow(() -> new IllegalArgumentException(\"No converter to \" + type.getName()");
+        line("                        + \" for the default value of the attribute \" + name));");
+        line("    }");
+        line("");
+        line("    private IllegalArgumentException missing(" + STRING + " name) {");
+        line("        return new IllegalArgumentException(\"The attribute \" + name + \" of the " + direction
+                + " channel \" + channel");
+        line("                + \" is mandatory\");");
+        line("    }");
+    }
+
+    private static String fieldType(Attribute attribute) {
+        if (attribute.isAlwaysPresent()) {
+            return attribute.type().type();
+        }
+        return OPTIONAL + "<" + attribute.type().boxed() + ">";
+    }
+
+    private void line(String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+    }
+
+    /**
+     * @param value
+     *            a string
+     * @return the Java string literal of the value
+     */
+    static String quote(String value) {
+        StringBuilder builder = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' :
+                    builder.append("\\\"");
+                    break;
+                case '\\' :
+                    builder.append("\\\\");
+                    break;
+                case '\n' :
+                    builder.append("\\n");
+                    break;
+                case '\r' :
+                    builder.append("\\r");
+                    break;
+                case '\t' :
+                    builder.append("\\t");
+                    break;
+                default :
+                    if (c < ' ') {
+                        // Octal escape, unicode escapes are translated before the literal is parsed
+                        builder.append(String.format("\\%03o", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private static String javadoc(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("@", "&#64;")
+                .replace("*/", "*&#47;").replace("\n", " ").replace("\r", " ");
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.spi.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttribute;
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttribute.Direction;
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttributes;
+import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
+import org.eclipse.microprofile.reactive.messaging.spi.OutgoingConnectorFactory;
+
+/**
+ * An annotation processor validating the {@link ConnectorAttribute} annotations of connectors and generating typed
+ * configuration classes.
+ * <p>
+ * For a connector class {@code MyConnector} implementing {@link IncomingConnectorFactory}, the processor generates
+ * {@code MyConnectorIncomingConfiguration} in the same package, exposing a getter for each attribute used by incoming
+ * channels ({@link Direction#INCOMING} and {@link Direction#INCOMING_AND_OUTGOING}). Likewise, it generates
+ * {@code MyConnectorOutgoingConfiguration} for connectors implementing {@link OutgoingConnectorFactory}. The
+ * configuration of a channel is read and converted once, when the configuration class is instantiated from the
+ * {@link org.eclipse.microprofile.config.Config} received by the connector:
+ *
+ * <pre>
+ * public PublisherBuilder&lt;? extends Message&lt;?&gt;&gt; getPublisherBuilder(Config config) {
+ *     MyConnectorIncomingConfiguration configuration = MyConnectorIncomingConfiguration.of(config);
+ *     int bufferSize = configuration.getBufferSize();
+ *     // ...
+ * }
+ * </pre>
+ * <p>
+ * Getters return the value of the attribute, or its default value. Mandatory attributes and attributes having a default
+ * value are returned as is, other attributes are returned as an {@link java.util.Optional}. When the attribute is not
+ * configured for the channel and has an {@link ConnectorAttribute#alias() alias}, the alias is looked up in the
+ * application configuration. Deprecated attributes produce deprecated getters. Instantiating the configuration throws
+ * an {@link IllegalArgumentException} if a mandatory attribute is missing or if a value cannot be converted.
+ * <p>
+ * The {@link ConnectorAttribute#type() type} of an attribute is either {@code string}, {@code boolean}, {@code int},
+ * {@code long}, {@code short}, {@code byte}, {@code float}, {@code double}, or a fully qualified class name for which a
+ * MicroProfile Config converter exists. The default values of {@code float} and {@code double} attributes are finite
+ * decimal numbers without type suffix, such as {@code 1.5} or {@code -2.5E3}. The processor reports compilation errors
+ * for unknown types, default values that cannot be converted, blank or duplicate names, and annotated classes that are
+ * not connectors.
+ * <p>
+ * The processor is not registered as a service, so it must be enabled explicitly, for example with the
+ * {@code annotationProcessors} parameter of the Maven compiler plugin or the {@code -processor} option of
+ * {@code javac}.
+ */
+public class ConnectorAttributeProcessor extends AbstractProcessor {
+
+    static final String INCOMING_SUFFIX = "IncomingConfiguration";
+    static final String OUTGOING_SUFFIX = "OutgoingConfiguration";
+
+    private static final List<String> RESERVED_GETTERS = Arrays.asList("getChannel", "getClass");
+
+    private final Set<String> processed = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(ConnectorAttribute.class.getName(), ConnectorAttributes.class.getName()));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<Element> annotated = new LinkedHashSet<>();
+        annotated.addAll(roundEnv.getElementsAnnotatedWith(ConnectorAttribute.class));
+        annotated.addAll(roundEnv.getElementsAnnotatedWith(ConnectorAttributes.class));
+        for (Element element : annotated) {
+            if (element.getKind() == ElementKind.CLASS
+                    && processed.add(((TypeElement) element).getQualifiedName().toString())) {
+                process((TypeElement) element);
+            }
+        }
+        return false;
+    }
+
+    private void process(TypeElement connector) {
+        Connector qualifier = connector.getAnnotation(Connector.class);
+        if (qualifier == null) {
+            error(connector, "@ConnectorAttribute can only be used on classes annotated with @Connector");
+            return;
+        }
+        boolean incoming = implementsInterface(connector, IncomingConnectorFactory.class);
+        boolean outgoing = implementsInterface(connector, OutgoingConnectorFactory.class);
+        if (!incoming && !outgoing) {
+            error(connector, "The connector " + connector.getSimpleName() + " must implement "
+                    + IncomingConnectorFactory.class.getSimpleName() + " or "
+                    + OutgoingConnectorFactory.class.getSimpleName());
+            return;
+        }
+
+        List<Attribute> attributes = new ArrayList<>();
+        Map<String, String> names = new LinkedHashMap<>();
+        boolean valid = true;
+        for (ConnectorAttribute annotation : connector.getAnnotationsByType(ConnectorAttribute.class)) {
+            Attribute attribute = validate(connector, annotation);
+            if (attribute == null) {
+                valid = false;
+                continue;
+            }
+            String existing = names.put(attribute.getter(), attribute.name());
+            if (existing != null) {
+                error(connector, "The attributes " + existing + " and " + attribute.name()
+                        + " are declared more than once or have the same getter " + attribute.getter());
+                valid = false;
+                continue;
+            }
+            attributes.add(attribute);
+        }
+        if (!valid) {
+            return;
+        }
+
+        if (incoming) {
+            generate(connector, qualifier.value(), INCOMING_SUFFIX, "incoming", select(attributes, Direction.INCOMING));
+        }
+        if (outgoing) {
+            generate(connector, qualifier.value(), OUTGOING_SUFFIX, "outgoing", select(attributes, Direction.OUTGOING));
+        }
+    }
+
+    private Attribute validate(TypeElement connector, ConnectorAttribute annotation) {
+        String name = annotation.name();
+        if (name.trim().isEmpty()) {
+            error(connector, "The name of a connector attribute must not be blank");
+            return null;
+        }
+        String alias = annotation.alias();
+        if (alias.trim().isEmpty() || alias.equals(name)) {
+            error(connector, "The alias of the attribute " + name + " must not be blank nor equal to its name");
+            return null;
+        }
+        AttributeType type = AttributeType.of(annotation.type(), processingEnv.getElementUtils());
+        if (type == null) {
+            error(connector, "The type " + annotation.type() + " of the attribute " + name
+                    + " is neither a supported type nor a known class");
+            return null;
+        }
+        String defaultValue = annotation.defaultValue();
+        if (!defaultValue.equals(ConnectorAttribute.NO_VALUE)) {
+            String failure = type.validate(defaultValue);
+            if (failure != null) {
+                error(connector, "The default value of the attribute " + name + " is invalid: " + failure);
+                return null;
+            }
+            if (annotation.mandatory()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "The attribute " + name
+                        + " is mandatory but has a default value, the default value is used when it is missing",
+                        connector);
+            }
+        }
+        Attribute attribute = new Attribute(annotation, type);
+        if (RESERVED_GETTERS.contains(attribute.getter())) {
+            error(connector, "The name of the attribute " + name + " clashes with " + attribute.getter() + "()");
+            return null;
+        }
+        return attribute;
+    }
+
+    private static List<Attribute> select(List<Attribute> attributes, Direction direction) {
+        List<Attribute> selected = new ArrayList<>();
+        for (Attribute attribute : attributes) {
+            Direction value = attribute.annotation().direction();
+            if (value == direction || value == Direction.INCOMING_AND_OUTGOING) {
+                selected.add(attribute);
+            }
+        }
+        return selected;
+    }
+
+    private void generate(TypeElement connector, String connectorName, String suffix, String direction,
+            List<Attribute> attributes) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(connector);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String className = connector.getSimpleName() + suffix;
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, connector);
+            try (Writer writer = file.openWriter()) {
+                new ConfigurationWriter(writer, packageName, className, connector.getQualifiedName().toString(),
+                        connectorName, direction, attributes).write();
+            }
+        } catch (IOException e) {
+            error(connector, "Unable to generate " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private boolean implementsInterface(TypeElement connector, Class<?> type) {
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(type.getName());
+        if (element == null) {
+            return false;
+        }
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(element.asType());
+        return processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(connector.asType()),
+                erasure);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
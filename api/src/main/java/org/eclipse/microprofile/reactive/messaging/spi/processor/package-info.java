@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Annotation processing support for connector implementors.
+ * <p>
+ * The {@link org.eclipse.microprofile.reactive.messaging.spi.processor.ConnectorAttributeProcessor} validates the
+ * {@link org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttribute} annotations of a connector at build time
+ * and generates a typed, immutable configuration class per direction supported by the connector.
+ */
+@org.osgi.annotation.versioning.Version("1.0")
+package org.eclipse.microprofile.reactive.messaging.spi.processor;
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.spi.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import javax.tools.Diagnostic;
+
+import org.junit.Test;
+
+/*
+ * The invalid graphs mirror the fixtures of the org.eclipse.microprofile.reactive.messaging.tck.invalid package, which
+ * are rejected at deployment time by the TCK.
+ */
+public class ChannelGraphProcessorTest {
+
+    @Test
+    public void testBlankChannelName() throws IOException {
+        Compilation compilation = compile(bean("BeanWithEmptyIncoming",
+                "@Incoming(\"\") public void consume(String s) { }"));
+
+        assertErrors(compilation, "The channel name of @Incoming must not be blank");
+    }
+
+    @Test
+    public void testRequestReplyEmitterWithoutReplyChannel() throws IOException {
+        Compilation compilation = compile(bean("RequestReplyWithoutReplyChannel",
+                "@Inject @Channel(\"requests\") RequestReplyEmitter<String, String> emitter;",
+                "@Incoming(\"requests\") public void consume(String s) { }"));
+
+        assertErrors(compilation, "A RequestReplyEmitter must be annotated with @ReplyChannel");
+    }
+
+    @Test
+    public void testChannelWithSeveralUpstreams() throws IOException {
+        Compilation compilation = compile(bean("ChannelMultipleUpstreams",
+                "@Inject @Channel(\"many\") Publisher<String> many;",
+                "@Outgoing(\"many\") public String generate() { return \"Hello\"; }",
+                "@Inject @Channel(\"many\") Emitter<String> emitter;"));
+
+        assertErrors(compilation, "The channel many has several upstreams: "
+                + "method:test.ChannelMultipleUpstreams#generate(), emitter:test.ChannelMultipleUpstreams#emitter");
+        assertThat(compilation.generated(ChannelGraphProcessor.DESCRIPTOR)).isNull();
+    }
+
+    @Test
+    public void testChannelWithSeveralDownstreams() throws IOException {
+        Compilation compilation = compile(bean("EmitterMultipleDownstreams",
+                "@Inject @Channel(\"many\") Emitter<String> many;",
+                "@Incoming(\"many\") public void consume1(String s) { }",
+                "@Incoming(\"many\") public void consume2(String s) { }"));
+
+        assertErrors(compilation, "The channel many has several downstreams: "
+                + "method:test.EmitterMultipleDownstreams#consume1(java.lang.String), "
+                + "method:test.EmitterMultipleDownstreams#consume2(java.lang.String)");
+    }
+
+    @Test
+    public void testChannelWithoutUpstream() throws IOException {
+        Compilation compilation = compile(bean("BeanWithIncompleteChain",
+                "@Incoming(\"missing\") @Outgoing(\"data\") public String process(String s) { return s; }",
+                "@Incoming(\"data\") public void sink(String s) { }"));
+
+        assertErrors(compilation, "The channel missing has no upstream, it is neither produced by the application nor "
+                + "mapped to a connector");
+    }
+
+    @Test
+    public void testChannelWithoutDownstream() throws IOException {
+        Compilation compilation = compile(bean("EmitterMissingDownstream",
+                "@Inject @Channel(\"missing\") Emitter<String> emitter;"));
+
+        assertErrors(compilation, "The channel missing has no downstream, it is neither consumed by the application "
+                + "nor mapped to a connector");
+    }
+
+    @Test
+    public void testThatMissingEndpointsCanBeReportedAsWarnings() throws IOException {
+        Compilation compilation = Compilation.compile(new ChannelGraphProcessor(), new Properties(),
+                Collections.singletonList("-A" + ChannelGraphProcessor.MISSING_OPTION + "=warning"),
+                Collections.singletonMap("test.BeanWithIncompleteChain", bean("BeanWithIncompleteChain",
+                        "@Incoming(\"missing\") @Outgoing(\"data\") public String process(String s) { return s; }",
+                        "@Incoming(\"data\") public void sink(String s) { }")));
+
+        assertThat(compilation.success()).isTrue();
+        assertThat(compilation.messages(Diagnostic.Kind.ERROR)).isEmpty();
+        assertThat(compilation.messages(Diagnostic.Kind.WARNING))
+                .anySatisfy(message -> assertThat(message).startsWith("The channel missing has no upstream"));
+        assertThat(compilation.generated(ChannelGraphProcessor.DESCRIPTOR)).isNotNull();
+    }
+
+    @Test
+    public void testConnectorsAndDeadLetterChannels() throws IOException {
+        Properties config = new Properties();
+        config.setProperty("mp.messaging.incoming.orders.connector", "broker");
+        config.setProperty("mp.messaging.incoming.orders.failure-strategy", "dead-letter");
+        config.setProperty("mp.messaging.incoming.orders.dead-letter-channel", "orders-dlq");
+        config.setProperty("mp.messaging.outgoing.invoices.connector", "broker");
+        Compilation compilation = compile(config, bean("Billing",
+                "@Incoming(\"orders\") @Outgoing(\"invoices\") public String bill(String order) { return order; }",
+                "@Incoming(\"orders-dlq\") public void failed(String order) { }"));
+
+        assertThat(compilation.messages(Diagnostic.Kind.ERROR)).isEmpty();
+        Properties descriptor = descriptor(compilation);
+        assertThat(descriptor.getProperty("channels")).isEqualTo("invoices,orders,orders-dlq");
+        assertThat(descriptor.getProperty("channel.orders.upstream")).isEqualTo("connector:broker");
+        assertThat(descriptor.getProperty("channel.orders.downstream"))
+                .isEqualTo("method:test.Billing#bill(java.lang.String)");
+        assertThat(descriptor.getProperty("channel.invoices.downstream")).isEqualTo("connector:broker");
+        assertThat(descriptor.getProperty("channel.orders-dlq.upstream")).isEqualTo("dead-letter:orders");
+    }
+
+    @Test
+    public void testValidMergeGraph() throws IOException {
+        Compilation compilation = compile(bean("Merging",
+                "@Outgoing(\"merged\") public String first() { return \"a\"; }",
+                "@Inject @Channel(\"merged\") Emitter<String> second;",
+                "@Incoming(\"merged\") @Merge(Merge.Mode.CONCAT) public void consume(String s) { }"));
+
+        assertThat(compilation.messages(Diagnostic.Kind.ERROR)).isEmpty();
+        Properties descriptor = descriptor(compilation);
+        assertThat(descriptor.getProperty("channel.merged.merge")).isEqualTo("CONCAT");
+        assertThat(descriptor.getProperty("channel.merged.upstream.0")).isEqualTo("method:test.Merging#first()");
+        assertThat(descriptor.getProperty("channel.merged.upstream.1")).isEqualTo("emitter:test.Merging#second");
+        assertThat(descriptor.getProperty("channel.merged.downstream"))
+                .isEqualTo("method:test.Merging#consume(java.lang.String)");
+    }
+
+    @Test
+    public void testThatEveryDownstreamOfAMergedChannelMustMerge() throws IOException {
+        Compilation compilation = compile(bean("PartiallyMerging",
+                "@Outgoing(\"merged\") @Broadcast public String first() { return \"a\"; }",
+                "@Outgoing(\"merged\") @Broadcast public String second() { return \"b\"; }",
+                "@Incoming(\"merged\") @Merge public void consume1(String s) { }",
+                "@Incoming(\"merged\") public void consume2(String s) { }"));
+
+        assertErrors(compilation, "The channel merged has several upstreams: method:test.PartiallyMerging#first(), "
+                + "method:test.PartiallyMerging#second()");
+    }
+
+    @Test
+    public void testConflictingMergeModes() throws IOException {
+        Compilation compilation = compile(bean("ConflictingMerges",
+                "@Outgoing(\"merged\") @Broadcast public String first() { return \"a\"; }",
+                "@Outgoing(\"merged\") @Broadcast public String second() { return \"b\"; }",
+                "@Incoming(\"merged\") @Merge public void consume1(String s) { }",
+                "@Incoming(\"merged\") @Merge(Merge.Mode.CONCAT) public void consume2(String s) { }"));
+
+        assertErrors(compilation, "The channel merged is merged with different modes by "
+                + "method:test.ConflictingMerges#consume1(java.lang.String), "
+                + "method:test.ConflictingMerges#consume2(java.lang.String)");
+    }
+
+    @Test
+    public void testValidBroadcastGraph() throws IOException {
+        Compilation compilation = compile(bean("Broadcasting",
+                "@Outgoing(\"prices\") @Broadcast public String prices() { return \"1\"; }",
+                "@Incoming(\"prices\") public void store(String price) { }",
+                "@Inject @Channel(\"prices\") Publisher<String> display;"));
+
+        assertThat(compilation.messages(Diagnostic.Kind.ERROR)).isEmpty();
+        Properties descriptor = descriptor(compilation);
+        assertThat(descriptor.getProperty("channel.prices.upstream")).isEqualTo("method:test.Broadcasting#prices()");
+        assertThat(descriptor.getProperty("channel.prices.broadcast")).isEqualTo("true");
+        assertThat(descriptor.getProperty("channel.prices.downstream.0"))
+                .isEqualTo("method:test.Broadcasting#store(java.lang.String)");
+        assertThat(descriptor.getProperty("channel.prices.downstream.1"))
+                .isEqualTo("injected-channel:test.Broadcasting#display");
+    }
+
+    @Test
+    public void testValidGraphWithADisabledChannel() throws IOException {
+        Properties config = new Properties();
+        config.setProperty("mp.messaging.incoming.orders.connector", "broker");
+        config.setProperty("mp.messaging.outgoing.audit.enabled", "false");
+        Compilation compilation = compile(config, bean("Auditing",
+                "@Incoming(\"orders\") @Outgoing(\"audit\") public String audit(String order) { return order; }"));
+
+        assertThat(compilation.messages(Diagnostic.Kind.ERROR)).isEmpty();
+        Properties descriptor = descriptor(compilation);
+        assertThat(descriptor.getProperty("channel.audit.enabled")).isEqualTo("false");
+        // The processor only reads the disabled channel, so its incoming channel is deactivated
+        assertThat(descriptor.getProperty("channel.orders.enabled")).isEqualTo("false");
+    }
+
+    @Test
+    public void testThatInactiveChannelsAreNotVerified() throws IOException {
+        Properties config = new Properties();
+        config.setProperty("mp.messaging.outgoing.audit.enabled", "false");
+        Compilation compilation = compile(config, bean("DisabledFanIn",
+                "@Outgoing(\"audit\") public String first() { return \"a\"; }",
+                "@Outgoing(\"audit\") public String second() { return \"b\"; }",
+                "@Incoming(\"audit\") public void store(String s) { }",
+                "@Incoming(\"audit\") public void print(String s) { }"));
+
+        // Neither the several upstreams nor the several downstreams of the disabled channel are reported
+        assertThat(compilation.messages(Diagnostic.Kind.ERROR)).isEmpty();
+        assertThat(descriptor(compilation).getProperty("channel.audit.enabled")).isEqualTo("false");
+    }
+
+    @Test
+    public void testThatChannelsDeactivatedByADisabledChannelAreNotVerified() throws IOException {
+        Properties config = new Properties();
+        config.setProperty("mp.messaging.outgoing.audit.enabled", "false");
+        Compilation compilation = compile(config, bean("DeactivatedFanIn",
+                "@Outgoing(\"orders\") public String first() { return \"a\"; }",
+                "@Outgoing(\"orders\") public String second() { return \"b\"; }",
+                "@Incoming(\"orders\") @Outgoing(\"audit\") public String audit(String order) { return order; }"));
+
+        // The processor only feeds the disabled channel, so the orders channel is inactive too
+        assertThat(compilation.messages(Diagnostic.Kind.ERROR)).isEmpty();
+        assertThat(descriptor(compilation).getProperty("channel.orders.enabled")).isEqualTo("false");
+    }
+
+    @Test
+    public void testThatActiveChannelsNextToADisabledOneAreVerified() throws IOException {
+        Properties config = new Properties();
+        config.setProperty("mp.messaging.outgoing.audit.enabled", "false");
+        Compilation compilation = compile(config, bean("ActiveFanIn",
+                "@Outgoing(\"orders\") public String first() { return \"a\"; }",
+                "@Outgoing(\"orders\") public String second() { return \"b\"; }",
+                "@Incoming(\"orders\") @Outgoing(\"audit\") public String audit(String order) { return order; }",
+                "@Incoming(\"orders\") public void store(String order) { }"));
+
+        assertErrors(compilation,
+                "The channel orders has several upstreams: method:test.ActiveFanIn#first(), "
+                        + "method:test.ActiveFanIn#second()",
+                "The channel orders has several downstreams: "
+                        + "method:test.ActiveFanIn#audit(java.lang.String), "
+                        + "method:test.ActiveFanIn#store(java.lang.String)");
+    }
+
+    private static void assertErrors(Compilation compilation, String... errors) {
+        assertThat(compilation.success()).isFalse();
+        List<String> messages = compilation.messages(Diagnostic.Kind.ERROR);
+        assertThat(messages).containsOnly(errors);
+    }
+
+    private static Properties descriptor(Compilation compilation) throws IOException {
+        assertThat(compilation.success()).isTrue();
+        String content = compilation.generated(ChannelGraphProcessor.DESCRIPTOR);
+        assertThat(content).isNotNull();
+        Properties descriptor = new Properties();
+        descriptor.load(new StringReader(content));
+        return descriptor;
+    }
+
+    private static String bean(String className, String... members) {
+        StringBuilder source = new StringBuilder()
+                .append("package test;\n")
+                .append("import org.eclipse.microprofile.reactive.messaging.*;\n")
+                .append("import org.reactivestreams.Publisher;\n")
+                .append("import jakarta.enterprise.context.ApplicationScoped;\n")
+                .append("import jakarta.inject.Inject;\n")
+                .append("@ApplicationScoped\n")
+                .append("public class ").append(className).append(" {\n");
+        for (String member : members) {
+            source.append("    ").append(member).append('\n');
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static Compilation compile(String source) throws IOException {
+        return compile(new Properties(), source);
+    }
+
+    private static Compilation compile(Properties config, String source) throws IOException {
+        String className = source.substring(source.indexOf("public class ") + "public class ".length(),
+                source.indexOf(" {"));
+        return Compilation.compile(new ChannelGraphProcessor(), config, Collections.emptyList(),
+                Collections.singletonMap("test." + className, source));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.spi.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.reactivestreams.Publisher;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Compiles in-memory sources with an annotation processor, and collects the diagnostics and the generated files.
+ */
+final class Compilation {
+
+    private final boolean success;
+    private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+    private final Map<String, String> generated;
+
+    private Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics,
+            Map<String, String> generated) {
+        this.success = success;
+        this.diagnostics = diagnostics;
+        this.generated = generated;
+    }
+
+    /**
+     * Compiles sources.
+     *
+     * @param processor
+     *            the processor to run
+     * @param config
+     *            the content of {@code META-INF/microprofile-config.properties} in the class output
+     * @param options
+     *            the compiler options, such as the options of the processor
+     * @param sources
+     *            the sources, indexed by fully qualified class name
+     * @return the result of the compilation
+     */
+    static Compilation compile(Processor processor, Properties config, List<String> options,
+            Map<String, String> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Path output = Files.createTempDirectory("mp-rm-processor");
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null,
+                StandardCharsets.UTF_8)) {
+            Path configFile = output.resolve("META-INF/microprofile-config.properties");
+            Files.createDirectories(configFile.getParent());
+            try (OutputStream out = Files.newOutputStream(configFile)) {
+                config.store(out, null);
+            }
+            files.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(output.toFile()));
+            files.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(output.toFile()));
+
+            List<String> arguments = new ArrayList<>(options);
+            arguments.add("-classpath");
+            arguments.add(classpath());
+            List<JavaFileObject> units = sources.entrySet().stream()
+                    .map(source -> new Source(source.getKey(), source.getValue()))
+                    .collect(Collectors.toList());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics, arguments, null, units);
+            task.setProcessors(Collections.singletonList(processor));
+            boolean success = task.call();
+            return new Compilation(success, diagnostics.getDiagnostics(), read(output));
+        } finally {
+            delete(output);
+        }
+    }
+
+    /**
+     * Compiles sources without configuration nor options.
+     */
+    static Compilation compile(Processor processor, Map<String, String> sources) throws IOException {
+        return compile(processor, new Properties(), Collections.emptyList(), sources);
+    }
+
+    boolean success() {
+        return success;
+    }
+
+    /**
+     * @param kind
+     *            the kind of diagnostics
+     * @return the messages of the diagnostics of the given kind
+     */
+    List<String> messages(Diagnostic.Kind kind) {
+        return diagnostics.stream()
+                .filter(diagnostic -> diagnostic.getKind() == kind)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param path
+     *            the path of a file generated in the class or source output, such as {@code a/b/C.java}
+     * @return the content of the file, {@code null} if it has not been generated
+     */
+    String generated(String path) {
+        return generated.get(path);
+    }
+
+    /**
+     * The classpath of the compiled sources: the API and the APIs it depends on, located from their classes since the
+     * classpath of the test JVM may be hidden in a manifest.
+     */
+    private static String classpath() {
+        return Stream.of(Incoming.class, Config.class, PublisherBuilder.class, Publisher.class,
+                ApplicationScoped.class, Inject.class)
+                .map(Compilation::location)
+                .distinct()
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    private static String location(Class<?> clazz) {
+        try {
+            return Paths.get(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, String> read(Path output) throws IOException {
+        Map<String, String> content = new HashMap<>();
+        try (Stream<Path> paths = Files.walk(output)) {
+            for (Path file : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                if (!file.toString().endsWith(".class")) {
+                    String path = output.relativize(file).toString().replace(File.separatorChar, '/');
+                    content.put(path, new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return content;
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+        private final String content;
+
+        Source(String className, String content) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
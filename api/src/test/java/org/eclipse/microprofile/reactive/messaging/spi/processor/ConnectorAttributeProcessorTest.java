@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.spi.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import javax.tools.Diagnostic;
+
+import org.junit.Test;
+
+public class ConnectorAttributeProcessorTest {
+
+    private static final String CONNECTOR = "test.TestConnector";
+    private static final String INCOMING_CONFIGURATION = "test/TestConnectorIncomingConfiguration.java";
+    private static final String OUTGOING_CONFIGURATION = "test/TestConnectorOutgoingConfiguration.java";
+
+    @Test
+    public void testThatValidAttributesGenerateCompilableConfigurations() throws IOException {
+        Compilation compilation = compile("@Connector(\"test\")",
+                "IncomingConnectorFactory, OutgoingConnectorFactory",
+                attribute("host", "string", "INCOMING_AND_OUTGOING", "mandatory = true"),
+                attribute("enabled", "boolean", "INCOMING", "defaultValue = \"true\""),
+                attribute("buffer-size", "int", "INCOMING", "defaultValue = \"-2147483648\""),
+                attribute("timeout", "long", "OUTGOING", "defaultValue = \"9223372036854775807\""),
+                attribute("priority", "short", "OUTGOING", "defaultValue = \"-5\""),
+                attribute("flags", "byte", "OUTGOING", "defaultValue = \"127\""),
+                attribute("ratio", "float", "INCOMING", "defaultValue = \"1.5\""),
+                attribute("factor", "float", "INCOMING", "defaultValue = \".5e-3\""),
+                attribute("threshold", "double", "INCOMING", "defaultValue = \"-2.5E3\""),
+                attribute("weight", "double", "INCOMING", "defaultValue = \"5.\""),
+                attribute("client-id", "string", "OUTGOING", "alias = \"app.client-id\""),
+                attribute("retries", "java.lang.Integer", "OUTGOING", ""));
+
+        assertThat(compilation.messages(Diagnostic.Kind.ERROR)).isEmpty();
+        assertThat(compilation.success()).isTrue();
+
+        String incoming = compilation.generated(INCOMING_CONFIGURATION);
+        assertThat(incoming).contains("getHost()", "getEnabled()", "getBufferSize()", "getRatio()", "getFactor()",
+                "getThreshold()", "getWeight()", "1.5F", "-2.5E3D");
+        assertThat(incoming).doesNotContain("getTimeout()", "getClientId()");
+        String outgoing = compilation.generated(OUTGOING_CONFIGURATION);
+        assertThat(outgoing).contains("getHost()", "getTimeout()", "getPriority()", "getFlags()", "getClientId()",
+                "getRetries()", "app.client-id");
+        assertThat(outgoing).doesNotContain("getBufferSize()");
+    }
+
+    @Test
+    public void testThatOnlyTheConfigurationsOfTheImplementedDirectionsAreGenerated() throws IOException {
+        Compilation compilation = compile("@Connector(\"test\")", "IncomingConnectorFactory",
+                attribute("host", "string", "INCOMING_AND_OUTGOING", ""));
+
+        assertThat(compilation.success()).isTrue();
+        assertThat(compilation.generated(INCOMING_CONFIGURATION)).isNotNull();
+        assertThat(compilation.generated(OUTGOING_CONFIGURATION)).isNull();
+    }
+
+    @Test
+    public void testThatAMandatoryAttributeWithADefaultValueIsReported() throws IOException {
+        Compilation compilation = compile("@Connector(\"test\")", "IncomingConnectorFactory",
+                attribute("host", "string", "INCOMING", "mandatory = true, defaultValue = \"localhost\""));
+
+        assertThat(compilation.success()).isTrue();
+        assertThat(compilation.messages(Diagnostic.Kind.WARNING))
+                .anySatisfy(message -> assertThat(message).contains("host", "mandatory"));
+    }
+
+    @Test
+    public void testInvalidFloatDefaultValues() throws IOException {
+        for (String value : new String[]{"1.5f", "1.5F", "2d", "NaN", "Infinity", "-Infinity", "0x1p3", " 1.5", "1e39",
+                "1e-50", ""}) {
+            assertInvalidDefaultValue("float", value);
+        }
+    }
+
+    @Test
+    public void testInvalidDoubleDefaultValues() throws IOException {
+        for (String value : new String[]{"1.5d", "1.5D", "2f", "NaN", "Infinity", "-Infinity", "0x1p3", "1.5 ",
+                "1e309", "1e-400", "1,5"}) {
+            assertInvalidDefaultValue("double", value);
+        }
+    }
+
+    @Test
+    public void testInvalidIntegerAndBooleanDefaultValues() throws IOException {
+        assertInvalidDefaultValue("int", "1.5");
+        assertInvalidDefaultValue("int", "2147483648");
+        assertInvalidDefaultValue("long", "1L");
+        assertInvalidDefaultValue("short", "32768");
+        assertInvalidDefaultValue("byte", "128");
+        assertInvalidDefaultValue("boolean", "yes");
+        assertInvalidDefaultValue("boolean", "TRUE");
+    }
+
+    @Test
+    public void testUnknownType() throws IOException {
+        assertError(compile("@Connector(\"test\")", "IncomingConnectorFactory",
+                attribute("host", "com.acme.Missing", "INCOMING", "")),
+                "com.acme.Missing", "neither a supported type nor a known class");
+    }
+
+    @Test
+    public void testBlankName() throws IOException {
+        assertError(compile("@Connector(\"test\")", "IncomingConnectorFactory",
+                attribute(" ", "string", "INCOMING", "")),
+                "must not be blank");
+    }
+
+    @Test
+    public void testInvalidAlias() throws IOException {
+        assertError(compile("@Connector(\"test\")", "IncomingConnectorFactory",
+                attribute("host", "string", "INCOMING", "alias = \"host\"")),
+                "alias of the attribute host");
+    }
+
+    @Test
+    public void testDuplicateAttributes() throws IOException {
+        assertError(compile("@Connector(\"test\")", "IncomingConnectorFactory",
+                attribute("buffer-size", "int", "INCOMING", ""),
+                attribute("buffer.size", "int", "INCOMING", "")),
+                "buffer-size", "buffer.size", "getBufferSize");
+    }
+
+    @Test
+    public void testReservedName() throws IOException {
+        assertError(compile("@Connector(\"test\")", "IncomingConnectorFactory",
+                attribute("channel", "string", "INCOMING", "")),
+                "getChannel()");
+    }
+
+    @Test
+    public void testMissingConnectorQualifier() throws IOException {
+        assertError(compile("", "IncomingConnectorFactory",
+                attribute("host", "string", "INCOMING", "")),
+                "@Connector");
+    }
+
+    @Test
+    public void testClassThatIsNotAConnector() throws IOException {
+        assertError(compile("@Connector(\"test\")", "java.io.Serializable",
+                attribute("host", "string", "INCOMING", "")),
+                "must implement IncomingConnectorFactory or OutgoingConnectorFactory");
+    }
+
+    private static void assertInvalidDefaultValue(String type, String value) throws IOException {
+        Compilation compilation = compile("@Connector(\"test\")", "IncomingConnectorFactory",
+                attribute("value", type, "INCOMING", "defaultValue = \"" + value + "\""));
+        assertThat(compilation.success()).as("%s default value '%s'", type, value).isFalse();
+        assertThat(compilation.messages(Diagnostic.Kind.ERROR)).as("%s default value '%s'", type, value)
+                .singleElement().asString().startsWith("The default value of the attribute value is invalid");
+        assertThat(compilation.generated(INCOMING_CONFIGURATION)).isNull();
+    }
+
+    private static void assertError(Compilation compilation, String... fragments) {
+        assertThat(compilation.success()).isFalse();
+        assertThat(compilation.messages(Diagnostic.Kind.ERROR)).hasSize(1);
+        assertThat(compilation.messages(Diagnostic.Kind.ERROR).get(0)).contains(fragments);
+    }
+
+    private static String attribute(String name, String type, String direction, String extra) {
+        return "@ConnectorAttribute(name = \"" + name + "\", type = \"" + type + "\", direction = Direction."
+                + direction + ", description = \"The " + name + "\"" + (extra.isEmpty() ? "" : ", " + extra) + ")";
+    }
+
+    private static Compilation compile(String qualifier, String interfaces, String... attributes)
+            throws IOException {
+        StringBuilder source = new StringBuilder()
+                .append("package test;\n")
+                .append("import org.eclipse.microprofile.config.Config;\n")
+                .append("import org.eclipse.microprofile.reactive.messaging.Message;\n")
+                .append("import org.eclipse.microprofile.reactive.messaging.spi.*;\n")
+                .append("import org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttribute.Direction;\n")
+                .append("import org.eclipse.microprofile.reactive.streams.operators.*;\n")
+                .append(qualifier).append('\n');
+        for (String attribute : attributes) {
+            source.append(attribute).append('\n');
+        }
+        source.append("public class TestConnector implements ").append(interfaces).append(" {\n");
+        if (interfaces.contains("IncomingConnectorFactory")) {
+            source.append("    public PublisherBuilder<? extends Message<?>> getPublisherBuilder(Config c) {\n")
+                    .append("        return null;\n")
+                    .append("    }\n");
+        }
+        if (interfaces.contains("OutgoingConnectorFactory")) {
+            source.append("    public SubscriberBuilder<? extends Message<?>, Void> getSubscriberBuilder(Config c) {\n")
+                    .append("        return null;\n")
+                    .append("    }\n");
+        }
+        source.append("}\n");
+        return Compilation.compile(new ConnectorAttributeProcessor(),
+                Collections.singletonMap(CONNECTOR, source.toString()));
+    }
+}
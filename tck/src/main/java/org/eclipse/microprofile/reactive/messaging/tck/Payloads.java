@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts the payloads written by the byte-oriented connectors of the TCK.
+ */
+public final class Payloads {
+
+    private Payloads() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * Returns the bytes of a payload.
+     *
+     * @param payload
+     *            a {@code ByteBuffer}, returned as is, a {@code byte[]}, wrapped, or a {@code String}, encoded in UTF-8
+     * @return the bytes of the payload
+     * @throws IllegalArgumentException
+     *             if the payload has another type or is {@code null}
+     */
+    public static ByteBuffer toByteBuffer(Object payload) {
+        if (payload instanceof ByteBuffer) {
+            return (ByteBuffer) payload;
+        }
+        if (payload instanceof byte[]) {
+            return ByteBuffer.wrap((byte[]) payload);
+        }
+        if (payload instanceof String) {
+            return ByteBuffer.wrap(((String) payload).getBytes(StandardCharsets.UTF_8));
+        }
+        throw new IllegalArgumentException("Unsupported payload type: "
+                + (payload == null ? "null" : payload.getClass().getName()));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.activation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.reactivestreams.Publisher;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * A bean whose channels are disabled or lazy, depending on the configuration of the test.
+ * <ul>
+ * <li>{@value #DISABLED_IN} is disabled and mapped to a connector that does not exist, so it deactivates
+ * {@link #relay(String)}, {@value #DISABLED_MID} and {@link #consume(String)};</li>
+ * <li>{@value #DISABLED_OUT} is disabled, so it deactivates {@link #forward(String)} and {@value #UNFED}, which has no
+ * upstream;</li>
+ * <li>{@value #DISABLED_EMITTER} is disabled, so its emitter rejects messages;</li>
+ * <li>{@value #LAZY_IN} and {@value #LAZY_OUT} are lazy channels mapped to the {@link RecordingConnector}.</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class ActivationBean {
+
+    public static final String DISABLED_IN = "activation-disabled-in";
+    public static final String DISABLED_MID = "activation-disabled-mid";
+    public static final String DISABLED_OUT = "activation-disabled-out";
+    public static final String DISABLED_EMITTER = "activation-disabled-emitter";
+    public static final String UNFED = "activation-unfed";
+    public static final String LAZY_IN = "activation-lazy-in";
+    public static final String LAZY_OUT = "activation-lazy-out";
+
+    private final List<String> called = new CopyOnWriteArrayList<>();
+
+    @Inject
+    @Channel(DISABLED_EMITTER)
+    private Emitter<String> disabledEmitter;
+
+    @Inject
+    @Channel(LAZY_OUT)
+    private Emitter<String> lazyEmitter;
+
+    @Inject
+    @Channel(LAZY_IN)
+    private Publisher<String> lazyPublisher;
+
+    @Incoming(DISABLED_IN)
+    @Outgoing(DISABLED_MID)
+    public String relay(String payload) {
+        called.add("relay");
+        return payload;
+    }
+
+    @Incoming(DISABLED_MID)
+    public void consume(String payload) {
+        called.add("consume");
+    }
+
+    @Incoming(UNFED)
+    @Outgoing(DISABLED_OUT)
+    public String forward(String payload) {
+        called.add("forward");
+        return payload;
+    }
+
+    /**
+     * @return the names of the methods of this bean that have been called
+     */
+    public List<String> called() {
+        return called;
+    }
+
+    public Emitter<String> disabledEmitter() {
+        return disabledEmitter;
+    }
+
+    public Emitter<String> lazyEmitter() {
+        return lazyEmitter;
+    }
+
+    public Publisher<String> lazyPublisher() {
+        return lazyPublisher;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.activation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.microprofile.reactive.messaging.tck.activation.ActivationBean.DISABLED_EMITTER;
+import static org.eclipse.microprofile.reactive.messaging.tck.activation.ActivationBean.DISABLED_IN;
+import static org.eclipse.microprofile.reactive.messaging.tck.activation.ActivationBean.DISABLED_OUT;
+import static org.eclipse.microprofile.reactive.messaging.tck.activation.ActivationBean.LAZY_IN;
+import static org.eclipse.microprofile.reactive.messaging.tck.activation.ActivationBean.LAZY_OUT;
+
+import java.time.Duration;
+import java.util.ServiceLoader;
+
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorFactory;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.reactivex.Flowable;
+import jakarta.inject.Inject;
+
+/**
+ * Verifies that disabled channels deactivate the part of the graph only connected to them without failing the
+ * deployment, and that lazy channels create their connector on first use.
+ */
+@RunWith(Arquillian.class)
+public class ActivationTest {
+
+    private static final String INCOMING = ConnectorFactory.INCOMING_PREFIX;
+    private static final String OUTGOING = ConnectorFactory.OUTGOING_PREFIX;
+
+    @Deployment
+    public static JavaArchive deployment() {
+        // @formatter:off
+        ConfigAsset config = new ConfigAsset()
+                .put(INCOMING + DISABLED_IN + ".connector", "activation-missing-connector")
+                .put(INCOMING + DISABLED_IN + "." + ConnectorFactory.ENABLED_ATTRIBUTE, "false")
+                .put(OUTGOING + DISABLED_OUT + ".connector", RecordingConnector.ID)
+                .put(OUTGOING + DISABLED_OUT + "." + ConnectorFactory.ENABLED_ATTRIBUTE, "false")
+                .put(OUTGOING + DISABLED_EMITTER + ".connector", RecordingConnector.ID)
+                .put(OUTGOING + DISABLED_EMITTER + "." + ConnectorFactory.ENABLED_ATTRIBUTE, "false")
+                .put(INCOMING + LAZY_IN + ".connector", RecordingConnector.ID)
+                .put(INCOMING + LAZY_IN + "." + ConnectorFactory.LAZY_ATTRIBUTE, "true")
+                .put(OUTGOING + LAZY_OUT + ".connector", RecordingConnector.ID)
+                .put(OUTGOING + LAZY_OUT + "." + ConnectorFactory.LAZY_ATTRIBUTE, "true");
+        // @formatter:on
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(ActivationBean.class, RecordingConnector.class, ConfigAsset.class, ArchiveExtender.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+
+        return archive;
+    }
+
+    @Inject
+    private ActivationBean bean;
+
+    @Inject
+    @Connector(RecordingConnector.ID)
+    private RecordingConnector connector;
+
+    @Test
+    public void testThatDisabledChannelsAreNeitherCreatedNorConsumed() {
+        await().during(Duration.ofMillis(300)).until(() -> bean.called().isEmpty());
+        assertThat(connector.created()).doesNotContain(DISABLED_IN, DISABLED_OUT, DISABLED_EMITTER);
+    }
+
+    @Test
+    public void testThatEmittersOfDisabledChannelsRejectMessages() {
+        assertThatThrownBy(() -> bean.disabledEmitter().send("a")).isInstanceOf(IllegalStateException.class);
+        assertThat(connector.created()).doesNotContain(DISABLED_EMITTER);
+        assertThat(connector.written()).doesNotContain("a");
+    }
+
+    @Test
+    public void testThatLazyIncomingChannelsAreCreatedOnFirstRequest() {
+        assertThat(connector.created()).doesNotContain(LAZY_IN);
+        assertThat(Flowable.fromPublisher(bean.lazyPublisher()).toList().blockingGet()).containsExactly("a", "b", "c");
+        assertThat(connector.created()).containsOnlyOnce(LAZY_IN);
+    }
+
+    @Test
+    public void testThatLazyOutgoingChannelsAreCreatedOnFirstSend() {
+        assertThat(connector.created()).doesNotContain(LAZY_OUT);
+        bean.lazyEmitter().send("first");
+        bean.lazyEmitter().send("second");
+        await().until(() -> connector.written().contains("second"));
+        assertThat(connector.written()).containsSubsequence("first", "second");
+        assertThat(connector.created()).containsOnlyOnce(LAZY_OUT);
+    }
+}
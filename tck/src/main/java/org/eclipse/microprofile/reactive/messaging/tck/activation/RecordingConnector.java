@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.activation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorFactory;
+import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
+import org.eclipse.microprofile.reactive.messaging.spi.OutgoingConnectorFactory;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * A connector recording the channels it creates.
+ * <p>
+ * Incoming channels emit {@code a}, {@code b} and {@code c}. Outgoing channels record the payloads they receive and
+ * acknowledge the messages.
+ */
+@ApplicationScoped
+@Connector(RecordingConnector.ID)
+public class RecordingConnector implements IncomingConnectorFactory, OutgoingConnectorFactory {
+
+    public static final String ID = "recording";
+
+    private final List<String> created = new CopyOnWriteArrayList<>();
+    private final List<String> written = new CopyOnWriteArrayList<>();
+
+    @Override
+    public PublisherBuilder<? extends Message<?>> getPublisherBuilder(Config config) {
+        created.add(config.getValue(ConnectorFactory.CHANNEL_NAME_ATTRIBUTE, String.class));
+        return ReactiveStreams.of("a", "b", "c").map(Message::of);
+    }
+
+    @Override
+    public SubscriberBuilder<? extends Message<?>, Void> getSubscriberBuilder(Config config) {
+        created.add(config.getValue(ConnectorFactory.CHANNEL_NAME_ATTRIBUTE, String.class));
+        return ReactiveStreams.<Message<?>>builder().forEach(message -> {
+            written.add((String) message.getPayload());
+            message.ack();
+        });
+    }
+
+    /**
+     * @return the names of the channels created so far, in creation order
+     */
+    public List<String> created() {
+        return created;
+    }
+
+    /**
+     * @return the payloads received by the outgoing channels
+     */
+    public List<String> written() {
+        return written;
+    }
+}
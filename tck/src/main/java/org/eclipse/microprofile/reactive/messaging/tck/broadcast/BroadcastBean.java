@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.broadcast;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.microprofile.reactive.messaging.Broadcast;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class BroadcastBean {
+
+    public static final int COUNT = 50;
+
+    private final List<String> first = new CopyOnWriteArrayList<>();
+    private final List<String> second = new CopyOnWriteArrayList<>();
+    private final List<String> fast = new CopyOnWriteArrayList<>();
+    private final List<String> slow = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<Void> slowGate = new CompletableFuture<>();
+    private final List<Message<String>> firstAcker = new CopyOnWriteArrayList<>();
+    private final List<Message<String>> secondAcker = new CopyOnWriteArrayList<>();
+
+    @Inject
+    @Channel("broadcast-slow")
+    @Broadcast(value = 2, bufferSize = 32)
+    private Emitter<String> slowEmitter;
+
+    @Inject
+    @Channel("broadcast-ack")
+    @Broadcast(2)
+    private Emitter<String> ackEmitter;
+
+    @Outgoing("broadcast-ordered")
+    @Broadcast(2)
+    public PublisherBuilder<String> produce() {
+        return ReactiveStreams.fromIterable(expected());
+    }
+
+    @Incoming("broadcast-ordered")
+    public void consumeFirst(String payload) {
+        first.add(payload);
+    }
+
+    @Incoming("broadcast-ordered")
+    public void consumeSecond(String payload) {
+        second.add(payload);
+    }
+
+    @Incoming("broadcast-slow")
+    public void consumeFast(String payload) {
+        fast.add(payload);
+    }
+
+    @Incoming("broadcast-slow")
+    public CompletionStage<Void> consumeSlowly(String payload) {
+        // The first message blocks the downstream until the gate is opened
+        return slowGate.thenRun(() -> slow.add(payload));
+    }
+
+    @Incoming("broadcast-ack")
+    public CompletionStage<Void> keepFirst(Message<String> message) {
+        firstAcker.add(message);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Incoming("broadcast-ack")
+    public CompletionStage<Void> keepSecond(Message<String> message) {
+        secondAcker.add(message);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public static List<String> expected() {
+        return IntStream.range(0, COUNT).mapToObj(i -> "message-" + i).collect(Collectors.toList());
+    }
+
+    public List<String> first() {
+        return first;
+    }
+
+    public List<String> second() {
+        return second;
+    }
+
+    public List<String> fast() {
+        return fast;
+    }
+
+    public List<String> slow() {
+        return slow;
+    }
+
+    public void openSlowGate() {
+        slowGate.complete(null);
+    }
+
+    public Emitter<String> slowEmitter() {
+        return slowEmitter;
+    }
+
+    public Emitter<String> ackEmitter() {
+        return ackEmitter;
+    }
+
+    public List<Message<String>> firstAcker() {
+        return firstAcker;
+    }
+
+    public List<Message<String>> secondAcker() {
+        return secondAcker;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.broadcast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.tck.TckBase;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+
+public class BroadcastTest extends TckBase {
+
+    @Deployment
+    public static Archive<JavaArchive> deployment() {
+        return getBaseArchive()
+                .addClasses(BroadcastBean.class);
+    }
+
+    @Inject
+    private BroadcastBean bean;
+
+    @Test
+    public void testThatEveryDownstreamReceivesTheMessagesInOrder() {
+        await().until(() -> bean.first().size() == BroadcastBean.COUNT
+                && bean.second().size() == BroadcastBean.COUNT);
+        assertThat(bean.first()).containsExactlyElementsOf(BroadcastBean.expected());
+        assertThat(bean.second()).containsExactlyElementsOf(BroadcastBean.expected());
+    }
+
+    @Test
+    public void testThatSlowDownstreamsDoNotDelayTheOthers() {
+        // Fits in the buffer of the slow downstream
+        for (int i = 0; i < 10; i++) {
+            bean.slowEmitter().send("slow-" + i);
+        }
+        await().until(() -> bean.fast().size() == 10);
+        assertThat(bean.slow()).isEmpty();
+
+        bean.openSlowGate();
+        await().until(() -> bean.slow().size() == 10);
+        assertThat(bean.slow()).containsExactlyElementsOf(bean.fast());
+    }
+
+    @Test
+    public void testThatTheMessageIsAckedOnceEveryDownstreamAcks() {
+        AtomicInteger acked = new AtomicInteger();
+        AtomicReference<Throwable> nacked = new AtomicReference<>();
+        int index = bean.firstAcker().size();
+        bean.ackEmitter().send(message("to-ack", acked, nacked));
+
+        await().until(() -> bean.firstAcker().size() == index + 1 && bean.secondAcker().size() == index + 1);
+        bean.firstAcker().get(index).ack().toCompletableFuture().join();
+        // The original message must not be acked while the second copy is not
+        await().during(200, TimeUnit.MILLISECONDS).atMost(1, TimeUnit.SECONDS).until(() -> acked.get() == 0);
+
+        bean.secondAcker().get(index).ack().toCompletableFuture().join();
+        await().until(() -> acked.get() == 1);
+        assertThat(nacked).hasValue(null);
+    }
+
+    @Test
+    public void testThatTheMessageIsNackedWhenOneDownstreamNacks() {
+        AtomicInteger acked = new AtomicInteger();
+        AtomicReference<Throwable> nacked = new AtomicReference<>();
+        int index = bean.firstAcker().size();
+        bean.ackEmitter().send(message("to-nack", acked, nacked));
+
+        await().until(() -> bean.firstAcker().size() == index + 1 && bean.secondAcker().size() == index + 1);
+        bean.firstAcker().get(index).ack().toCompletableFuture().join();
+        IllegalStateException failure = new IllegalStateException("boom");
+        bean.secondAcker().get(index).nack(failure).toCompletableFuture().join();
+        await().until(() -> nacked.get() != null);
+        assertThat(nacked.get()).isSameAs(failure);
+        assertThat(acked).hasValue(0);
+    }
+
+    private static Message<String> message(String payload, AtomicInteger acked, AtomicReference<Throwable> nacked) {
+        return Message.of(payload, () -> {
+            acked.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }, reason -> {
+            nacked.set(reason);
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.broadcast;
+
+import java.util.ServiceLoader;
+
+import org.eclipse.microprofile.reactive.messaging.Broadcast;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.jboss.arquillian.container.test.api.Deployer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.ShouldThrowException;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.reactivestreams.Publisher;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.spi.DeploymentException;
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+public class InvalidBroadcastTest {
+
+    @Deployment(managed = false, name = "broadcast-without-outgoing")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> broadcastWithoutOutgoing() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(BroadcastWithoutOutgoing.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "broadcast-on-publisher")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> broadcastOnPublisher() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(BroadcastOnPublisher.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "broadcast-negative-value")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> broadcastNegativeValue() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(BroadcastNegativeValue.class, Sinks.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "broadcast-invalid-buffer-size")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> broadcastInvalidBufferSize() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(BroadcastInvalidBufferSize.class, Sinks.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @ArquillianResource
+    private Deployer deployer;
+
+    @Test
+    public void checkThatBroadcastWithoutOutgoingIsRejected() {
+        deployer.deploy("broadcast-without-outgoing");
+    }
+
+    @Test
+    public void checkThatBroadcastOnAnInjectedPublisherIsRejected() {
+        deployer.deploy("broadcast-on-publisher");
+    }
+
+    @Test
+    public void checkThatNegativeNumbersOfDownstreamsAreRejected() {
+        deployer.deploy("broadcast-negative-value");
+    }
+
+    @Test
+    public void checkThatNonPositiveBufferSizesAreRejected() {
+        deployer.deploy("broadcast-invalid-buffer-size");
+    }
+
+    @ApplicationScoped
+    public static class Source {
+
+        @Outgoing("broadcast-invalid")
+        public PublisherBuilder<String> source() {
+            return ReactiveStreams.of("a", "b");
+        }
+    }
+
+    @ApplicationScoped
+    public static class Sinks {
+
+        @Incoming("broadcast-invalid")
+        public void first(String payload) {
+            // Valid consumer
+        }
+
+        @Incoming("broadcast-invalid")
+        public void second(String payload) {
+            // Valid consumer
+        }
+    }
+
+    @ApplicationScoped
+    public static class BroadcastWithoutOutgoing {
+
+        @Incoming("broadcast-invalid")
+        @Broadcast
+        public void consume(String payload) {
+            // Not called
+        }
+    }
+
+    @ApplicationScoped
+    public static class BroadcastOnPublisher {
+
+        @SuppressWarnings("unused")
+        @Inject
+        @Channel("broadcast-invalid")
+        @Broadcast
+        private Publisher<String> publisher;
+    }
+
+    @ApplicationScoped
+    public static class BroadcastNegativeValue {
+
+        @Outgoing("broadcast-invalid")
+        @Broadcast(-1)
+        public PublisherBuilder<String> source() {
+            return ReactiveStreams.of("a", "b");
+        }
+    }
+
+    @ApplicationScoped
+    public static class BroadcastInvalidBufferSize {
+
+        @Outgoing("broadcast-invalid")
+        @Broadcast(bufferSize = 0)
+        public PublisherBuilder<String> source() {
+            return ReactiveStreams.of("a", "b");
+        }
+    }
+}
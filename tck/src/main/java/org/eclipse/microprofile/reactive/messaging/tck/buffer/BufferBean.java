@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.buffer;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.reactive.messaging.BufferMessage;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class BufferBean {
+
+    /**
+     * The frames processed by {@link #body(ByteBuffer)} start with a header of this size.
+     */
+    public static final int HEADER_SIZE = 2;
+
+    private final List<String> consumed = new CopyOnWriteArrayList<>();
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    private final List<Boolean> lentViews = new CopyOnWriteArrayList<>();
+    private final List<Boolean> releasedWhileProcessed = new CopyOnWriteArrayList<>();
+    private final List<String> failed = new CopyOnWriteArrayList<>();
+    private final BufferPool pool = new BufferPool();
+
+    @Inject
+    @Channel("buffer-consumer")
+    private Emitter<ByteBuffer> consumerEmitter;
+
+    @Inject
+    @Channel("buffer-frames")
+    private Emitter<ByteBuffer> framesEmitter;
+
+    @Inject
+    @Channel("buffer-failing")
+    private Emitter<ByteBuffer> failingEmitter;
+
+    @Incoming("buffer-consumer")
+    public void consume(ByteBuffer buffer) {
+        inspect(buffer);
+        consumed.add(BufferPool.decode(buffer));
+    }
+
+    @Incoming("buffer-frames")
+    @Outgoing("buffer-bodies")
+    public ByteBuffer body(ByteBuffer frame) {
+        ByteBuffer body = frame.duplicate();
+        ((Buffer) body).position(body.position() + HEADER_SIZE);
+        return body.slice();
+    }
+
+    @Incoming("buffer-bodies")
+    public void consumeBody(ByteBuffer body) {
+        // The body is a view of the lent frame, which is released once this method completes
+        inspect(body);
+        bodies.add(BufferPool.decode(body));
+    }
+
+    @Incoming("buffer-failing")
+    public void consumeFailing(ByteBuffer buffer) {
+        failed.add(BufferPool.decode(buffer));
+        throw new IllegalStateException("expected failure");
+    }
+
+    private void inspect(ByteBuffer buffer) {
+        boolean lentView = pool.isLentView(buffer);
+        lentViews.add(lentView);
+        releasedWhileProcessed.add(lentView && pool.isReleased(buffer));
+    }
+
+    public Emitter<ByteBuffer> consumerEmitter() {
+        return consumerEmitter;
+    }
+
+    public Emitter<ByteBuffer> framesEmitter() {
+        return framesEmitter;
+    }
+
+    public Emitter<ByteBuffer> failingEmitter() {
+        return failingEmitter;
+    }
+
+    public BufferPool pool() {
+        return pool;
+    }
+
+    public List<String> consumed() {
+        return consumed;
+    }
+
+    public List<String> bodies() {
+        return bodies;
+    }
+
+    public List<Boolean> lentViews() {
+        return lentViews;
+    }
+
+    public List<Boolean> releasedWhileProcessed() {
+        return releasedWhileProcessed;
+    }
+
+    public List<String> failed() {
+        return failed;
+    }
+
+    /**
+     * Lends views of a single backing array, as a connector lends pooled buffers, and counts the releases of each lent
+     * buffer.
+     */
+    public static class BufferPool {
+
+        private static final int CAPACITY = 4096;
+
+        private final byte[] storage = new byte[CAPACITY];
+        private final List<Integer> offsets = new CopyOnWriteArrayList<>();
+        private final List<AtomicInteger> releases = new CopyOnWriteArrayList<>();
+        private int position;
+
+        public synchronized BufferMessage lend(String content) {
+            byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            System.arraycopy(bytes, 0, storage, position, bytes.length);
+            ByteBuffer buffer = ByteBuffer.wrap(storage, position, bytes.length).slice();
+            AtomicInteger released = new AtomicInteger();
+            offsets.add(position);
+            releases.add(released);
+            position += bytes.length;
+            return BufferMessage.of(buffer, released::incrementAndGet);
+        }
+
+        /**
+         * @return the number of times each lent buffer was released, in lending order
+         */
+        public int[] releases() {
+            return releases.stream().mapToInt(AtomicInteger::get).toArray();
+        }
+
+        /**
+         * @return whether the given buffer is a view of the pool storage, and so was not copied
+         */
+        public boolean isLentView(ByteBuffer buffer) {
+            return buffer.hasArray() && buffer.array() == storage;
+        }
+
+        /**
+         * @return whether the lent buffer containing the given view has been released
+         */
+        public boolean isReleased(ByteBuffer buffer) {
+            if (!isLentView(buffer)) {
+                throw new IllegalArgumentException("Not a view of a lent buffer");
+            }
+            int offset = buffer.arrayOffset();
+            for (int i = offsets.size() - 1; i >= 0; i--) {
+                if (offsets.get(i) <= offset) {
+                    return releases.get(i).get() > 0;
+                }
+            }
+            throw new IllegalArgumentException("Not a view of a lent buffer");
+        }
+
+        static String decode(ByteBuffer buffer) {
+            return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+        }
+    }
+}
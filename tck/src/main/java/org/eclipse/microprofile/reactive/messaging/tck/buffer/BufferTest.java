@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.Durations.ONE_HUNDRED_MILLISECONDS;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.reactive.messaging.BufferMessage;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
+import org.eclipse.microprofile.reactive.messaging.tck.TckBase;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+
+public class BufferTest extends TckBase {
+
+    @Deployment
+    public static Archive<JavaArchive> deployment() {
+        return getBaseArchive()
+                .addClasses(BufferBean.class, BufferBean.BufferPool.class);
+    }
+
+    @Inject
+    private BufferBean bean;
+
+    @Test
+    public void testThatConsumedBuffersAreLentAndReleasedOnce() {
+        bean.consumerEmitter().send(bean.pool().lend("alpha"));
+        bean.consumerEmitter().send(bean.pool().lend("beta"));
+        bean.consumerEmitter().send(bean.pool().lend("gamma"));
+
+        await().until(() -> bean.consumed().size() == 3);
+        assertThat(bean.consumed()).containsExactly("alpha", "beta", "gamma");
+        assertThat(bean.lentViews()).containsOnly(true);
+        assertThat(bean.releasedWhileProcessed()).containsOnly(false);
+        await().until(() -> bean.pool().releases().length == 3);
+        await().untilAsserted(() -> assertThat(bean.pool().releases()).containsOnly(1));
+        await().during(ONE_HUNDRED_MILLISECONDS)
+                .untilAsserted(() -> assertThat(bean.pool().releases()).containsOnly(1));
+    }
+
+    @Test
+    public void testThatSlicesKeepTheBufferUntilAcknowledged() {
+        bean.framesEmitter().send(bean.pool().lend("h1first"));
+        bean.framesEmitter().send(bean.pool().lend("h2second"));
+
+        await().until(() -> bean.bodies().size() == 2);
+        assertThat(bean.bodies()).containsExactly("first", "second");
+        // The bodies are views of the frames, which are released once the bodies are acknowledged
+        assertThat(bean.lentViews()).containsOnly(true);
+        assertThat(bean.releasedWhileProcessed()).containsOnly(false);
+        await().untilAsserted(() -> assertThat(bean.pool().releases()).containsOnly(1));
+        await().during(ONE_HUNDRED_MILLISECONDS)
+                .untilAsserted(() -> assertThat(bean.pool().releases()).containsOnly(1));
+    }
+
+    @Test
+    public void testThatNackedBuffersAreReleasedOnce() {
+        BufferMessage message = bean.pool().lend("failing");
+        bean.failingEmitter().send(message);
+
+        await().until(() -> bean.failed().size() == 1);
+        assertThat(bean.failed()).containsExactly("failing");
+        await().until(message::isReleased);
+        await().during(ONE_HUNDRED_MILLISECONDS)
+                .untilAsserted(() -> assertThat(bean.pool().releases()).containsOnly(1));
+    }
+
+    @Test
+    public void testThatTheBufferIsReleasedOnceTheAcknowledgementCompletes() {
+        AtomicInteger released = new AtomicInteger();
+        CompletableFuture<Void> acknowledgement = new CompletableFuture<>();
+        BufferMessage message = BufferMessage.of(ByteBuffer.allocate(8), Metadata.empty(), released::incrementAndGet,
+                () -> acknowledgement, reason -> CompletableFuture.completedFuture(null));
+
+        CompletionStage<Void> ack = message.ack();
+        assertThat(message.isReleased()).isFalse();
+        assertThat(released).hasValue(0);
+
+        acknowledgement.complete(null);
+        assertThat(ack.toCompletableFuture()).isCompleted();
+        assertThat(message.isReleased()).isTrue();
+        assertThat(released).hasValue(1);
+
+        message.ack();
+        message.nack(new Exception("too late"));
+        assertThat(released).hasValue(1);
+    }
+
+    @Test
+    public void testThatDerivedMessagesKeepTheBuffer() {
+        AtomicInteger released = new AtomicInteger();
+        BufferMessage message = BufferMessage.of(ByteBuffer.allocate(8), released::incrementAndGet);
+
+        Message<ByteBuffer> slice = message.withPayload(message.getPayload().slice());
+        Message<String> decoded = slice.withPayload("decoded").addMetadata("trace");
+        assertThat(released).hasValue(0);
+
+        decoded.nack(new Exception("expected"));
+        slice.ack();
+        assertThat(message.isReleased()).isTrue();
+        assertThat(released).hasValue(1);
+    }
+
+    @Test
+    public void testThatFailedAcknowledgementsReleaseTheBuffer() {
+        AtomicInteger released = new AtomicInteger();
+        BufferMessage failing = BufferMessage.of(ByteBuffer.allocate(8), Metadata.empty(), released::incrementAndGet,
+                () -> {
+                    throw new IllegalStateException("expected");
+                }, reason -> {
+                    CompletableFuture<Void> failed = new CompletableFuture<>();
+                    failed.completeExceptionally(reason);
+                    return failed;
+                });
+
+        assertThatThrownBy(failing::ack).isInstanceOf(IllegalStateException.class);
+        assertThat(released).hasValue(1);
+        assertThat(failing.nack(new Exception("expected")).toCompletableFuture()).isCompletedExceptionally();
+        assertThat(released).hasValue(1);
+    }
+}
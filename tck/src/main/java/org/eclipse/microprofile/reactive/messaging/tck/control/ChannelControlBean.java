@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.control;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class ChannelControlBean {
+
+    public static final String CONNECTOR_CHANNEL = "control-connector";
+    public static final String EMITTER_CHANNEL = "control-emitter";
+
+    private final List<String> fromConnector = new CopyOnWriteArrayList<>();
+    private final List<String> fromEmitter = new CopyOnWriteArrayList<>();
+
+    @Inject
+    @Channel(EMITTER_CHANNEL)
+    private Emitter<String> emitter;
+
+    @Incoming(CONNECTOR_CHANNEL)
+    public void consumeFromConnector(String payload) {
+        fromConnector.add(payload);
+    }
+
+    @Incoming(EMITTER_CHANNEL)
+    public void consumeFromEmitter(String payload) {
+        fromEmitter.add(payload);
+    }
+
+    public Emitter<String> emitter() {
+        return emitter;
+    }
+
+    public List<String> fromConnector() {
+        return fromConnector;
+    }
+
+    public List<String> fromEmitter() {
+        return fromEmitter;
+    }
+}
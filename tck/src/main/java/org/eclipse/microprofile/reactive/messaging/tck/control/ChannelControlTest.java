@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.control;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.microprofile.reactive.messaging.tck.control.ChannelControlBean.CONNECTOR_CHANNEL;
+import static org.eclipse.microprofile.reactive.messaging.tck.control.ChannelControlBean.EMITTER_CHANNEL;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.ServiceLoader;
+
+import org.eclipse.microprofile.reactive.messaging.ChannelControl;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.messaging.tck.memory.InMemoryConnector;
+import org.eclipse.microprofile.reactive.messaging.tck.memory.InMemoryConnectorTest;
+import org.eclipse.microprofile.reactive.messaging.tck.memory.InMemorySource;
+import org.eclipse.microprofile.reactive.messaging.tck.memory.InMemoryTestBean;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+public class ChannelControlTest {
+
+    private static final Duration PAUSE = Duration.ofMillis(300);
+
+    @Deployment
+    public static JavaArchive deployment() {
+        ConfigAsset config = new ConfigAsset()
+                .put("mp.messaging.incoming." + CONNECTOR_CHANNEL + ".connector", InMemoryConnector.ID);
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(ChannelControlBean.class, ConfigAsset.class, ArchiveExtender.class)
+                // The in-memory connector, without its own test and test bean
+                .addPackages(false, Filters.exclude(InMemoryConnectorTest.class, InMemoryTestBean.class),
+                        InMemoryConnector.class.getPackage())
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+
+        return archive;
+    }
+
+    @Inject
+    private ChannelControlBean bean;
+
+    @Inject
+    private ChannelControl control;
+
+    @Inject
+    @Connector(InMemoryConnector.ID)
+    private InMemoryConnector connector;
+
+    @Test
+    public void testThatNoMessagesArriveWhileAConnectorChannelIsPaused() {
+        InMemorySource<String> source = connector.source(CONNECTOR_CHANNEL);
+        source.send("a");
+        source.send("b");
+        await().until(() -> bean.fromConnector().size() == 2);
+
+        control.pause(CONNECTOR_CHANNEL);
+        assertThat(control.isPaused(CONNECTOR_CHANNEL)).isTrue();
+        assertThat(source.paused()).isTrue();
+        source.send("c");
+        source.send("d");
+        source.send("e");
+        await().during(PAUSE).until(() -> bean.fromConnector().size() == 2);
+
+        control.resume(CONNECTOR_CHANNEL);
+        assertThat(control.isPaused(CONNECTOR_CHANNEL)).isFalse();
+        assertThat(source.paused()).isFalse();
+        await().until(() -> bean.fromConnector().size() == 5);
+        assertThat(bean.fromConnector()).containsExactly("a", "b", "c", "d", "e");
+        await().until(() -> source.acked() == 5);
+    }
+
+    @Test
+    public void testThatNoMessagesArriveWhileAnEmitterChannelIsPaused() {
+        bean.emitter().send("a");
+        await().until(() -> bean.fromEmitter().size() == 1);
+
+        control.pause(EMITTER_CHANNEL);
+        // Pausing twice has no effect
+        control.pause(EMITTER_CHANNEL);
+        bean.emitter().send("b");
+        bean.emitter().send("c");
+        await().during(PAUSE).until(() -> bean.fromEmitter().size() == 1);
+
+        control.resume(EMITTER_CHANNEL);
+        await().until(() -> bean.fromEmitter().size() == 3);
+        assertThat(bean.fromEmitter()).containsExactlyElementsOf(Arrays.asList("a", "b", "c"));
+        // Resuming a channel that is not paused has no effect
+        control.resume(EMITTER_CHANNEL);
+        assertThat(control.isPaused(EMITTER_CHANNEL)).isFalse();
+    }
+
+    @Test
+    public void testThatUnknownChannelsAreRejected() {
+        assertThatThrownBy(() -> control.pause("control-unknown")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> control.resume("control-unknown")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> control.isPaused("control-unknown")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
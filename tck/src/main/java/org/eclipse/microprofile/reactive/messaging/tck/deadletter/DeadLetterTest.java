@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.deadletter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.reactive.messaging.DeadLetter;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.TestConnector;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+public class DeadLetterTest {
+
+    @Deployment
+    public static JavaArchive deployment() {
+        ConfigAsset config = new ConfigAsset()
+                .put("mp.messaging.incoming.dead-letter-connector-in.connector", TestConnector.ID)
+                .put("mp.messaging.incoming.dead-letter-connector-in.failure-strategy", DeadLetter.FAILURE_STRATEGY)
+                .put("mp.messaging.incoming.dead-letter-connector-in.dead-letter-channel",
+                        DeadLetterTestBean.CONNECTOR_DLQ)
+                .put("mp.messaging.outgoing.dead-letter-connector-dlq.connector", TestConnector.ID)
+                .put("mp.messaging.incoming.dead-letter-app-in.connector", TestConnector.ID)
+                .put("mp.messaging.incoming.dead-letter-app-in.failure-strategy", DeadLetter.FAILURE_STRATEGY)
+                .put("mp.messaging.incoming.dead-letter-app-in.dead-letter-channel", DeadLetterTestBean.APP_DLQ);
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(DeadLetterTestBean.class, DeadLetterTestBean.Origin.class, TestConnector.class,
+                        ArchiveExtender.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+
+        return archive;
+    }
+
+    @Inject
+    @Connector(TestConnector.ID)
+    private TestConnector testConnector;
+
+    @Inject
+    private DeadLetterTestBean bean;
+
+    private final Set<String> acked = ConcurrentHashMap.newKeySet();
+    private final Map<String, Throwable> nacked = new ConcurrentHashMap<>();
+
+    @Before
+    public void reset() {
+        acked.clear();
+        nacked.clear();
+    }
+
+    @Test
+    public void testThatNackedMessagesAreSentToAnOutgoingConnector() {
+        send(DeadLetterTestBean.CONNECTOR_IN, "a");
+        send(DeadLetterTestBean.CONNECTOR_IN, "fail-1");
+        send(DeadLetterTestBean.CONNECTOR_IN, "b");
+
+        Message<String> received = testConnector.get(DeadLetterTestBean.CONNECTOR_DLQ);
+        assertThat(received.getPayload()).isEqualTo("fail-1");
+
+        DeadLetter<?> letter = received.unwrap(DeadLetter.class);
+        assertThat(letter.getChannel()).isEqualTo(DeadLetterTestBean.CONNECTOR_IN);
+        assertThat(letter.getFailure()).isInstanceOf(IllegalArgumentException.class).hasMessage("fail-1");
+
+        await().until(() -> acked.size() == 2);
+        // The original message is only acknowledged once the dead letter is acknowledged
+        assertThat(acked).containsExactlyInAnyOrder("a", "b");
+        received.ack().toCompletableFuture().join();
+
+        await().until(() -> acked.contains("fail-1"));
+        assertThat(nacked).isEmpty();
+    }
+
+    @Test
+    public void testThatNackedMessagesAreSentToAnInAppChannel() {
+        send(DeadLetterTestBean.APP_IN, "c");
+        send(DeadLetterTestBean.APP_IN, "fail-2");
+        send(DeadLetterTestBean.APP_IN, "fail-3");
+        send(DeadLetterTestBean.APP_IN, "d");
+
+        await().until(() -> acked.size() == 4);
+        assertThat(nacked).isEmpty();
+        assertThat(bean.processed()).contains("c", "d");
+        assertThat(bean.deadLetters()).hasSize(2).allSatisfy(letter -> {
+            assertThat(letter.getChannel()).isEqualTo(DeadLetterTestBean.APP_IN);
+            assertThat(letter.getFailure()).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage(letter.getPayload());
+        });
+        assertThat(bean.deadLetters()).extracting(Message::getPayload).containsExactly("fail-2", "fail-3");
+    }
+
+    @Test
+    public void testThatDeadLettersCarryTheMetadataOfTheFailedMessage() {
+        send(DeadLetterTestBean.CONNECTOR_IN, "fail-metadata",
+                Metadata.of(new DeadLetterTestBean.Origin("origin-metadata")));
+
+        Message<String> received = testConnector.get(DeadLetterTestBean.CONNECTOR_DLQ);
+        assertThat(received.getPayload()).isEqualTo("fail-metadata");
+        assertThat(received.getMetadata(DeadLetterTestBean.Origin.class).map(DeadLetterTestBean.Origin::getValue))
+                .hasValue("origin-metadata");
+        assertThat(received.unwrap(DeadLetter.class).getMetadata(DeadLetterTestBean.Origin.class)).isPresent();
+
+        received.ack().toCompletableFuture().join();
+        await().until(() -> acked.contains("fail-metadata"));
+    }
+
+    private void send(String channel, String payload) {
+        send(channel, payload, Metadata.empty());
+    }
+
+    private void send(String channel, String payload, Metadata metadata) {
+        testConnector.send(channel, Message.of(payload, metadata,
+                () -> {
+                    acked.add(payload);
+                    return CompletableFuture.completedFuture(null);
+                }, t -> {
+                    nacked.put(payload, t);
+                    return CompletableFuture.completedFuture(null);
+                }));
+    }
+
+}
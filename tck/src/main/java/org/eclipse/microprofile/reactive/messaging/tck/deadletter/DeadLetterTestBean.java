@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.deadletter;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.reactive.messaging.DeadLetter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class DeadLetterTestBean {
+
+    public static final String CONNECTOR_IN = "dead-letter-connector-in";
+    public static final String CONNECTOR_DLQ = "dead-letter-connector-dlq";
+
+    public static final String APP_IN = "dead-letter-app-in";
+    public static final String APP_DLQ = "dead-letter-app-dlq";
+
+    private final List<String> processed = new CopyOnWriteArrayList<>();
+    private final List<DeadLetter<String>> deadLetters = new CopyOnWriteArrayList<>();
+
+    @Incoming(CONNECTOR_IN)
+    public void consumeWithConnectorDeadLetterChannel(String payload) {
+        process(payload);
+    }
+
+    @Incoming(APP_IN)
+    public void consumeWithInAppDeadLetterChannel(String payload) {
+        process(payload);
+    }
+
+    @Incoming(APP_DLQ)
+    public CompletionStage<Void> deadLetters(DeadLetter<String> letter) {
+        deadLetters.add(letter);
+        return letter.ack();
+    }
+
+    private void process(String payload) {
+        if (payload.startsWith("fail")) {
+            throw new IllegalArgumentException(payload);
+        }
+        processed.add(payload);
+    }
+
+    public List<String> processed() {
+        return processed;
+    }
+
+    public List<DeadLetter<String>> deadLetters() {
+        return deadLetters;
+    }
+
+    /**
+     * Metadata entry attached to the messages sent to the incoming channels.
+     */
+    public static class Origin {
+
+        private final String value;
+
+        public Origin(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.deduplication;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Deduplicate;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class DeduplicationBean {
+
+    public static final long TTL = 300;
+    public static final int MAX_SIZE = 2;
+
+    private final List<String> payloads = new CopyOnWriteArrayList<>();
+    private final List<String> orders = new CopyOnWriteArrayList<>();
+    private final List<String> expiring = new CopyOnWriteArrayList<>();
+    private final List<String> failing = new CopyOnWriteArrayList<>();
+    private final List<String> bounded = new CopyOnWriteArrayList<>();
+
+    @Inject
+    @Channel("deduplication-payload")
+    private Emitter<String> payloadEmitter;
+
+    @Inject
+    @Channel("deduplication-key")
+    private Emitter<String> keyEmitter;
+
+    @Inject
+    @Channel("deduplication-ttl")
+    private Emitter<String> ttlEmitter;
+
+    @Inject
+    @Channel("deduplication-failure")
+    private Emitter<String> failureEmitter;
+
+    @Inject
+    @Channel("deduplication-bounded")
+    private Emitter<String> boundedEmitter;
+
+    @Incoming("deduplication-payload")
+    @Deduplicate
+    public void consumePayload(String payload) {
+        payloads.add(payload);
+    }
+
+    @Incoming("deduplication-key")
+    @Deduplicate(key = OrderIdExtractor.class)
+    public void consumeOrder(String order) {
+        orders.add(order);
+    }
+
+    @Incoming("deduplication-ttl")
+    @Deduplicate(ttl = TTL, ttlUnit = ChronoUnit.MILLIS)
+    public void consumeExpiring(String payload) {
+        expiring.add(payload);
+    }
+
+    @Incoming("deduplication-failure")
+    @Deduplicate
+    public void consumeFailing(String payload) {
+        failing.add(payload);
+        if (failing.size() == 1) {
+            throw new IllegalStateException("first attempt fails");
+        }
+    }
+
+    @Incoming("deduplication-bounded")
+    @Deduplicate(maxSize = MAX_SIZE)
+    public void consumeBounded(String payload) {
+        bounded.add(payload);
+    }
+
+    public Emitter<String> payloadEmitter() {
+        return payloadEmitter;
+    }
+
+    public Emitter<String> keyEmitter() {
+        return keyEmitter;
+    }
+
+    public Emitter<String> ttlEmitter() {
+        return ttlEmitter;
+    }
+
+    public Emitter<String> failureEmitter() {
+        return failureEmitter;
+    }
+
+    public Emitter<String> boundedEmitter() {
+        return boundedEmitter;
+    }
+
+    public List<String> payloads() {
+        return payloads;
+    }
+
+    public List<String> orders() {
+        return orders;
+    }
+
+    public List<String> expiring() {
+        return expiring;
+    }
+
+    public List<String> failing() {
+        return failing;
+    }
+
+    public List<String> bounded() {
+        return bounded;
+    }
+
+    /**
+     * Orders are formatted as {@code <id>:<revision>}, only the identifier is the key.
+     */
+    public static class OrderIdExtractor implements Deduplicate.KeyExtractor {
+
+        @Override
+        public Object extract(Message<?> message) {
+            String order = (String) message.getPayload();
+            return order.substring(0, order.indexOf(':'));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.deduplication;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.reactive.messaging.Deduplicate;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class DeduplicationMetricsBean {
+
+    public static final String CHANNEL_DEDUPLICATED = "channel-deduplicated";
+
+    private final AtomicInteger received = new AtomicInteger(0);
+
+    @Outgoing(CHANNEL_DEDUPLICATED)
+    public PublisherBuilder<String> produceWithDuplicates() {
+        return ReactiveStreams.of("a", "b", "a", "c", "b");
+    }
+
+    @Incoming(CHANNEL_DEDUPLICATED)
+    @Deduplicate
+    public void receive(String input) {
+        received.incrementAndGet();
+    }
+
+    public int getReceived() {
+        return received.get();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.deduplication;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricRegistry.Type;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+public class DeduplicationMetricsTest {
+
+    @Deployment
+    public static JavaArchive deployment() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(DeduplicationMetricsBean.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+
+        return archive;
+    }
+
+    @Inject
+    @RegistryType(type = Type.BASE)
+    private MetricRegistry metricRegistry;
+
+    @Inject
+    private DeduplicationMetricsBean bean;
+
+    @Test
+    public void testDeduplicationMetrics() {
+        Awaitility.await().until(bean::getReceived, equalTo(3));
+
+        Awaitility.await().until(() -> getCounter("mp.messaging.deduplication.hits").getCount(), equalTo(2L));
+        assertEquals(3, getCounter("mp.messaging.deduplication.misses").getCount());
+    }
+
+    private Counter getCounter(String name) {
+        Map<MetricID, Counter> counters =
+                metricRegistry.getCounters((id, m) -> id.getName().equals(name)
+                        && id.getTags().getOrDefault("channel", "")
+                                .equals(DeduplicationMetricsBean.CHANNEL_DEDUPLICATED));
+
+        assertThat(counters.entrySet(), hasSize(1));
+
+        return counters.values().iterator().next();
+    }
+}
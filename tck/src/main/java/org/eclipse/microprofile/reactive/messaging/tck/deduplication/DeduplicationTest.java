@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.deduplication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.reactive.messaging.tck.TckBase;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+
+public class DeduplicationTest extends TckBase {
+
+    @Deployment
+    public static Archive<JavaArchive> deployment() {
+        return getBaseArchive()
+                .addClasses(DeduplicationBean.class, DeduplicationBean.OrderIdExtractor.class);
+    }
+
+    @Inject
+    private DeduplicationBean bean;
+
+    @Test
+    public void testThatDuplicatesAreAckedWithoutCallingTheMethod() {
+        bean.payloadEmitter().send("a");
+        bean.payloadEmitter().send("b");
+        CompletionStage<Void> duplicate = bean.payloadEmitter().send("a");
+        bean.payloadEmitter().send("c");
+
+        await().until(() -> bean.payloads().size() == 3);
+        assertThat(bean.payloads()).containsExactly("a", "b", "c");
+        await().until(() -> duplicate.toCompletableFuture().isDone());
+        assertThat(duplicate.toCompletableFuture()).isCompleted();
+    }
+
+    @Test
+    public void testThatTheKeyExtractorIsUsed() {
+        bean.keyEmitter().send("1:first");
+        bean.keyEmitter().send("2:first");
+        bean.keyEmitter().send("1:second");
+        bean.keyEmitter().send("3:first");
+
+        await().until(() -> bean.orders().size() == 3);
+        await().during(200, TimeUnit.MILLISECONDS).atMost(1, TimeUnit.SECONDS)
+                .until(() -> bean.orders().size() == 3);
+        assertThat(bean.orders()).containsExactly("1:first", "2:first", "3:first");
+    }
+
+    @Test
+    public void testThatKeysExpire() throws InterruptedException {
+        bean.ttlEmitter().send("x");
+        bean.ttlEmitter().send("x");
+        await().until(() -> bean.expiring().size() == 1);
+
+        Thread.sleep(2 * DeduplicationBean.TTL);
+        bean.ttlEmitter().send("x");
+        await().until(() -> bean.expiring().size() == 2);
+    }
+
+    @Test
+    public void testThatFailedMessagesAreProcessedAgain() {
+        CompletableFuture<Void> first = bean.failureEmitter().send("retried").toCompletableFuture();
+        await().until(first::isDone);
+        assertThat(first).isCompletedExceptionally();
+
+        // The key of the failed message has been removed, so the redelivery is processed
+        CompletableFuture<Void> second = bean.failureEmitter().send("retried").toCompletableFuture();
+        await().until(second::isDone);
+        assertThat(second).isCompleted().isNotCompletedExceptionally();
+        assertThat(bean.failing()).containsExactly("retried", "retried");
+    }
+
+    @Test
+    public void testThatTheCacheIsBoundedByMaxSize() {
+        List<String> keys = Arrays.asList("k1", "k2", "k3");
+        keys.forEach(bean.boundedEmitter()::send);
+        await().until(() -> bean.bounded().size() == keys.size());
+
+        // The cache holds at most MAX_SIZE of the keys, so at least one of them is processed again
+        keys.forEach(bean.boundedEmitter()::send);
+        await().until(() -> bean.bounded().size() > keys.size());
+        assertThat(bean.bounded().subList(keys.size(), bean.bounded().size())).isSubsetOf(keys);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.deduplication;
+
+import java.util.ServiceLoader;
+
+import org.eclipse.microprofile.reactive.messaging.Deduplicate;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
+import org.jboss.arquillian.container.test.api.Deployer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.ShouldThrowException;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+@RunWith(Arquillian.class)
+public class InvalidDeduplicateTest {
+
+    @Deployment(managed = false, name = "deduplicate-without-incoming")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> deduplicateWithoutIncoming() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(DeduplicateWithoutIncoming.class, Sink.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "deduplicate-on-subscriber")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> deduplicateOnSubscriber() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(DeduplicateOnSubscriber.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "deduplicate-invalid-max-size")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> deduplicateInvalidMaxSize() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(DeduplicateInvalidMaxSize.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "deduplicate-invalid-ttl")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> deduplicateInvalidTtl() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(DeduplicateInvalidTtl.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "deduplicate-key-without-constructor")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> deduplicateKeyWithoutConstructor() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(DeduplicateKeyWithoutConstructor.class, KeyWithoutConstructor.class, Source.class,
+                        ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @ArquillianResource
+    private Deployer deployer;
+
+    @Test
+    public void checkThatDeduplicateWithoutIncomingIsRejected() {
+        deployer.deploy("deduplicate-without-incoming");
+    }
+
+    @Test
+    public void checkThatDeduplicateOnAStreamConsumerIsRejected() {
+        deployer.deploy("deduplicate-on-subscriber");
+    }
+
+    @Test
+    public void checkThatNonPositiveMaxSizesAreRejected() {
+        deployer.deploy("deduplicate-invalid-max-size");
+    }
+
+    @Test
+    public void checkThatNonPositiveTtlsAreRejected() {
+        deployer.deploy("deduplicate-invalid-ttl");
+    }
+
+    @Test
+    public void checkThatKeyExtractorsWithoutNoArgumentConstructorAreRejected() {
+        deployer.deploy("deduplicate-key-without-constructor");
+    }
+
+    @ApplicationScoped
+    public static class Source {
+
+        @Outgoing("deduplicate-invalid")
+        public PublisherBuilder<String> source() {
+            return ReactiveStreams.of("a", "b");
+        }
+    }
+
+    @ApplicationScoped
+    public static class Sink {
+
+        @Incoming("deduplicate-invalid")
+        public void consume(String payload) {
+            // Valid consumer
+        }
+    }
+
+    @ApplicationScoped
+    public static class DeduplicateWithoutIncoming {
+
+        @Outgoing("deduplicate-invalid")
+        @Deduplicate
+        public PublisherBuilder<String> source() {
+            return ReactiveStreams.of("a", "b");
+        }
+    }
+
+    @ApplicationScoped
+    public static class DeduplicateOnSubscriber {
+
+        @Incoming("deduplicate-invalid")
+        @Deduplicate
+        public SubscriberBuilder<String, Void> consume() {
+            return ReactiveStreams.<String>builder().ignore();
+        }
+    }
+
+    @ApplicationScoped
+    public static class DeduplicateInvalidMaxSize {
+
+        @Incoming("deduplicate-invalid")
+        @Deduplicate(maxSize = 0)
+        public void consume(String payload) {
+            // Not called
+        }
+    }
+
+    @ApplicationScoped
+    public static class DeduplicateInvalidTtl {
+
+        @Incoming("deduplicate-invalid")
+        @Deduplicate(ttl = 0)
+        public void consume(String payload) {
+            // Not called
+        }
+    }
+
+    @ApplicationScoped
+    public static class DeduplicateKeyWithoutConstructor {
+
+        @Incoming("deduplicate-invalid")
+        @Deduplicate(key = KeyWithoutConstructor.class)
+        public void consume(String payload) {
+            // Not called
+        }
+    }
+
+    public static class KeyWithoutConstructor implements Deduplicate.KeyExtractor {
+
+        private final String prefix;
+
+        public KeyWithoutConstructor(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Object extract(Message<?> message) {
+            return prefix + message.getPayload();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.microprofile.reactive.messaging.tck.executor.ExecutorBean.CONFIGURED;
+import static org.eclipse.microprofile.reactive.messaging.tck.executor.ExecutorBean.CPU_POOL;
+import static org.eclipse.microprofile.reactive.messaging.tck.executor.ExecutorBean.LATENCY_POOL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import org.eclipse.microprofile.reactive.messaging.ExecuteOn;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+public class ExecuteOnTest {
+
+    @Deployment
+    public static JavaArchive deployment() {
+        ConfigAsset config = new ConfigAsset()
+                .put(ExecuteOn.POOL_PREFIX + CPU_POOL + "." + ExecuteOn.SIZE_ATTRIBUTE, "2")
+                .put(ExecuteOn.POOL_PREFIX + LATENCY_POOL + "." + ExecuteOn.SIZE_ATTRIBUTE, "1")
+                .put("mp.messaging.incoming." + CONFIGURED + "." + ExecuteOn.POOL_ATTRIBUTE, ApplicationPool.NAME);
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(ExecutorBean.class, ApplicationPool.class, ConfigAsset.class, ArchiveExtender.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+
+        return archive;
+    }
+
+    @Inject
+    private ExecutorBean bean;
+
+    @Test
+    public void testThatChannelsRunOnTheirOwnPools() {
+        List<String> payloads = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            payloads.add(Integer.toString(i));
+            bean.cpu().send(Integer.toString(i));
+            bean.latency().send(Integer.toString(i));
+        }
+        await().until(() -> bean.cpuPayloads().size() == 10 && bean.latencyPayloads().size() == 10);
+
+        // Invocations are sequential by default, so the order is preserved
+        assertThat(bean.cpuPayloads()).containsExactlyElementsOf(payloads);
+        assertThat(bean.cpuThreads()).hasSizeBetween(1, 2).doesNotContain(Thread.currentThread());
+        assertThat(bean.latencyThreads()).hasSize(1).doesNotContain(Thread.currentThread());
+        assertThat(bean.cpuThreads()).doesNotContainAnyElementsOf(bean.latencyThreads());
+    }
+
+    @Test
+    public void testThatTheConcurrencyAllowsOverlappingInvocations() {
+        bean.concurrent().send("a");
+        bean.concurrent().send("b");
+        await().until(() -> bean.overlapping() == 2);
+    }
+
+    @Test
+    public void testThatApplicationPoolsAreUsed() {
+        bean.application().send("a");
+        bean.configured().send("b");
+        await().until(() -> !bean.applicationThreads().isEmpty() && !bean.configuredThreads().isEmpty());
+
+        assertThat(bean.applicationThreads()).allMatch(name -> name.startsWith(ApplicationPool.THREAD_PREFIX));
+        assertThat(bean.configuredThreads()).allMatch(name -> name.startsWith(ApplicationPool.THREAD_PREFIX));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.executor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.ExecuteOn;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Consumes channels bound to different pools, recording the threads running each method.
+ */
+@ApplicationScoped
+public class ExecutorBean {
+
+    public static final String CPU_POOL = "executor-cpu-pool";
+    public static final String LATENCY_POOL = "executor-latency-pool";
+
+    public static final String CPU = "executor-cpu";
+    public static final String LATENCY = "executor-latency";
+    public static final String CONCURRENT = "executor-concurrent";
+    public static final String APPLICATION = "executor-application";
+    public static final String CONFIGURED = "executor-configured";
+
+    private final List<String> cpuPayloads = new CopyOnWriteArrayList<>();
+    private final Set<Thread> cpuThreads = new CopyOnWriteArraySet<>();
+    private final List<String> latencyPayloads = new CopyOnWriteArrayList<>();
+    private final Set<Thread> latencyThreads = new CopyOnWriteArraySet<>();
+    private final Set<String> applicationThreads = new CopyOnWriteArraySet<>();
+    private final Set<String> configuredThreads = new CopyOnWriteArraySet<>();
+    private final CyclicBarrier barrier = new CyclicBarrier(2);
+    private final AtomicInteger overlapping = new AtomicInteger();
+
+    @Inject
+    @Channel(CPU)
+    private Emitter<String> cpu;
+
+    @Inject
+    @Channel(LATENCY)
+    private Emitter<String> latency;
+
+    @Inject
+    @Channel(CONCURRENT)
+    private Emitter<String> concurrent;
+
+    @Inject
+    @Channel(APPLICATION)
+    private Emitter<String> application;
+
+    @Inject
+    @Channel(CONFIGURED)
+    private Emitter<String> configured;
+
+    @Incoming(CPU)
+    @ExecuteOn(CPU_POOL)
+    public void cpu(String payload) {
+        cpuThreads.add(Thread.currentThread());
+        cpuPayloads.add(payload);
+    }
+
+    @Incoming(LATENCY)
+    @ExecuteOn(LATENCY_POOL)
+    public void latency(String payload) {
+        latencyThreads.add(Thread.currentThread());
+        latencyPayloads.add(payload);
+    }
+
+    /**
+     * Waits for another invocation to be in progress, which only happens if invocations run concurrently.
+     */
+    @Incoming(CONCURRENT)
+    @ExecuteOn(value = CPU_POOL, concurrency = 2)
+    public void concurrent(String payload) throws InterruptedException {
+        cpuThreads.add(Thread.currentThread());
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+            overlapping.incrementAndGet();
+        } catch (BrokenBarrierException | TimeoutException e) {
+            // Not concurrent, overlapping is not incremented
+        }
+    }
+
+    @Incoming(APPLICATION)
+    @ExecuteOn(ApplicationPool.NAME)
+    public void application(String payload) {
+        applicationThreads.add(Thread.currentThread().getName());
+    }
+
+    /**
+     * Bound to the application pool by the configuration.
+     */
+    @Incoming(CONFIGURED)
+    public void configured(String payload) {
+        configuredThreads.add(Thread.currentThread().getName());
+    }
+
+    public Emitter<String> cpu() {
+        return cpu;
+    }
+
+    public Emitter<String> latency() {
+        return latency;
+    }
+
+    public Emitter<String> concurrent() {
+        return concurrent;
+    }
+
+    public Emitter<String> application() {
+        return application;
+    }
+
+    public Emitter<String> configured() {
+        return configured;
+    }
+
+    public List<String> cpuPayloads() {
+        return cpuPayloads;
+    }
+
+    public Set<Thread> cpuThreads() {
+        return cpuThreads;
+    }
+
+    public List<String> latencyPayloads() {
+        return latencyPayloads;
+    }
+
+    public Set<Thread> latencyThreads() {
+        return latencyThreads;
+    }
+
+    public Set<String> applicationThreads() {
+        return applicationThreads;
+    }
+
+    public Set<String> configuredThreads() {
+        return configuredThreads;
+    }
+
+    /**
+     * @return the number of invocations of {@link #concurrent(String)} that overlapped with another one
+     */
+    public int overlapping() {
+        return overlapping.get();
+    }
+}
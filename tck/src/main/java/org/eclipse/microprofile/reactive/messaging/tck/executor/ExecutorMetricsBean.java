@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.executor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.reactive.messaging.ExecuteOn;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class ExecutorMetricsBean {
+
+    public static final String CHANNEL_POOLED = "channel-pooled";
+    public static final String POOL = "metrics-pool";
+
+    private final AtomicInteger received = new AtomicInteger(0);
+
+    @Outgoing(CHANNEL_POOLED)
+    public PublisherBuilder<String> produce() {
+        return ReactiveStreams.of("a", "b", "c", "d");
+    }
+
+    @Incoming(CHANNEL_POOLED)
+    @ExecuteOn(value = POOL, concurrency = 2)
+    public void receive(String input) throws InterruptedException {
+        // The pool has a single thread, so the other invocation waits
+        Thread.sleep(100);
+        received.incrementAndGet();
+    }
+
+    public int getReceived() {
+        return received.get();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.executor;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricRegistry.Type;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.eclipse.microprofile.reactive.messaging.ExecuteOn;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+public class ExecutorMetricsTest {
+
+    @Deployment
+    public static JavaArchive deployment() {
+        ConfigAsset config = new ConfigAsset()
+                .put(ExecuteOn.POOL_PREFIX + ExecutorMetricsBean.POOL + "." + ExecuteOn.SIZE_ATTRIBUTE, "1");
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(ExecutorMetricsBean.class, ConfigAsset.class, ArchiveExtender.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+
+        return archive;
+    }
+
+    @Inject
+    @RegistryType(type = Type.BASE)
+    private MetricRegistry metricRegistry;
+
+    @Inject
+    private ExecutorMetricsBean bean;
+
+    @Test
+    public void testPoolMetrics() {
+        Awaitility.await().until(bean::getReceived, equalTo(4));
+
+        Map<MetricID, Counter> saturation = metricRegistry.getCounters((id, m) -> id.getName()
+                .equals("mp.messaging.pool.saturation")
+                && id.getTags().getOrDefault("pool", "").equals(ExecutorMetricsBean.POOL));
+        assertThat(saturation.entrySet(), hasSize(1));
+        assertThat(saturation.values().iterator().next().getCount(), greaterThanOrEqualTo(1L));
+
+        Awaitility.await().until(() -> getPoolGaugeValue("mp.messaging.pool.active"), equalTo(0L));
+        assertEquals(0L, getPoolGaugeValue("mp.messaging.pool.queued"));
+    }
+
+    private long getPoolGaugeValue(String name) {
+        Map<MetricID, Gauge> gauges = metricRegistry.getGauges((id, m) -> id.getName().equals(name)
+                && id.getTags().getOrDefault("pool", "").equals(ExecutorMetricsBean.POOL));
+
+        assertThat(gauges.entrySet(), hasSize(1));
+
+        return ((Number) gauges.values().iterator().next().getValue()).longValue();
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.executor;
+
+import java.util.ServiceLoader;
+
+import org.eclipse.microprofile.reactive.messaging.ExecuteOn;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.jboss.arquillian.container.test.api.Deployer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.ShouldThrowException;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+@RunWith(Arquillian.class)
+public class InvalidExecuteOnTest {
+
+    private static final String POOL = "executeon-invalid-pool";
+
+    @Deployment(managed = false, name = "executeon-without-incoming")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> executeOnWithoutIncoming() {
+        ConfigAsset config = new ConfigAsset()
+                .put(ExecuteOn.POOL_PREFIX + POOL + "." + ExecuteOn.SIZE_ATTRIBUTE, "1");
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(ExecuteOnWithoutIncoming.class, Sink.class, ConfigAsset.class, ArchiveExtender.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "executeon-blank-name")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> executeOnBlankName() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(ExecuteOnBlankName.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "executeon-invalid-concurrency")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> executeOnInvalidConcurrency() {
+        ConfigAsset config = new ConfigAsset()
+                .put(ExecuteOn.POOL_PREFIX + POOL + "." + ExecuteOn.SIZE_ATTRIBUTE, "1");
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(ExecuteOnInvalidConcurrency.class, Source.class, ConfigAsset.class, ArchiveExtender.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "executeon-invalid-size")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> executeOnInvalidSize() {
+        ConfigAsset config = new ConfigAsset()
+                .put(ExecuteOn.POOL_PREFIX + POOL + "." + ExecuteOn.SIZE_ATTRIBUTE, "0");
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(ExecuteOnPool.class, Source.class, ConfigAsset.class, ArchiveExtender.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "executeon-unknown-pool")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> executeOnUnknownPool() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(ExecuteOnPool.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "executeon-unsupported-virtual-threads")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> executeOnUnsupportedVirtualThreads() {
+        ConfigAsset config = new ConfigAsset()
+                .put(ExecuteOn.POOL_PREFIX + POOL + "." + ExecuteOn.VIRTUAL_THREADS_ATTRIBUTE, "true");
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(ExecuteOnPool.class, Source.class, ConfigAsset.class, ArchiveExtender.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    private static boolean supportsVirtualThreads() {
+        try {
+            Thread.class.getMethod("ofVirtual").invoke(null);
+            return true;
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    @ArquillianResource
+    private Deployer deployer;
+
+    @Test
+    public void checkThatExecuteOnWithoutIncomingIsRejected() {
+        deployer.deploy("executeon-without-incoming");
+    }
+
+    @Test
+    public void checkThatBlankPoolNamesAreRejected() {
+        deployer.deploy("executeon-blank-name");
+    }
+
+    @Test
+    public void checkThatNonPositiveConcurrenciesAreRejected() {
+        deployer.deploy("executeon-invalid-concurrency");
+    }
+
+    @Test
+    public void checkThatNonPositiveSizesAreRejected() {
+        deployer.deploy("executeon-invalid-size");
+    }
+
+    @Test
+    public void checkThatUnknownPoolsAreRejected() {
+        deployer.deploy("executeon-unknown-pool");
+    }
+
+    @Test
+    public void checkThatVirtualThreadsAreRejectedWhenUnsupported() {
+        Assume.assumeFalse("This runtime supports virtual threads", supportsVirtualThreads());
+        deployer.deploy("executeon-unsupported-virtual-threads");
+    }
+
+    @ApplicationScoped
+    public static class Source {
+
+        @Outgoing("executeon-invalid")
+        public PublisherBuilder<String> source() {
+            return ReactiveStreams.of("a", "b");
+        }
+    }
+
+    @ApplicationScoped
+    public static class Sink {
+
+        @Incoming("executeon-invalid")
+        public void consume(String payload) {
+            // Valid consumer
+        }
+    }
+
+    @ApplicationScoped
+    public static class ExecuteOnWithoutIncoming {
+
+        @Outgoing("executeon-invalid")
+        @ExecuteOn(POOL)
+        public PublisherBuilder<String> source() {
+            return ReactiveStreams.of("a", "b");
+        }
+    }
+
+    @ApplicationScoped
+    public static class ExecuteOnBlankName {
+
+        @Incoming("executeon-invalid")
+        @ExecuteOn(" ")
+        public void consume(String payload) {
+            // Not called
+        }
+    }
+
+    @ApplicationScoped
+    public static class ExecuteOnInvalidConcurrency {
+
+        @Incoming("executeon-invalid")
+        @ExecuteOn(value = POOL, concurrency = 0)
+        public void consume(String payload) {
+            // Not called
+        }
+    }
+
+    @ApplicationScoped
+    public static class ExecuteOnPool {
+
+        @Incoming("executeon-invalid")
+        @ExecuteOn(POOL)
+        public void consume(String payload) {
+            // Not called
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.filelog;
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import org.eclipse.microprofile.reactive.messaging.spi.Codec;
+
+/**
+ * Encodes the payloads of an outgoing channel with a {@link Codec}, reusing the same output buffer for every record.
+ * The buffer grows when the codec overflows it, up to the largest record fitting in a segment. Records are appended one
+ * at a time, so a single buffer per channel is enough.
+ */
+final class EncodingBuffer {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Codec<Object> codec;
+    private final int maxCapacity;
+    private ByteBuffer buffer;
+
+    EncodingBuffer(Codec<Object> codec, int maxCapacity) {
+        this.codec = codec;
+        this.maxCapacity = maxCapacity;
+        this.buffer = ByteBuffer.allocate(Math.min(INITIAL_CAPACITY, maxCapacity));
+    }
+
+    /**
+     * Encodes a payload.
+     *
+     * @param payload
+     *            the payload
+     * @return the pooled buffer containing the encoded payload, valid until the next call
+     * @throws IllegalArgumentException
+     *             if the payload cannot be encoded, or its encoded form does not fit in a segment
+     */
+    ByteBuffer encode(Object payload) {
+        int estimate = codec.estimateSize(payload);
+        if (estimate > buffer.capacity()) {
+            buffer = ByteBuffer.allocate(Math.min(estimate, maxCapacity));
+        }
+        for (;;) {
+            ((Buffer) buffer).clear();
+            try {
+                codec.encode(payload, buffer);
+                ((Buffer) buffer).flip();
+                return buffer;
+            } catch (BufferOverflowException e) {
+                if (buffer.capacity() >= maxCapacity) {
+                    throw new IllegalArgumentException("The encoded payload does not fit in a segment of the log", e);
+                }
+                buffer = ByteBuffer.allocate((int) Math.min((long) buffer.capacity() * 2, maxCapacity));
+            }
+        }
+    }
+}
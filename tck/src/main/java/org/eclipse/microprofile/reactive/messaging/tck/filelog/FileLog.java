@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.filelog;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * An append-only log stored in memory-mapped segment files.
+ * <p>
+ * The log is addressed by byte offsets. The segment containing an offset is the file named after the offset rounded
+ * down to a multiple of the segment size, so locating a record never requires an index. Each record is a 4-byte header
+ * followed by the payload. The header contains the payload length plus one, so that zero identifies space that has not
+ * been written yet, and {@code -1} marks the end of a segment when the next record does not fit in it.
+ * <p>
+ * Readers of the process writing the log only read the records preceding the end published by the writer, which makes
+ * the whole records visible. Readers in other processes mapping the same files detect new records with their header,
+ * which is written after the payload. A single process must write to a given log.
+ * <p>
+ * A crash between the write of a payload and the write of its header leaves the payload in the segment without header.
+ * Before its first append, the writer zeroes the segment after the end recovered when the log was opened, so that the
+ * bytes of such a payload following a shorter record are not read as records by the other processes.
+ */
+final class FileLog {
+
+    static final int HEADER_SIZE = 4;
+    private static final int END_OF_SEGMENT = -1;
+    private static final String SEGMENT_EXTENSION = ".segment";
+
+    private final Path directory;
+    private final String name;
+    private final int segmentSize;
+    private final Map<Long, MappedByteBuffer> segments = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    /**
+     * The offset following the last record appended by this process. Written after the record header, so that readers
+     * of the same process reading it first see the whole record.
+     */
+    private final AtomicLong end = new AtomicLong();
+
+    /**
+     * Whether this process writes to the log, in which case readers must not read past {@link #end}.
+     */
+    private volatile boolean writer;
+
+    /**
+     * Whether the space following the recovered end has been zeroed. Guarded by {@link #writeLock}.
+     */
+    private boolean cleared;
+
+    FileLog(Path directory, String name, int segmentSize) throws IOException {
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("The segment size must be greater than " + HEADER_SIZE);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.name = name;
+        this.segmentSize = segmentSize;
+        this.end.set(recover());
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * @return the offset following the last record of the log
+     */
+    long end() {
+        return end.get();
+    }
+
+    /**
+     * Declares that this process writes to the log. Must be called before the records appended by this process are
+     * read.
+     */
+    void openForWriting() {
+        writer = true;
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param payload
+     *            the payload, its content is copied into the log, its position is not modified
+     * @param sync
+     *            whether the segment must be flushed to the storage device before returning
+     * @return the offset of the record
+     * @throws IOException
+     *             if the segment cannot be created
+     * @throws IllegalArgumentException
+     *             if the record does not fit in a segment
+     */
+    long append(ByteBuffer payload, boolean sync) throws IOException {
+        int length = payload.remaining();
+        if (HEADER_SIZE + length > segmentSize) {
+            throw new IllegalArgumentException("The record (" + length + " bytes) does not fit in a segment of "
+                    + segmentSize + " bytes");
+        }
+        writer = true;
+        synchronized (writeLock) {
+            long position = end.get();
+            if (!cleared) {
+                clear(position);
+                cleared = true;
+            }
+            long base = base(position);
+            int offsetInSegment = (int) (position - base);
+            MappedByteBuffer segment = segment(base, true);
+            if (offsetInSegment + HEADER_SIZE + length > segmentSize) {
+                if (offsetInSegment + HEADER_SIZE <= segmentSize) {
+                    segment.putInt(offsetInSegment, END_OF_SEGMENT);
+                }
+                if (sync) {
+                    segment.force();
+                }
+                base += segmentSize;
+                position = base;
+                offsetInSegment = 0;
+                segment = segment(base, true);
+            }
+            ByteBuffer target = ((ByteBuffer) segment).duplicate();
+            ((Buffer) target).position(offsetInSegment + HEADER_SIZE);
+            target.put(payload.duplicate());
+            segment.putInt(offsetInSegment, length + 1);
+            if (sync) {
+                segment.force();
+            }
+            end.set(position + HEADER_SIZE + length);
+            return position;
+        }
+    }
+
+    /**
+     * Reads the record at the given offset, or the first record of the next segment if the offset points to the end of
+     * a segment.
+     *
+     * @param offset
+     *            the offset
+     * @return the record, {@code null} if no record has been written at this offset yet
+     * @throws IOException
+     *             if the segment cannot be mapped
+     */
+    Record read(long offset) throws IOException {
+        // Volatile read, so the records preceding the published end are fully visible
+        long published = end.get();
+        long position = offset;
+        for (;;) {
+            if (writer && position >= published) {
+                // The record may be being written by this process
+                return null;
+            }
+            long base = base(position);
+            int offsetInSegment = (int) (position - base);
+            if (offsetInSegment + HEADER_SIZE > segmentSize) {
+                position = base + segmentSize;
+                continue;
+            }
+            MappedByteBuffer segment = segment(base, false);
+            if (segment == null) {
+                return null;
+            }
+            int header = segment.getInt(offsetInSegment);
+            if (header == 0) {
+                return null;
+            }
+            if (header == END_OF_SEGMENT) {
+                position = base + segmentSize;
+                continue;
+            }
+            int length = header - 1;
+            ByteBuffer payload = ((ByteBuffer) segment).duplicate();
+            ((Buffer) payload).limit(offsetInSegment + HEADER_SIZE + length);
+            ((Buffer) payload).position(offsetInSegment + HEADER_SIZE);
+            return new Record(position, position + HEADER_SIZE + length, payload.slice().asReadOnlyBuffer());
+        }
+    }
+
+    /**
+     * Zeroes the segment containing the given offset, from this offset to the end of the segment.
+     */
+    private void clear(long offset) throws IOException {
+        long base = base(offset);
+        MappedByteBuffer segment = segment(base, false);
+        if (segment == null) {
+            return;
+        }
+        ByteBuffer target = ((ByteBuffer) segment).duplicate();
+        ((Buffer) target).position((int) (offset - base));
+        while (target.remaining() >= Long.BYTES) {
+            target.putLong(0L);
+        }
+        while (target.hasRemaining()) {
+            target.put((byte) 0);
+        }
+        segment.force();
+    }
+
+    private long base(long offset) {
+        return offset - offset % segmentSize;
+    }
+
+    private MappedByteBuffer segment(long base, boolean create) throws IOException {
+        MappedByteBuffer segment = segments.get(base);
+        if (segment != null) {
+            return segment;
+        }
+        Path file = directory.resolve(String.format("%s-%020d%s", name, base, SEGMENT_EXTENSION));
+        if (!create && (!Files.exists(file) || Files.size(file) < segmentSize)) {
+            return null;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            if (raf.length() < segmentSize) {
+                raf.setLength(segmentSize);
+            }
+            // The mapping remains valid once the file is closed
+            segment = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        MappedByteBuffer existing = segments.putIfAbsent(base, segment);
+        return existing == null ? segment : existing;
+    }
+
+    private long recover() throws IOException {
+        long last = -1;
+        String prefix = name + "-";
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String fileName = file.getFileName().toString();
+                if (fileName.startsWith(prefix) && fileName.endsWith(SEGMENT_EXTENSION)) {
+                    String base = fileName.substring(prefix.length(), fileName.length() - SEGMENT_EXTENSION.length());
+                    try {
+                        last = Math.max(last, Long.parseLong(base));
+                    } catch (NumberFormatException e) {
+                        // Not a segment of this log
+                    }
+                }
+            }
+        }
+        if (last < 0) {
+            return 0;
+        }
+        MappedByteBuffer segment = segment(last, true);
+        int offsetInSegment = 0;
+        while (offsetInSegment + HEADER_SIZE <= segmentSize) {
+            int header = segment.getInt(offsetInSegment);
+            if (header == 0) {
+                return last + offsetInSegment;
+            }
+            if (header == END_OF_SEGMENT) {
+                break;
+            }
+            if (header < 1 || header - 1 > segmentSize - HEADER_SIZE - offsetInSegment) {
+                // Partially written or corrupted record, the log ends before it and the writer clears it before its
+                // next append
+                return last + offsetInSegment;
+            }
+            offsetInSegment += HEADER_SIZE + header - 1;
+        }
+        return last + segmentSize;
+    }
+
+    /**
+     * A record read from the log.
+     */
+    static final class Record {
+        private final long offset;
+        private final long next;
+        private final ByteBuffer payload;
+
+        Record(long offset, long next, ByteBuffer payload) {
+            this.offset = offset;
+            this.next = next;
+            this.payload = payload;
+        }
+
+        /**
+         * @return the offset of the record
+         */
+        long offset() {
+            return offset;
+        }
+
+        /**
+         * @return the offset of the next record
+         */
+        long next() {
+            return next;
+        }
+
+        /**
+         * @return a read-only view of the payload in the mapped segment
+         */
+        ByteBuffer payload() {
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.filelog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class FileLogCodecBean {
+
+    public static final String OUT = "file-log-codec-out";
+    public static final String IN = "file-log-codec-in";
+
+    public static final int COUNT = 20;
+
+    /**
+     * The index of the point whose label does not fit in the initial output buffer of the connector.
+     */
+    public static final int LARGE = 10;
+
+    private final List<Point> received = new CopyOnWriteArrayList<>();
+
+    public static List<Point> points() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            String label = i == LARGE ? String.join("", Collections.nCopies(1000, "x")) : "point-" + i;
+            points.add(new Point(label, i, -i));
+        }
+        return points;
+    }
+
+    @Outgoing(OUT)
+    public PublisherBuilder<Point> produce() {
+        return ReactiveStreams.fromIterable(points());
+    }
+
+    @Incoming(IN)
+    public void consume(Point point) {
+        received.add(point);
+    }
+
+    public List<Point> received() {
+        return received;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.filelog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ServiceLoader;
+
+import org.eclipse.microprofile.reactive.messaging.spi.CodecFactory;
+import org.eclipse.microprofile.reactive.messaging.spi.CodecName;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.messaging.tck.Payloads;
+import org.eclipse.microprofile.reactive.messaging.tck.TemporaryFiles;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+/*
+ * Tests the codec SPI with the file-log connector: payloads are encoded and decoded by the codec named in the
+ * configuration of the channels, created once per channel, and encoded into a reused output buffer.
+ */
+@RunWith(Arquillian.class)
+public class FileLogCodecTest {
+
+    private static Path temporaryDirectory;
+
+    @Deployment
+    public static JavaArchive deployment() throws IOException {
+        temporaryDirectory = Files.createTempDirectory("mp-rm-file-log-codec");
+        String directory = temporaryDirectory.toString();
+        String codec = CodecFactory.VALUE_CODEC_ATTRIBUTE;
+        ConfigAsset config = new ConfigAsset()
+                .put("mp.messaging.outgoing.file-log-codec-out.connector", FileLogConnector.ID)
+                .put("mp.messaging.outgoing.file-log-codec-out.directory", directory)
+                .put("mp.messaging.outgoing.file-log-codec-out.log", "points")
+                .put("mp.messaging.outgoing.file-log-codec-out.segment-size", "4096")
+                .put("mp.messaging.outgoing.file-log-codec-out." + codec, PointCodecFactory.NAME)
+                .put("mp.messaging.incoming.file-log-codec-in.connector", FileLogConnector.ID)
+                .put("mp.messaging.incoming.file-log-codec-in.directory", directory)
+                .put("mp.messaging.incoming.file-log-codec-in.log", "points")
+                .put("mp.messaging.incoming.file-log-codec-in.segment-size", "4096")
+                .put("mp.messaging.incoming.file-log-codec-in.poll-interval", "10")
+                .put("mp.messaging.incoming.file-log-codec-in." + codec, PointCodecFactory.NAME);
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(FileLogCodecBean.class, Point.class, PointCodecFactory.class, FileLogConnector.class,
+                        FileLogConnectorIncomingConfiguration.class, FileLogConnectorOutgoingConfiguration.class,
+                        FileLog.class, FileLog.Record.class, FileLogMessage.class, FileLogPublisher.class,
+                        OffsetStore.class, EncodingBuffer.class, ConfigAsset.class, ArchiveExtender.class,
+                        Payloads.class, TemporaryFiles.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+
+        return archive;
+    }
+
+    @AfterClass
+    public static void deleteDirectory() throws IOException {
+        TemporaryFiles.delete(temporaryDirectory);
+    }
+
+    @Inject
+    private FileLogCodecBean bean;
+
+    @Inject
+    @CodecName(PointCodecFactory.NAME)
+    private PointCodecFactory codecs;
+
+    @Test
+    public void testThatPayloadsAreEncodedAndDecodedByTheCodec() {
+        await().until(() -> bean.received().size() == FileLogCodecBean.COUNT);
+        assertThat(bean.received()).containsExactlyElementsOf(FileLogCodecBean.points());
+    }
+
+    @Test
+    public void testThatCodecsAreCreatedOncePerChannel() {
+        await().until(() -> bean.received().size() == FileLogCodecBean.COUNT);
+        assertThat(codecs.channels()).containsExactlyInAnyOrder(FileLogCodecBean.OUT, FileLogCodecBean.IN);
+    }
+
+    @Test
+    public void testThatTheOutputBufferIsReused() {
+        await().until(() -> bean.received().size() == FileLogCodecBean.COUNT);
+        // The initial buffer of 256 bytes, then the buffers of 512 and 1024 bytes allocated for the large point
+        assertThat(codecs.outputs()).isEqualTo(3);
+    }
+}
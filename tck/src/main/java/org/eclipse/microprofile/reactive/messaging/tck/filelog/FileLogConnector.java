@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.filelog;
+
+import static org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttribute.Direction.INCOMING;
+import static org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttribute.Direction.INCOMING_AND_OUTGOING;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.Codec;
+import org.eclipse.microprofile.reactive.messaging.spi.CodecFactory;
+import org.eclipse.microprofile.reactive.messaging.spi.CodecNameLiteral;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttribute;
+import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
+import org.eclipse.microprofile.reactive.messaging.spi.OutgoingConnectorFactory;
+import org.eclipse.microprofile.reactive.messaging.tck.Payloads;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+/**
+ * A connector storing messages in a local, durable, append-only log, without any broker.
+ * <p>
+ * The log is stored in memory-mapped segment files, rolled when they are full. Outgoing channels append the payload of
+ * each message ({@code ByteBuffer}, {@code byte[]} or {@code String} encoded in UTF-8) and acknowledge the message once
+ * it is written. Incoming channels emit {@link FileLogMessage FileLogMessages} whose payload is a read-only view of the
+ * mapped segment, so no copy happens. Each consumer commits its offset when messages are acknowledged, and restarts
+ * from the committed offset, providing at-least-once delivery.
+ *
+ * <pre>
+ * mp.messaging.outgoing.orders-out.connector=file-log
+ * mp.messaging.outgoing.orders-out.directory=/var/lib/app/logs
+ * mp.messaging.outgoing.orders-out.log=orders
+ *
+ * mp.messaging.incoming.orders-in.connector=file-log
+ * mp.messaging.incoming.orders-in.directory=/var/lib/app/logs
+ * mp.messaging.incoming.orders-in.log=orders
+ * mp.messaging.incoming.orders-in.consumer=billing
+ * </pre>
+ * <p>
+ * When the {@code value.codec} attribute names a {@link CodecFactory}, outgoing channels encode payloads with the codec
+ * into a reused buffer, and incoming channels emit messages carrying the decoded payloads instead of
+ * {@link FileLogMessage FileLogMessages}.
+ * <p>
+ * A single process must write to a given log, but several processes can read it.
+ */
+@ApplicationScoped
+@Connector(FileLogConnector.ID)
+// @formatter:off
+@ConnectorAttribute(name = "directory", type = "string", direction = INCOMING_AND_OUTGOING, mandatory = true,
+        description = "The directory containing the log files")
+@ConnectorAttribute(name = "log", type = "string", direction = INCOMING_AND_OUTGOING,
+        description = "The name of the log, defaults to the channel name")
+@ConnectorAttribute(name = "segment-size", type = "int", direction = INCOMING_AND_OUTGOING, defaultValue = "1048576",
+        description = "The size of the segment files in bytes, must be the same for all the users of a log")
+@ConnectorAttribute(name = "sync", type = "boolean", direction = INCOMING_AND_OUTGOING, defaultValue = "false",
+        description = "Whether records and offsets are flushed to the storage device before acknowledging")
+@ConnectorAttribute(name = "consumer", type = "string", direction = INCOMING,
+        description = "The name under which offsets are committed, defaults to the channel name")
+@ConnectorAttribute(name = "poll-interval", type = "long", direction = INCOMING, defaultValue = "100",
+        description = "The delay in milliseconds before polling again once the end of the log is reached")
+@ConnectorAttribute(name = "on-nack", type = "string", direction = INCOMING, defaultValue = "fail",
+        description = "Either `fail` to fail the channel or `ignore` to commit the offset of nacked messages")
+@ConnectorAttribute(name = CodecFactory.VALUE_CODEC_ATTRIBUTE, type = "string", direction = INCOMING_AND_OUTGOING,
+        description = "The name of the codec of the payloads, payloads are written and read as bytes if not set")
+// @formatter:on
+public class FileLogConnector implements IncomingConnectorFactory, OutgoingConnectorFactory {
+
+    public static final String ID = "file-log";
+
+    private final Map<Path, FileLog> logs = new ConcurrentHashMap<>();
+    private final Map<String, FileLog> logsByChannel = new ConcurrentHashMap<>();
+    private final Map<String, OffsetStore> offsetsByChannel = new ConcurrentHashMap<>();
+    private final List<OffsetStore> offsets = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "file-log-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Inject
+    @Any
+    private Instance<CodecFactory> codecs;
+
+    @Override
+    public PublisherBuilder<? extends Message<?>> getPublisherBuilder(Config config) {
+        FileLogConnectorIncomingConfiguration configuration = FileLogConnectorIncomingConfiguration.of(config);
+        String channel = configuration.getChannel();
+        FileLog log = log(channel, configuration.getDirectory(), configuration.getLog(),
+                configuration.getSegmentSize());
+        String consumer = configuration.getConsumer().orElse(channel);
+        String onNack = configuration.getOnNack();
+        if (!onNack.equals("fail") && !onNack.equals("ignore")) {
+            throw new IllegalArgumentException("Invalid on-nack value for channel " + channel + ": " + onNack);
+        }
+        OffsetStore store;
+        try {
+            store = new OffsetStore(log.directory().resolve(log.name() + "-" + consumer + ".offset"),
+                    configuration.getSync());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to open the offsets of " + consumer + " for channel " + channel,
+                    e);
+        }
+        Codec<Object> codec = codec(channel, configuration.getValueCodec(), config);
+        offsets.add(store);
+        offsetsByChannel.put(channel, store);
+        PublisherBuilder<FileLogMessage> messages = ReactiveStreams.fromPublisher(
+                new FileLogPublisher(log, store, scheduler, configuration.getPollInterval(), onNack.equals("fail")));
+        if (codec == null) {
+            return messages;
+        }
+        return messages.flatMapIterable(message -> {
+            Object payload;
+            try {
+                payload = codec.decode(message.getPayload().duplicate());
+            } catch (IllegalArgumentException e) {
+                message.nack(e);
+                return Collections.emptyList();
+            }
+            return Collections.singletonList(message.withPayload(payload));
+        });
+    }
+
+    @Override
+    public SubscriberBuilder<? extends Message<?>, Void> getSubscriberBuilder(Config config) {
+        FileLogConnectorOutgoingConfiguration configuration = FileLogConnectorOutgoingConfiguration.of(config);
+        FileLog log = log(configuration.getChannel(), configuration.getDirectory(), configuration.getLog(),
+                configuration.getSegmentSize());
+        log.openForWriting();
+        boolean sync = configuration.getSync();
+        Codec<Object> codec = codec(configuration.getChannel(), configuration.getValueCodec(), config);
+        EncodingBuffer encoder = codec == null
+                ? null
+                : new EncodingBuffer(codec, configuration.getSegmentSize() - FileLog.HEADER_SIZE);
+        return ReactiveStreams.<Message<?>>builder().forEach(message -> {
+            try {
+                Object payload = message.getPayload();
+                log.append(encoder == null ? Payloads.toByteBuffer(payload) : encoder.encode(payload), sync);
+            } catch (IOException | IllegalArgumentException e) {
+                message.nack(e);
+                return;
+            }
+            message.ack();
+        });
+    }
+
+    /**
+     * @param channel
+     *            the name of a channel using the {@code file-log} connector
+     * @return the offset following the last record of the log used by the channel
+     * @throws IllegalArgumentException
+     *             if the channel does not exist
+     */
+    public long endOffset(String channel) {
+        FileLog log = logsByChannel.get(channel);
+        if (log == null) {
+            throw new IllegalArgumentException("No such channel registered: " + channel);
+        }
+        return log.end();
+    }
+
+    /**
+     * @param channel
+     *            the name of an incoming channel using the {@code file-log} connector
+     * @return the offset committed by the consumer of the channel
+     * @throws IllegalArgumentException
+     *             if the channel does not exist
+     */
+    public long committedOffset(String channel) {
+        OffsetStore store = offsetsByChannel.get(channel);
+        if (store == null) {
+            throw new IllegalArgumentException("No such incoming channel registered: " + channel);
+        }
+        return store.committed();
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.shutdownNow();
+        for (OffsetStore store : offsets) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                // Ignored, the offsets have already been written
+            }
+        }
+    }
+
+    private FileLog log(String channel, String directoryName, Optional<String> logName, int segmentSize) {
+        Path directory = Paths.get(directoryName).toAbsolutePath().normalize();
+        String name = logName.orElse(channel);
+        FileLog log;
+        try {
+            log = logs.computeIfAbsent(directory.resolve(name), path -> {
+                try {
+                    return new FileLog(directory, name, segmentSize);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw new IllegalArgumentException("Unable to open the log " + name + " for channel " + channel,
+                    e.getCause());
+        }
+        logsByChannel.put(channel, log);
+        return log;
+    }
+
+    /**
+     * Creates the codec of a channel, once, when the channel is created.
+     */
+    @SuppressWarnings("unchecked")
+    private Codec<Object> codec(String channel, Optional<String> name, Config config) {
+        if (!name.isPresent()) {
+            return null;
+        }
+        Instance<CodecFactory> factory = codecs.select(CodecNameLiteral.of(name.get()));
+        if (!factory.isResolvable()) {
+            throw new IllegalArgumentException("Unknown codec for channel " + channel + ": " + name.get());
+        }
+        return (Codec<Object>) factory.get().create(config);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.filelog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.messaging.tck.Payloads;
+import org.eclipse.microprofile.reactive.messaging.tck.TemporaryFiles;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+/*
+ * Conformance tests of the file-log connector: records written by an outgoing channel are read back in order, without
+ * copy, across several segments, offsets are only committed up to the first message that is not acknowledged, and a
+ * consumer reopened on the log resumes from its committed offset. A record torn by a crash is not read back.
+ */
+@RunWith(Arquillian.class)
+public class FileLogConnectorTest {
+
+    private static final String DIRECTORY_PROPERTY = "tck.file-log.directory";
+    private static final String LOG = "events";
+    private static final String PARTIAL_ACK_CONSUMER = "partial";
+    private static final String TORN_LOG = "torn";
+    private static final int SEGMENT_SIZE = 64;
+
+    private static Path temporaryDirectory;
+
+    @Deployment
+    public static JavaArchive deployment() throws IOException {
+        temporaryDirectory = Files.createTempDirectory("mp-rm-file-log");
+        String directory = temporaryDirectory.toString();
+        String segmentSize = Integer.toString(SEGMENT_SIZE);
+        ConfigAsset config = new ConfigAsset()
+                .put(DIRECTORY_PROPERTY, directory)
+                .put("mp.messaging.outgoing.file-log-out.connector", FileLogConnector.ID)
+                .put("mp.messaging.outgoing.file-log-out.directory", directory)
+                .put("mp.messaging.outgoing.file-log-out.log", LOG)
+                .put("mp.messaging.outgoing.file-log-out.segment-size", segmentSize)
+                .put("mp.messaging.incoming.file-log-in.connector", FileLogConnector.ID)
+                .put("mp.messaging.incoming.file-log-in.directory", directory)
+                .put("mp.messaging.incoming.file-log-in.log", LOG)
+                .put("mp.messaging.incoming.file-log-in.segment-size", segmentSize)
+                .put("mp.messaging.incoming.file-log-in.poll-interval", "10")
+                .put("mp.messaging.incoming.file-log-in-partial-ack.connector", FileLogConnector.ID)
+                .put("mp.messaging.incoming.file-log-in-partial-ack.directory", directory)
+                .put("mp.messaging.incoming.file-log-in-partial-ack.log", LOG)
+                .put("mp.messaging.incoming.file-log-in-partial-ack.segment-size", segmentSize)
+                .put("mp.messaging.incoming.file-log-in-partial-ack.consumer", PARTIAL_ACK_CONSUMER)
+                .put("mp.messaging.incoming.file-log-in-partial-ack.poll-interval", "10");
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(FileLogTestBean.class, FileLogConnector.class, FileLogConnectorIncomingConfiguration.class,
+                        FileLogConnectorOutgoingConfiguration.class, FileLog.class, FileLog.Record.class,
+                        FileLogMessage.class, FileLogPublisher.class, OffsetStore.class, EncodingBuffer.class,
+                        ConfigAsset.class, ArchiveExtender.class, Payloads.class,
+                        TemporaryFiles.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+
+        return archive;
+    }
+
+    @AfterClass
+    public static void deleteDirectory() throws IOException {
+        TemporaryFiles.delete(temporaryDirectory);
+    }
+
+    @Inject
+    @Connector(FileLogConnector.ID)
+    private FileLogConnector connector;
+
+    @Inject
+    private FileLogTestBean bean;
+
+    @Inject
+    @ConfigProperty(name = DIRECTORY_PROPERTY)
+    private String directory;
+
+    @Test
+    public void testThatRecordsAreReadInOrder() {
+        await().until(() -> bean.received().size() == FileLogTestBean.COUNT);
+        for (int i = 0; i < FileLogTestBean.COUNT; i++) {
+            assertThat(bean.received().get(i)).isEqualTo("event-" + i);
+        }
+    }
+
+    @Test
+    public void testThatPayloadsAreReadOnlyViews() {
+        await().until(() -> bean.readOnly().size() == FileLogTestBean.COUNT);
+        assertThat(bean.readOnly()).containsOnly(true);
+    }
+
+    @Test
+    public void testThatSegmentsAreRolled() throws IOException {
+        await().until(() -> bean.received().size() == FileLogTestBean.COUNT);
+        try (Stream<Path> files = Files.list(Paths.get(directory))) {
+            assertThat(files.filter(p -> p.getFileName().toString().endsWith(".segment")).count())
+                    .isGreaterThan(1);
+        }
+    }
+
+    @Test
+    public void testThatOffsetsAreCommittedOnAck() {
+        await().until(() -> bean.received().size() == FileLogTestBean.COUNT);
+        await().until(() -> connector.committedOffset(FileLogTestBean.IN) == connector
+                .endOffset(FileLogTestBean.OUT));
+    }
+
+    @Test
+    public void testThatOffsetsAreNotCommittedPastUnacknowledgedMessages() {
+        await().until(() -> bean.receivedWithPartialAck().size() == FileLogTestBean.COUNT);
+        // Give time to the acknowledgements of the following messages to be processed
+        await().until(() -> connector.committedOffset(FileLogTestBean.IN_PARTIAL_ACK) == bean.notAckedOffset());
+        assertThat(connector.committedOffset(FileLogTestBean.IN_PARTIAL_ACK))
+                .isLessThan(connector.endOffset(FileLogTestBean.OUT));
+    }
+
+    @Test
+    public void testThatAReopenedConsumerResumesFromTheCommittedOffset() throws Exception {
+        await().until(() -> bean.receivedWithPartialAck().size() == FileLogTestBean.COUNT);
+        await().until(() -> connector.committedOffset(FileLogTestBean.IN_PARTIAL_ACK) == bean.notAckedOffset());
+
+        // Reopen the log and the offsets of the consumer from the files, as a restarted application would
+        Path path = Paths.get(directory);
+        FileLog log = new FileLog(path, LOG, SEGMENT_SIZE);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try (OffsetStore offsets = new OffsetStore(path.resolve(LOG + "-" + PARTIAL_ACK_CONSUMER + ".offset"), false)) {
+            assertThat(offsets.committed()).isEqualTo(bean.notAckedOffset());
+            assertThat(log.end()).isEqualTo(connector.endOffset(FileLogTestBean.OUT));
+
+            // The message that was not acknowledged is delivered again, followed by the next ones
+            int remaining = FileLogTestBean.COUNT - FileLogTestBean.NOT_ACKED_INDEX;
+            List<String> redelivered = ReactiveStreams
+                    .fromPublisher(new FileLogPublisher(log, offsets, scheduler, 10, true))
+                    .limit(remaining)
+                    .map(message -> StandardCharsets.UTF_8.decode(message.getPayload()).toString())
+                    .toList()
+                    .run()
+                    .toCompletableFuture()
+                    .get(10, TimeUnit.SECONDS);
+            assertThat(redelivered).hasSize(remaining);
+            for (int i = 0; i < remaining; i++) {
+                assertThat(redelivered.get(i)).isEqualTo("event-" + (FileLogTestBean.NOT_ACKED_INDEX + i));
+            }
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testThatTheBytesOfATornRecordAreNotReadAsRecords() throws IOException {
+        Path path = Paths.get(directory);
+        // The bytes following the first byte of the payload look like the header of a one-byte record
+        ByteBuffer payload = ByteBuffer.allocate(SEGMENT_SIZE / 2);
+        payload.putInt(1, 2);
+        FileLog log = new FileLog(path, TORN_LOG, SEGMENT_SIZE);
+        long torn = log.append(payload, true);
+
+        // Simulate a crash before the header of the record was written
+        try (RandomAccessFile segment = new RandomAccessFile(
+                path.resolve(String.format("%s-%020d.segment", TORN_LOG, 0)).toFile(), "rw")) {
+            segment.seek(torn);
+            segment.writeInt(0);
+        }
+
+        FileLog reopened = new FileLog(path, TORN_LOG, SEGMENT_SIZE);
+        assertThat(reopened.end()).isEqualTo(torn);
+        long offset = reopened.append(ByteBuffer.wrap(new byte[]{42}), true);
+        assertThat(offset).isEqualTo(torn);
+
+        // A reader in another process only finds the new record
+        FileLog reader = new FileLog(path, TORN_LOG, SEGMENT_SIZE);
+        FileLog.Record record = reader.read(offset);
+        assertThat(record).isNotNull();
+        assertThat(record.payload().get(0)).isEqualTo((byte) 42);
+        assertThat(reader.read(record.next())).isNull();
+    }
+}
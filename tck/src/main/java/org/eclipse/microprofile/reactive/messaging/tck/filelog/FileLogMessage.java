@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.filelog;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+/**
+ * A message read from a {@code file-log} channel.
+ * <p>
+ * The payload is a read-only view of the memory-mapped segment: reading it does not copy the record. The view remains
+ * valid after the acknowledgement, but applications must not retain it longer than needed.
+ */
+public class FileLogMessage implements Message<ByteBuffer> {
+
+    private final String log;
+    private final long offset;
+    private final long next;
+    private final ByteBuffer payload;
+    private final Supplier<CompletionStage<Void>> ack;
+    private final Function<Throwable, CompletionStage<Void>> nack;
+
+    FileLogMessage(String log, FileLog.Record record, Supplier<CompletionStage<Void>> ack,
+            Function<Throwable, CompletionStage<Void>> nack) {
+        this.log = log;
+        this.offset = record.offset();
+        this.next = record.next();
+        this.payload = record.payload();
+        this.ack = ack;
+        this.nack = nack;
+    }
+
+    /**
+     * @return the name of the log
+     */
+    public String getLog() {
+        return log;
+    }
+
+    /**
+     * @return the offset of the record in the log
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return the offset of the following record, committed when this message and all the previous ones are
+     *         acknowledged
+     */
+    long getNextOffset() {
+        return next;
+    }
+
+    @Override
+    public ByteBuffer getPayload() {
+        return payload;
+    }
+
+    @Override
+    public Supplier<CompletionStage<Void>> getAck() {
+        return ack;
+    }
+
+    @Override
+    public Function<Throwable, CompletionStage<Void>> getNack() {
+        return nack;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.filelog;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Emits the records of a {@link FileLog} from the committed offset of a consumer, honoring the downstream demand.
+ * <p>
+ * When the end of the log is reached, the publisher polls the log periodically on the given scheduler instead of
+ * blocking. Offsets are committed when messages are acknowledged: as acknowledgements may arrive out of order, the
+ * committed offset is the offset following the longest sequence of acknowledged messages.
+ */
+final class FileLogPublisher implements Publisher<FileLogMessage> {
+
+    private final FileLog log;
+    private final OffsetStore offsets;
+    private final ScheduledExecutorService scheduler;
+    private final long pollInterval;
+    private final boolean failOnNack;
+
+    private final AtomicReference<Subscriber<? super FileLogMessage>> subscriber = new AtomicReference<>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean pollScheduled = new AtomicBoolean();
+    private final Queue<InFlight> inFlight = new ConcurrentLinkedQueue<>();
+    private final Object commitLock = new Object();
+
+    private long position;
+    private volatile boolean cancelled;
+    private volatile Throwable failure;
+
+    FileLogPublisher(FileLog log, OffsetStore offsets, ScheduledExecutorService scheduler, long pollInterval,
+            boolean failOnNack) {
+        this.log = log;
+        this.offsets = offsets;
+        this.scheduler = scheduler;
+        this.pollInterval = pollInterval;
+        this.failOnNack = failOnNack;
+        this.position = offsets.committed();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super FileLogMessage> s) {
+        if (!subscriber.compareAndSet(null, s)) {
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    // Ignored
+                }
+
+                @Override
+                public void cancel() {
+                    // Ignored
+                }
+            });
+            s.onError(
+                    new IllegalStateException("The log " + log.name() + " only supports one subscriber per consumer"));
+            return;
+        }
+        s.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    fail(new IllegalArgumentException("Invalid request: " + n + ", must be strictly positive"));
+                    return;
+                }
+                long current;
+                long updated;
+                do {
+                    current = requested.get();
+                    updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!requested.compareAndSet(current, updated));
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+            }
+        });
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            Subscriber<? super FileLogMessage> downstream = subscriber.get();
+            if (!cancelled && failure != null) {
+                cancelled = true;
+                downstream.onError(failure);
+            }
+            if (!cancelled) {
+                long demand = requested.get();
+                long emitted = 0;
+                try {
+                    while (emitted != demand && !cancelled) {
+                        FileLog.Record record = log.read(position);
+                        if (record == null) {
+                            schedulePoll();
+                            break;
+                        }
+                        position = record.next();
+                        downstream.onNext(track(record));
+                        emitted++;
+                    }
+                } catch (IOException e) {
+                    cancelled = true;
+                    downstream.onError(e);
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void schedulePoll() {
+        if (pollScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> {
+                pollScheduled.set(false);
+                drain();
+            }, pollInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void fail(Throwable reason) {
+        failure = reason;
+        drain();
+    }
+
+    private FileLogMessage track(FileLog.Record record) {
+        InFlight entry = new InFlight(record.next());
+        inFlight.add(entry);
+        return new FileLogMessage(log.name(), record, () -> acknowledge(entry), reason -> {
+            if (failOnNack) {
+                // The offset is never committed, so the record is delivered again after a restart
+                fail(reason);
+                return CompletableFuture.completedFuture(null);
+            }
+            return acknowledge(entry);
+        });
+    }
+
+    private CompletionStage<Void> acknowledge(InFlight entry) {
+        entry.acknowledged = true;
+        long committed = -1;
+        synchronized (commitLock) {
+            InFlight head;
+            while ((head = inFlight.peek()) != null && head.acknowledged) {
+                inFlight.poll();
+                committed = head.next;
+            }
+            if (committed != -1) {
+                try {
+                    offsets.commit(committed);
+                } catch (IOException e) {
+                    CompletableFuture<Void> failed = new CompletableFuture<>();
+                    failed.completeExceptionally(e);
+                    return failed;
+                }
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static final class InFlight {
+        private final long next;
+        private volatile boolean acknowledged;
+
+        private InFlight(long next) {
+            this.next = next;
+        }
+    }
+}
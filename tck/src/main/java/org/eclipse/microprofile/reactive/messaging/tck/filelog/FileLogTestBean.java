@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.filelog;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class FileLogTestBean {
+
+    public static final String OUT = "file-log-out";
+    public static final String IN = "file-log-in";
+    public static final String IN_PARTIAL_ACK = "file-log-in-partial-ack";
+
+    public static final int COUNT = 20;
+    public static final int NOT_ACKED_INDEX = 5;
+    public static final String NOT_ACKED = "event-" + NOT_ACKED_INDEX;
+
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final List<Boolean> readOnly = new CopyOnWriteArrayList<>();
+    private final List<String> receivedWithPartialAck = new CopyOnWriteArrayList<>();
+    private volatile long notAckedOffset = -1;
+
+    @Outgoing(OUT)
+    public PublisherBuilder<String> produce() {
+        List<String> events = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            events.add("event-" + i);
+        }
+        return ReactiveStreams.fromIterable(events);
+    }
+
+    @Incoming(IN)
+    public void consume(ByteBuffer payload) {
+        readOnly.add(payload.isReadOnly());
+        received.add(StandardCharsets.UTF_8.decode(payload).toString());
+    }
+
+    @Incoming(IN_PARTIAL_ACK)
+    public CompletionStage<Void> consumeWithoutAckingOneMessage(Message<ByteBuffer> message) {
+        String payload = StandardCharsets.UTF_8.decode(message.getPayload()).toString();
+        receivedWithPartialAck.add(payload);
+        if (payload.equals(NOT_ACKED)) {
+            notAckedOffset = message.unwrap(FileLogMessage.class).getOffset();
+            return CompletableFuture.completedFuture(null);
+        }
+        return message.ack();
+    }
+
+    public List<String> received() {
+        return received;
+    }
+
+    public List<Boolean> readOnly() {
+        return readOnly;
+    }
+
+    public List<String> receivedWithPartialAck() {
+        return receivedWithPartialAck;
+    }
+
+    public long notAckedOffset() {
+        return notAckedOffset;
+    }
+}
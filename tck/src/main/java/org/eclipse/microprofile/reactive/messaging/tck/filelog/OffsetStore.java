@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.filelog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Stores the offset committed by a consumer of a {@link FileLog}: the offset of the first record that has not been
+ * acknowledged yet. A consumer restarts from this offset, so the records that were not acknowledged are delivered
+ * again.
+ */
+final class OffsetStore implements Closeable {
+
+    private final FileChannel channel;
+    private final boolean sync;
+    private final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+    private volatile long committed;
+
+    OffsetStore(Path file, boolean sync) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.sync = sync;
+        if (channel.size() >= Long.BYTES) {
+            channel.read(buffer, 0);
+            ((Buffer) buffer).flip();
+            committed = buffer.getLong();
+        }
+    }
+
+    /**
+     * @return the committed offset, {@code 0} if the consumer never committed
+     */
+    long committed() {
+        return committed;
+    }
+
+    /**
+     * Commits an offset.
+     *
+     * @param offset
+     *            the offset of the first record that has not been acknowledged
+     * @throws IOException
+     *             if the offset cannot be written
+     */
+    synchronized void commit(long offset) throws IOException {
+        ((Buffer) buffer).clear();
+        buffer.putLong(offset);
+        ((Buffer) buffer).flip();
+        channel.write(buffer, 0);
+        if (sync) {
+            channel.force(false);
+        }
+        committed = offset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
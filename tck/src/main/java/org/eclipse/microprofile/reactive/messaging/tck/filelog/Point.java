@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.filelog;
+
+import java.util.Objects;
+
+/**
+ * A payload written to the log with the {@link PointCodecFactory point} codec.
+ */
+public class Point {
+
+    private final String label;
+    private final int x;
+    private final int y;
+
+    public Point(String label, int x, int y) {
+        this.label = label;
+        this.x = x;
+        this.y = y;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Point)) {
+            return false;
+        }
+        Point point = (Point) o;
+        return x == point.x && y == point.y && label.equals(point.label);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(label, x, y);
+    }
+
+    @Override
+    public String toString() {
+        return label + "(" + x + ", " + y + ")";
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.filelog;
+
+import static org.eclipse.microprofile.reactive.messaging.spi.ConnectorFactory.CHANNEL_NAME_ATTRIBUTE;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.spi.Codec;
+import org.eclipse.microprofile.reactive.messaging.spi.CodecFactory;
+import org.eclipse.microprofile.reactive.messaging.spi.CodecName;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Encodes {@link Point Points} as the x and y coordinates followed by the length and the UTF-8 bytes of the label,
+ * recording the channels it is created for and the output buffers it writes to.
+ */
+@ApplicationScoped
+@CodecName(PointCodecFactory.NAME)
+public class PointCodecFactory implements CodecFactory {
+
+    public static final String NAME = "point";
+
+    private final List<String> channels = new CopyOnWriteArrayList<>();
+    private final Set<ByteBuffer> outputs = Collections.synchronizedSet(Collections.newSetFromMap(
+            new IdentityHashMap<>()));
+
+    @Override
+    public Codec<?> create(Config config) {
+        channels.add(config.getValue(CHANNEL_NAME_ATTRIBUTE, String.class));
+        return new Codec<Point>() {
+            @Override
+            public void encode(Point payload, ByteBuffer output) {
+                outputs.add(output);
+                byte[] label = payload.getLabel().getBytes(StandardCharsets.UTF_8);
+                output.putInt(payload.getX()).putInt(payload.getY()).putInt(label.length).put(label);
+            }
+
+            @Override
+            public Point decode(ByteBuffer input) {
+                if (input.remaining() < 3 * Integer.BYTES) {
+                    throw new IllegalArgumentException("Truncated point");
+                }
+                int x = input.getInt();
+                int y = input.getInt();
+                byte[] label = new byte[input.getInt()];
+                input.get(label);
+                return new Point(new String(label, StandardCharsets.UTF_8), x, y);
+            }
+        };
+    }
+
+    /**
+     * @return the channels the codec was created for, once per channel
+     */
+    public List<String> channels() {
+        return channels;
+    }
+
+    /**
+     * @return the number of distinct output buffers the codec wrote to
+     */
+    public int outputs() {
+        return outputs.size();
+    }
+}
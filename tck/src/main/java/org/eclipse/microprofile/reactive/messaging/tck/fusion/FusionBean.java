@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.fusion;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.ExecuteOn;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Chains of one-to-one links between methods, which implementations may fuse into direct method calls:
+ * {@code emitter -> toUpperCase -> exclaim -> sink}, and {@code emitter -> spread -> mark -> collect}, where
+ * {@code spread} runs up to {@value #PARALLEL_CONCURRENCY} invocations at a time on the {@value #PARALLEL_POOL} pool,
+ * so its results are produced from several threads concurrently.
+ */
+@ApplicationScoped
+public class FusionBean {
+
+    public static final String FAILING_PAYLOAD = "fail";
+    public static final String PARALLEL_POOL = "fusion-pool";
+    public static final int PARALLEL_CONCURRENCY = 4;
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger concurrentCalls = new AtomicInteger();
+    private final AtomicBoolean overlappingCalls = new AtomicBoolean();
+    private final List<String> parallelReceived = new CopyOnWriteArrayList<>();
+    private final AtomicInteger runningSpreads = new AtomicInteger();
+    private final AtomicInteger maxRunningSpreads = new AtomicInteger();
+    private final AtomicInteger concurrentMarks = new AtomicInteger();
+    private final AtomicInteger concurrentCollects = new AtomicInteger();
+
+    @Inject
+    @Channel("fusion-source")
+    private Emitter<String> emitter;
+
+    @Inject
+    @Channel("fusion-parallel-source")
+    private Emitter<String> parallelEmitter;
+
+    @Incoming("fusion-source")
+    @Outgoing("fusion-a")
+    public String toUpperCase(String payload) {
+        if (payload.equals(FAILING_PAYLOAD)) {
+            throw new IllegalArgumentException(payload);
+        }
+        return payload.toUpperCase();
+    }
+
+    @Incoming("fusion-a")
+    @Outgoing("fusion-b")
+    public String exclaim(String payload) {
+        return payload + "!";
+    }
+
+    @Incoming("fusion-b")
+    public void sink(String payload) throws InterruptedException {
+        enter(concurrentCalls);
+        received.add(payload);
+        events.add("sink:" + payload);
+        exit(concurrentCalls);
+    }
+
+    @Incoming("fusion-parallel-source")
+    @Outgoing("fusion-parallel-a")
+    @ExecuteOn(value = PARALLEL_POOL, concurrency = PARALLEL_CONCURRENCY)
+    public String spread(String payload) throws InterruptedException {
+        maxRunningSpreads.accumulateAndGet(runningSpreads.incrementAndGet(), Math::max);
+        // Lets the invocations overlap, so their results are produced concurrently
+        Thread.sleep(10);
+        runningSpreads.decrementAndGet();
+        return payload;
+    }
+
+    @Incoming("fusion-parallel-a")
+    @Outgoing("fusion-parallel-b")
+    public String mark(String payload) throws InterruptedException {
+        enter(concurrentMarks);
+        try {
+            return payload + "*";
+        } finally {
+            exit(concurrentMarks);
+        }
+    }
+
+    @Incoming("fusion-parallel-b")
+    public void collect(String payload) throws InterruptedException {
+        enter(concurrentCollects);
+        parallelReceived.add(payload);
+        exit(concurrentCollects);
+    }
+
+    private void enter(AtomicInteger calls) throws InterruptedException {
+        if (calls.incrementAndGet() > 1) {
+            overlappingCalls.set(true);
+        }
+        // Widens the window during which an overlapping call would be detected
+        Thread.sleep(1);
+    }
+
+    private void exit(AtomicInteger calls) {
+        calls.decrementAndGet();
+    }
+
+    public Emitter<String> emitter() {
+        return emitter;
+    }
+
+    public List<String> events() {
+        return events;
+    }
+
+    public Emitter<String> parallelEmitter() {
+        return parallelEmitter;
+    }
+
+    public List<String> parallelReceived() {
+        return parallelReceived;
+    }
+
+    /**
+     * @return the maximum number of invocations of {@code spread} that ran concurrently
+     */
+    public int maxConcurrentSpreads() {
+        return maxRunningSpreads.get();
+    }
+
+    public List<String> received() {
+        return received;
+    }
+
+    public boolean hasOverlappingCalls() {
+        return overlappingCalls.get();
+    }
+
+    public void reset() {
+        events.clear();
+        received.clear();
+        parallelReceived.clear();
+        maxRunningSpreads.set(0);
+        overlappingCalls.set(false);
+    }
+}
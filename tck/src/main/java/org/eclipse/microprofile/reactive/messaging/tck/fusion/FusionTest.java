@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.fusion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.reactive.messaging.ExecuteOn;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.tck.TckBase;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Before;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+
+/*
+ * Checks that the semantics of one-to-one links between methods are preserved, whether the implementation uses
+ * Reactive Streams signals or fuses the links into direct method calls.
+ */
+public class FusionTest extends TckBase {
+
+    @Deployment
+    public static Archive<JavaArchive> deployment() {
+        ConfigAsset config = new ConfigAsset()
+                .put(ExecuteOn.POOL_PREFIX + FusionBean.PARALLEL_POOL + "." + ExecuteOn.SIZE_ATTRIBUTE,
+                        Integer.toString(FusionBean.PARALLEL_CONCURRENCY));
+
+        return getBaseArchive()
+                .addClasses(FusionBean.class, ConfigAsset.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties");
+    }
+
+    @Inject
+    private FusionBean bean;
+
+    private final Map<String, Throwable> nacked = new ConcurrentHashMap<>();
+
+    @Before
+    public void reset() {
+        bean.reset();
+        nacked.clear();
+    }
+
+    @Test
+    public void testThatOrderIsPreserved() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            send("order-" + i);
+            expected.add("ORDER-" + i + "!");
+        }
+        await().until(() -> bean.received().size() == 100);
+        assertThat(bean.received()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void testThatSourceMessagesAreAckedOnceAfterTheLastMethod() {
+        for (int i = 0; i < 20; i++) {
+            send("ack-" + i);
+        }
+        await().until(() -> acks().size() == 20);
+        List<String> events = bean.events();
+        for (int i = 0; i < 20; i++) {
+            int consumed = events.indexOf("sink:ACK-" + i + "!");
+            int acked = events.indexOf("ack:ack-" + i);
+            assertThat(consumed).isNotNegative().isLessThan(acked);
+            assertThat(events.lastIndexOf("ack:ack-" + i)).isEqualTo(acked);
+        }
+        assertThat(nacked).isEmpty();
+    }
+
+    @Test
+    public void testThatFailuresNackTheSourceAndTheChainContinues() {
+        send("before");
+        send(FusionBean.FAILING_PAYLOAD);
+        send("after");
+        await().until(() -> bean.received().size() == 2 && nacked.size() == 1);
+        assertThat(bean.received()).containsExactly("BEFORE!", "AFTER!");
+        assertThat(nacked).containsOnlyKeys(FusionBean.FAILING_PAYLOAD);
+        assertThat(nacked.get(FusionBean.FAILING_PAYLOAD)).isInstanceOf(IllegalArgumentException.class);
+        await().until(() -> acks().size() == 2);
+        assertThat(acks()).containsExactlyInAnyOrder("ack:before", "ack:after");
+    }
+
+    @Test
+    public void testThatMethodsAreNotCalledConcurrently() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            bean.parallelEmitter().send("parallel-" + i);
+            expected.add("parallel-" + i + "*");
+        }
+        await().until(() -> bean.parallelReceived().size() == 40);
+        // The upstream of the chain really produced its results from several threads at the same time
+        assertThat(bean.maxConcurrentSpreads()).isGreaterThan(1);
+        assertThat(bean.hasOverlappingCalls()).isFalse();
+        assertThat(bean.parallelReceived()).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    private void send(String payload) {
+        bean.emitter().send(Message.of(payload, () -> {
+            bean.events().add("ack:" + payload);
+            return CompletableFuture.completedFuture(null);
+        }, reason -> {
+            nacked.put(payload, reason);
+            return CompletableFuture.completedFuture(null);
+        }));
+    }
+
+    private List<String> acks() {
+        List<String> acks = new ArrayList<>();
+        for (String event : bean.events()) {
+            if (event.startsWith("ack:")) {
+                acks.add(event);
+            }
+        }
+        return acks;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.ipc;
+
+import static org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttribute.Direction.INCOMING_AND_OUTGOING;
+import static org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttribute.Direction.OUTGOING;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttribute;
+import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
+import org.eclipse.microprofile.reactive.messaging.spi.OutgoingConnectorFactory;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * A connector exchanging messages between processes of the same host through a ring buffer stored in a memory-mapped
+ * file, without any broker nor socket.
+ * <p>
+ * Outgoing channels write the payload of each message ({@code ByteBuffer}, {@code byte[]} or {@code String} encoded in
+ * UTF-8) to the ring and acknowledge the message once written. The incoming channel reading the ring emits messages
+ * with a {@code ByteBuffer} payload. A ring has a single consumer. It has a single producer in {@code spsc} mode, and
+ * can have several producers, in the same process or not, in {@code mpsc} mode.
+ *
+ * <pre>
+ * # Worker process
+ * mp.messaging.outgoing.results.connector=ipc
+ * mp.messaging.outgoing.results.path=/dev/shm/results.ring
+ * mp.messaging.outgoing.results.mode=mpsc
+ *
+ * # Sidecar process
+ * mp.messaging.incoming.results.connector=ipc
+ * mp.messaging.incoming.results.path=/dev/shm/results.ring
+ * </pre>
+ * <p>
+ * Producers only take a message from the application once the previous one is written, and the consumer only reads the
+ * ring when the application requests messages, so the flow control of the ring is propagated on both sides.
+ */
+@ApplicationScoped
+@Connector(IpcConnector.ID)
+// @formatter:off
+@ConnectorAttribute(name = "path", type = "string", direction = INCOMING_AND_OUTGOING, mandatory = true,
+        description = "The file backing the ring, preferably on a memory file system such as /dev/shm")
+@ConnectorAttribute(name = "capacity", type = "int", direction = INCOMING_AND_OUTGOING, defaultValue = "65536",
+        description = "The capacity of the ring in bytes, a power of two, must be the same for all the users of a ring")
+@ConnectorAttribute(name = "mode", type = "string", direction = OUTGOING, defaultValue = "spsc",
+        description = "Either `spsc` if the channel is the only producer or `mpsc` if several producers share the ring")
+@ConnectorAttribute(name = "poll-interval", type = "long", direction = INCOMING_AND_OUTGOING, defaultValue = "1",
+        description = "The delay in milliseconds before polling again when the ring is empty or full")
+// @formatter:on
+public class IpcConnector implements IncomingConnectorFactory, OutgoingConnectorFactory {
+
+    public static final String ID = "ipc";
+
+    private final List<IpcRing> rings = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ipc-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public PublisherBuilder<? extends Message<?>> getPublisherBuilder(Config config) {
+        IpcConnectorIncomingConfiguration configuration = IpcConnectorIncomingConfiguration.of(config);
+        IpcRing ring = ring(configuration.getChannel(), configuration.getPath(), configuration.getCapacity(), false);
+        return ReactiveStreams.fromPublisher(new IpcPublisher(ring, scheduler, configuration.getPollInterval()));
+    }
+
+    @Override
+    public SubscriberBuilder<? extends Message<?>, Void> getSubscriberBuilder(Config config) {
+        IpcConnectorOutgoingConfiguration configuration = IpcConnectorOutgoingConfiguration.of(config);
+        String mode = configuration.getMode();
+        if (!mode.equals("spsc") && !mode.equals("mpsc")) {
+            throw new IllegalArgumentException("Invalid mode for channel " + configuration.getChannel() + ": " + mode);
+        }
+        IpcRing ring = ring(configuration.getChannel(), configuration.getPath(), configuration.getCapacity(),
+                mode.equals("mpsc"));
+        return ReactiveStreams.fromSubscriber(new IpcSubscriber(ring, scheduler, configuration.getPollInterval()));
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.shutdownNow();
+        for (IpcRing ring : rings) {
+            try {
+                ring.close();
+            } catch (IOException e) {
+                // Ignored, the content of the ring is in the file
+            }
+        }
+    }
+
+    private IpcRing ring(String channel, String path, int capacity, boolean multiProducer) {
+        IpcRing ring;
+        try {
+            // Each channel maps the file, as separate processes do
+            ring = new IpcRing(Paths.get(path), capacity, multiProducer);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to map the ring " + path + " for channel " + channel, e);
+        }
+        rings.add(ring);
+        return ring;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.ipc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.messaging.tck.Payloads;
+import org.eclipse.microprofile.reactive.messaging.tck.TemporaryFiles;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+/*
+ * Conformance tests of the ipc connector. Each channel maps the ring file on its own, exactly like separate processes
+ * do, and one of the producers of a multi-producer ring runs in a separate JVM. The rings are smaller than the exchanged
+ * data, so they wrap around and back-pressure the producers.
+ */
+@RunWith(Arquillian.class)
+public class IpcConnectorTest {
+
+    private static final String CLASSPATH_PROPERTY = "tck.ipc.classpath";
+    private static final String PROCESS_RING_PROPERTY = "tck.ipc.process-ring";
+    private static final String PROCESS_RING_CAPACITY = "256";
+
+    private static Path temporaryDirectory;
+
+    @Deployment
+    public static JavaArchive deployment() throws IOException, URISyntaxException {
+        temporaryDirectory = Files.createTempDirectory("mp-rm-ipc");
+        String spsc = temporaryDirectory.resolve("spsc.ring").toString();
+        String mpsc = temporaryDirectory.resolve("mpsc.ring").toString();
+        String process = temporaryDirectory.resolve("process.ring").toString();
+        // The producer run in a separate JVM only needs the classes of the ring, located from the client
+        String classpath = Paths.get(IpcRing.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .toString();
+        ConfigAsset config = new ConfigAsset()
+                .put(CLASSPATH_PROPERTY, classpath)
+                .put(PROCESS_RING_PROPERTY, process)
+                .put("mp.messaging.outgoing.ipc-spsc-out.connector", IpcConnector.ID)
+                .put("mp.messaging.outgoing.ipc-spsc-out.path", spsc)
+                .put("mp.messaging.outgoing.ipc-spsc-out.capacity", "128")
+                .put("mp.messaging.incoming.ipc-spsc-in.connector", IpcConnector.ID)
+                .put("mp.messaging.incoming.ipc-spsc-in.path", spsc)
+                .put("mp.messaging.incoming.ipc-spsc-in.capacity", "128")
+                .put("mp.messaging.outgoing.ipc-mpsc-out-a.connector", IpcConnector.ID)
+                .put("mp.messaging.outgoing.ipc-mpsc-out-a.path", mpsc)
+                .put("mp.messaging.outgoing.ipc-mpsc-out-a.capacity", "256")
+                .put("mp.messaging.outgoing.ipc-mpsc-out-a.mode", "mpsc")
+                .put("mp.messaging.outgoing.ipc-mpsc-out-b.connector", IpcConnector.ID)
+                .put("mp.messaging.outgoing.ipc-mpsc-out-b.path", mpsc)
+                .put("mp.messaging.outgoing.ipc-mpsc-out-b.capacity", "256")
+                .put("mp.messaging.outgoing.ipc-mpsc-out-b.mode", "mpsc")
+                .put("mp.messaging.incoming.ipc-mpsc-in.connector", IpcConnector.ID)
+                .put("mp.messaging.incoming.ipc-mpsc-in.path", mpsc)
+                .put("mp.messaging.incoming.ipc-mpsc-in.capacity", "256")
+                .put("mp.messaging.outgoing.ipc-process-out.connector", IpcConnector.ID)
+                .put("mp.messaging.outgoing.ipc-process-out.path", process)
+                .put("mp.messaging.outgoing.ipc-process-out.capacity", PROCESS_RING_CAPACITY)
+                .put("mp.messaging.outgoing.ipc-process-out.mode", "mpsc")
+                .put("mp.messaging.incoming.ipc-process-in.connector", IpcConnector.ID)
+                .put("mp.messaging.incoming.ipc-process-in.path", process)
+                .put("mp.messaging.incoming.ipc-process-in.capacity", PROCESS_RING_CAPACITY);
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(IpcTestBean.class, IpcConnector.class, IpcConnectorIncomingConfiguration.class,
+                        IpcConnectorOutgoingConfiguration.class, IpcRing.class, IpcPublisher.class,
+                        IpcSubscriber.class, IpcProducerProcess.class, ConfigAsset.class, ArchiveExtender.class,
+                        Payloads.class, TemporaryFiles.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+
+        return archive;
+    }
+
+    @AfterClass
+    public static void deleteDirectory() throws IOException {
+        TemporaryFiles.delete(temporaryDirectory);
+    }
+
+    @Inject
+    private IpcTestBean bean;
+
+    @Inject
+    @ConfigProperty(name = CLASSPATH_PROPERTY)
+    private String classpath;
+
+    @Inject
+    @ConfigProperty(name = PROCESS_RING_PROPERTY)
+    private String processRing;
+
+    @Test
+    public void testSingleProducer() {
+        await().until(() -> bean.spsc().size() == IpcTestBean.COUNT);
+        assertThat(bean.spsc()).containsExactlyElementsOf(IpcTestBean.events("spsc"));
+    }
+
+    @Test
+    public void testMultipleProducers() {
+        await().until(() -> bean.mpsc().size() == 2 * IpcTestBean.COUNT);
+        // The records of the producers are interleaved, but the order of each producer is preserved
+        assertThat(from("a")).containsExactlyElementsOf(IpcTestBean.events("a"));
+        assertThat(from("b")).containsExactlyElementsOf(IpcTestBean.events("b"));
+    }
+
+    @Test
+    public void testProducersInSeparateProcesses() throws Exception {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-cp", classpath, IpcProducerProcess.class.getName(), processRing,
+                PROCESS_RING_CAPACITY, "remote", Integer.toString(IpcTestBean.COUNT))
+                .inheritIO()
+                .start();
+        try {
+            bean.otherProcessStarted();
+            assertThat(process.waitFor(30, TimeUnit.SECONDS)).isTrue();
+            assertThat(process.exitValue()).isZero();
+        } finally {
+            process.destroyForcibly();
+        }
+        await().until(() -> bean.processes().size() == 2 * IpcTestBean.COUNT);
+        assertThat(from(bean.processes(), "local")).containsExactlyElementsOf(IpcTestBean.events("local"));
+        assertThat(from(bean.processes(), "remote")).containsExactlyElementsOf(IpcTestBean.events("remote"));
+    }
+
+    private List<String> from(String producer) {
+        return from(bean.mpsc(), producer);
+    }
+
+    private static List<String> from(List<String> received, String producer) {
+        return received.stream().filter(s -> s.startsWith(producer + "-")).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.ipc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+/**
+ * A producer run in a separate JVM by {@link IpcConnectorTest}, writing to a ring in multi-producer mode concurrently
+ * with the producers of the application.
+ * <p>
+ * Arguments: the file of the ring, its capacity, the prefix of the records and their number. The records are
+ * {@code <prefix>-<index>} encoded in UTF-8. The process exits with {@code 0} once all the records are written.
+ */
+final class IpcProducerProcess {
+
+    private IpcProducerProcess() {
+        // Avoid direct instantiation
+    }
+
+    public static void main(String[] args) throws Exception {
+        String prefix = args[2];
+        int count = Integer.parseInt(args[3]);
+        try (IpcRing ring = new IpcRing(Paths.get(args[0]), Integer.parseInt(args[1]), true)) {
+            for (int i = 0; i < count; i++) {
+                ByteBuffer record = ByteBuffer.wrap((prefix + "-" + i).getBytes(StandardCharsets.UTF_8));
+                while (!ring.offer(record)) {
+                    // The ring is full, wait for the consumer
+                    Thread.sleep(1);
+                }
+            }
+        }
+    }
+}
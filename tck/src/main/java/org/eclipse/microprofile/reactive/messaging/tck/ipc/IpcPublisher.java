@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.ipc;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Emits the records of an {@link IpcRing} as the downstream requests them.
+ * <p>
+ * Records are only read from the ring when there is demand, so a slow consumer leaves them in the ring, which
+ * eventually back-pressures the producers. When the ring is empty, the publisher polls it periodically on the given
+ * scheduler instead of blocking.
+ */
+final class IpcPublisher implements Publisher<Message<ByteBuffer>> {
+
+    private final IpcRing ring;
+    private final ScheduledExecutorService scheduler;
+    private final long pollInterval;
+
+    private final AtomicReference<Subscriber<? super Message<ByteBuffer>>> subscriber = new AtomicReference<>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean pollScheduled = new AtomicBoolean();
+
+    private volatile boolean cancelled;
+    private volatile Throwable failure;
+
+    IpcPublisher(IpcRing ring, ScheduledExecutorService scheduler, long pollInterval) {
+        this.ring = ring;
+        this.scheduler = scheduler;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Message<ByteBuffer>> s) {
+        if (!subscriber.compareAndSet(null, s)) {
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    // Ignored
+                }
+
+                @Override
+                public void cancel() {
+                    // Ignored
+                }
+            });
+            s.onError(new IllegalStateException("The ring " + ring.file() + " only supports one consumer"));
+            return;
+        }
+        s.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    failure = new IllegalArgumentException("Invalid request: " + n + ", must be strictly positive");
+                    drain();
+                    return;
+                }
+                long current;
+                long updated;
+                do {
+                    current = requested.get();
+                    updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!requested.compareAndSet(current, updated));
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+            }
+        });
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            Subscriber<? super Message<ByteBuffer>> downstream = subscriber.get();
+            if (!cancelled && failure != null) {
+                cancelled = true;
+                downstream.onError(failure);
+            }
+            if (!cancelled) {
+                long demand = requested.get();
+                long emitted = 0;
+                while (emitted != demand && !cancelled) {
+                    ByteBuffer payload = ring.poll();
+                    if (payload == null) {
+                        schedulePoll();
+                        break;
+                    }
+                    downstream.onNext(Message.of(payload));
+                    emitted++;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void schedulePoll() {
+        if (pollScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> {
+                pollScheduled.set(false);
+                drain();
+            }, pollInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.ipc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A ring buffer stored in a memory-mapped file, shared by the processes mapping the same file.
+ * <p>
+ * The file starts with a header containing the capacity, the producer position (the tail) and the consumer position
+ * (the head), each on its own cache line. Positions grow monotonically, the index in the ring is the position modulo
+ * the capacity, which must be a power of two. Each record is a 4-byte length followed by the payload, aligned on 8
+ * bytes. When a record does not fit before the end of the ring, a padding record fills the remaining space and the
+ * record is written at the beginning of the ring.
+ * <p>
+ * Records are published by writing the tail once the record is written, and released by writing the head once the
+ * record is read, so the consumer never reads a partially written record and producers never overwrite a record that
+ * has not been read. In {@link #multiProducer multi-producer} mode, producers claim space while holding an exclusive
+ * file lock on the tail, which serializes the producers of different processes. Within a JVM, file locks cannot be
+ * nested, so accesses to a ring are also serialized on a lock shared by the open mappings of the file, and released
+ * when the last one is closed. Across processes, Java 8 provides no ordered access to mapped memory, so the publication
+ * relies on the store ordering of the hardware, as x86 and other total store order platforms provide.
+ */
+final class IpcRing implements Closeable {
+
+    private static final int MAGIC = 0x4d505249;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int CAPACITY_OFFSET = 4;
+    private static final int TAIL_OFFSET = 64;
+    private static final int HEAD_OFFSET = 128;
+    private static final int DATA_OFFSET = 192;
+    private static final int RECORD_HEADER_SIZE = 4;
+    private static final int ALIGNMENT = 8;
+    private static final int PADDING = -1;
+
+    private static final Map<Path, SharedLock> LOCKS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final boolean multiProducer;
+    private final SharedLock lock;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Opens or creates a ring.
+     *
+     * @param file
+     *            the file backing the ring
+     * @param capacity
+     *            the capacity of the ring in bytes, a power of two, must be the same for all the users of the ring
+     * @param multiProducer
+     *            whether several producers, possibly in different processes, may write to the ring
+     * @throws IOException
+     *             if the file cannot be mapped
+     * @throws IllegalArgumentException
+     *             if the capacity is invalid or does not match the capacity of an existing ring
+     */
+    IpcRing(Path file, int capacity, boolean multiProducer) throws IOException {
+        if (capacity < ALIGNMENT || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of two greater than " + ALIGNMENT
+                    + ", found " + capacity);
+        }
+        this.file = file.toAbsolutePath().normalize();
+        this.capacity = capacity;
+        this.multiProducer = multiProducer;
+        this.lock = LOCKS.compute(this.file, (path, shared) -> shared == null ? new SharedLock() : shared.retain());
+        FileChannel opened = null;
+        try {
+            opened = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            this.channel = opened;
+            this.buffer = map();
+        } catch (IOException | RuntimeException e) {
+            if (opened != null) {
+                opened.close();
+            }
+            releaseLock();
+            throw e;
+        }
+    }
+
+    private MappedByteBuffer map() throws IOException {
+        synchronized (lock) {
+            // The lock prevents processes from initializing the header concurrently
+            try (FileLock ignored = channel.lock()) {
+                if (channel.size() < DATA_OFFSET + capacity) {
+                    channel.write(ByteBuffer.allocate(1), DATA_OFFSET + capacity - 1);
+                }
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, DATA_OFFSET + capacity);
+                if (mapped.getInt(MAGIC_OFFSET) != MAGIC) {
+                    mapped.putInt(CAPACITY_OFFSET, capacity);
+                    mapped.putInt(MAGIC_OFFSET, MAGIC);
+                } else if (mapped.getInt(CAPACITY_OFFSET) != capacity) {
+                    throw new IllegalArgumentException("The ring " + file + " has a capacity of "
+                            + mapped.getInt(CAPACITY_OFFSET) + " bytes, " + capacity + " bytes configured");
+                }
+                return mapped;
+            }
+        }
+    }
+
+    Path file() {
+        return file;
+    }
+
+    /**
+     * Writes a record if the ring has enough free space.
+     *
+     * @param payload
+     *            the payload, its content is copied into the ring, its position is not modified
+     * @return {@code true} if the record has been written, {@code false} if the ring is full
+     * @throws IOException
+     *             if the lock on the tail cannot be acquired in multi-producer mode
+     * @throws IllegalArgumentException
+     *             if the record is larger than the ring
+     */
+    boolean offer(ByteBuffer payload) throws IOException {
+        int length = payload.remaining();
+        int required = align(RECORD_HEADER_SIZE + length);
+        if (required > capacity || required < 0) {
+            throw new IllegalArgumentException("The record (" + length + " bytes) does not fit in a ring of "
+                    + capacity + " bytes");
+        }
+        synchronized (lock) {
+            FileLock tailLock = multiProducer ? channel.lock(TAIL_OFFSET, Long.BYTES, false) : null;
+            try {
+                long tail = buffer.getLong(TAIL_OFFSET);
+                long head = buffer.getLong(HEAD_OFFSET);
+                int index = index(tail);
+                int padding = required > capacity - index ? capacity - index : 0;
+                if (tail + padding + required - head > capacity) {
+                    return false;
+                }
+                if (padding != 0) {
+                    buffer.putInt(DATA_OFFSET + index, PADDING);
+                    index = 0;
+                }
+                ByteBuffer target = ((ByteBuffer) buffer).duplicate();
+                ((Buffer) target).position(DATA_OFFSET + index + RECORD_HEADER_SIZE);
+                target.put(payload.duplicate());
+                buffer.putInt(DATA_OFFSET + index, length);
+                // Publishes the record
+                buffer.putLong(TAIL_OFFSET, tail + padding + required);
+                return true;
+            } finally {
+                if (tailLock != null) {
+                    tailLock.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads and releases the next record. Must only be called by the consumer of the ring.
+     *
+     * @return a copy of the payload of the record, {@code null} if the ring is empty
+     */
+    ByteBuffer poll() {
+        synchronized (lock) {
+            long released = buffer.getLong(HEAD_OFFSET);
+            long head = released;
+            long tail = buffer.getLong(TAIL_OFFSET);
+            while (head < tail) {
+                int index = index(head);
+                int length = buffer.getInt(DATA_OFFSET + index);
+                if (length == PADDING) {
+                    head += capacity - index;
+                    continue;
+                }
+                ByteBuffer source = ((ByteBuffer) buffer).duplicate();
+                ((Buffer) source).limit(DATA_OFFSET + index + RECORD_HEADER_SIZE + length);
+                ((Buffer) source).position(DATA_OFFSET + index + RECORD_HEADER_SIZE);
+                ByteBuffer payload = ByteBuffer.allocate(length);
+                payload.put(source);
+                ((Buffer) payload).flip();
+                // Releases the space of the record
+                buffer.putLong(HEAD_OFFSET, head + align(RECORD_HEADER_SIZE + length));
+                return payload;
+            }
+            if (head != released) {
+                buffer.putLong(HEAD_OFFSET, head);
+            }
+            return null;
+        }
+    }
+
+    private int index(long position) {
+        return (int) (position & (capacity - 1));
+    }
+
+    private static int align(int length) {
+        return (length + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    private void releaseLock() {
+        LOCKS.computeIfPresent(file, (path, shared) -> shared.release() ? null : shared);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            channel.close();
+        } finally {
+            releaseLock();
+        }
+    }
+
+    /**
+     * The lock shared by the rings of a JVM mapping the same file, counting them so it is removed with the last one.
+     * Only modified within the atomic operations of {@link #LOCKS}.
+     */
+    private static final class SharedLock {
+        private int users = 1;
+
+        SharedLock retain() {
+            users++;
+            return this;
+        }
+
+        /**
+         * @return whether the lock is no longer used
+         */
+        boolean release() {
+            return --users == 0;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.ipc;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.tck.Payloads;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Writes the messages of an outgoing channel to an {@link IpcRing}.
+ * <p>
+ * The subscriber requests the next message only once the current one has been written, so the free space of the ring
+ * drives the demand: when the ring is full, the write is retried periodically on the given scheduler and the upstream
+ * is back-pressured. Messages are acknowledged once written.
+ */
+final class IpcSubscriber implements Subscriber<Message<?>> {
+
+    private final IpcRing ring;
+    private final ScheduledExecutorService scheduler;
+    private final long pollInterval;
+
+    private volatile Subscription subscription;
+
+    IpcSubscriber(IpcRing ring, ScheduledExecutorService scheduler, long pollInterval) {
+        this.ring = ring;
+        this.scheduler = scheduler;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (subscription != null) {
+            s.cancel();
+            return;
+        }
+        subscription = s;
+        s.request(1);
+    }
+
+    @Override
+    public void onNext(Message<?> message) {
+        write(message);
+    }
+
+    private void write(Message<?> message) {
+        try {
+            if (!ring.offer(Payloads.toByteBuffer(message.getPayload()))) {
+                scheduler.schedule(() -> write(message), pollInterval, TimeUnit.MILLISECONDS);
+                return;
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            message.nack(e);
+            subscription.request(1);
+            return;
+        }
+        message.ack();
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        // Nothing to do, the ring remains available to the other producers
+    }
+
+    @Override
+    public void onComplete() {
+        // Nothing to do, the ring remains available to the other producers
+    }
+}
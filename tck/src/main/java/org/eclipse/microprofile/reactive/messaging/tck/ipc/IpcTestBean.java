@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.ipc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class IpcTestBean {
+
+    public static final int COUNT = 100;
+
+    private final List<String> spsc = new CopyOnWriteArrayList<>();
+    private final List<String> mpsc = new CopyOnWriteArrayList<>();
+    private final List<String> processes = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<Boolean> otherProcessStarted = new CompletableFuture<>();
+
+    @Outgoing("ipc-spsc-out")
+    public PublisherBuilder<String> produce() {
+        return ReactiveStreams.fromIterable(events("spsc"));
+    }
+
+    @Incoming("ipc-spsc-in")
+    public void consume(ByteBuffer payload) {
+        spsc.add(StandardCharsets.UTF_8.decode(payload).toString());
+    }
+
+    @Outgoing("ipc-mpsc-out-a")
+    public PublisherBuilder<String> produceA() {
+        return ReactiveStreams.fromIterable(events("a"));
+    }
+
+    @Outgoing("ipc-mpsc-out-b")
+    public PublisherBuilder<byte[]> produceB() {
+        return ReactiveStreams.fromIterable(events("b")).map(s -> s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Incoming("ipc-mpsc-in")
+    public void consumeFromProducers(ByteBuffer payload) {
+        mpsc.add(StandardCharsets.UTF_8.decode(payload).toString());
+    }
+
+    @Outgoing("ipc-process-out")
+    public PublisherBuilder<String> produceWithAnotherProcess() {
+        // Waits for the producer of the other process, so that both write to the ring concurrently
+        return ReactiveStreams.fromCompletionStage(otherProcessStarted).flatMapIterable(started -> events("local"));
+    }
+
+    @Incoming("ipc-process-in")
+    public void consumeFromProcesses(ByteBuffer payload) {
+        processes.add(StandardCharsets.UTF_8.decode(payload).toString());
+    }
+
+    public void otherProcessStarted() {
+        otherProcessStarted.complete(true);
+    }
+
+    public static List<String> events(String prefix) {
+        return IntStream.range(0, COUNT).mapToObj(i -> prefix + "-" + i).collect(Collectors.toList());
+    }
+
+    public List<String> spsc() {
+        return spsc;
+    }
+
+    public List<String> mpsc() {
+        return mpsc;
+    }
+
+    public List<String> processes() {
+        return processes;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.memory;
+
+import static org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttribute.Direction.INCOMING_AND_OUTGOING;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.CorrelatedMessage;
+import org.eclipse.microprofile.reactive.messaging.CorrelationId;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.RequestReplyEmitter;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorAttribute;
+import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
+import org.eclipse.microprofile.reactive.messaging.spi.OutgoingConnectorFactory;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * A connector exchanging messages with the application through in-memory buffers, without any broker.
+ * <p>
+ * Tests inject the connector and use {@link #source(String)} to send messages to incoming channels, and
+ * {@link #sink(String)} to drain the messages written to outgoing channels:
+ *
+ * <pre>
+ * mp.messaging.incoming.orders.connector=in-memory
+ * mp.messaging.outgoing.invoices.connector=in-memory
+ * mp.messaging.outgoing.invoices.buffer-size=16
+ * </pre>
+ *
+ * <pre>
+ * &#64;Inject
+ * &#64;Connector(InMemoryConnector.ID)
+ * InMemoryConnector connector;
+ *
+ * // ...
+ * connector.&lt;Order&gt;source("orders").send(order);
+ * await().until(() -&gt; connector.sink("invoices").size() == 1);
+ * </pre>
+ */
+@ApplicationScoped
+@Connector(InMemoryConnector.ID)
+// @formatter:off
+@ConnectorAttribute(name = "buffer-size", type = "int", direction = INCOMING_AND_OUTGOING, defaultValue = "256",
+        description = "The maximum number of messages buffered by the channel, must be strictly positive")
+// @formatter:on
+public class InMemoryConnector implements IncomingConnectorFactory, OutgoingConnectorFactory {
+
+    public static final String ID = "in-memory";
+
+    private final Map<String, InMemorySource<?>> sources = new ConcurrentHashMap<>();
+    private final Map<String, InMemorySink<?>> sinks = new ConcurrentHashMap<>();
+
+    @Override
+    public PublisherBuilder<? extends Message<?>> getPublisherBuilder(Config config) {
+        InMemoryConnectorIncomingConfiguration configuration = InMemoryConnectorIncomingConfiguration.of(config);
+        String channel = configuration.getChannel();
+        InMemorySource<?> source = new InMemorySource<>(channel, bufferSize(channel, configuration.getBufferSize()));
+        if (sources.putIfAbsent(channel, source) != null) {
+            throw new IllegalArgumentException("The in-memory channel " + channel + " already exists");
+        }
+        return ReactiveStreams.fromPublisher(source);
+    }
+
+    @Override
+    public void pause(String channel) {
+        InMemorySource<?> source = sources.get(channel);
+        if (source != null) {
+            source.paused(true);
+        }
+    }
+
+    @Override
+    public void resume(String channel) {
+        InMemorySource<?> source = sources.get(channel);
+        if (source != null) {
+            source.paused(false);
+        }
+    }
+
+    @Override
+    public SubscriberBuilder<? extends Message<?>, Void> getSubscriberBuilder(Config config) {
+        InMemoryConnectorOutgoingConfiguration configuration = InMemoryConnectorOutgoingConfiguration.of(config);
+        String channel = configuration.getChannel();
+        InMemorySink<?> sink = new InMemorySink<>(channel, bufferSize(channel, configuration.getBufferSize()));
+        if (sinks.putIfAbsent(channel, sink) != null) {
+            throw new IllegalArgumentException("The in-memory channel " + channel + " already exists");
+        }
+        return ReactiveStreams.fromSubscriber(sink);
+    }
+
+    /**
+     * Retrieves the source used to send messages to an incoming channel.
+     *
+     * @param channel
+     *            the name of an incoming channel using the {@code in-memory} connector
+     * @param <T>
+     *            the type of payload
+     * @return the source
+     * @throws IllegalArgumentException
+     *             if the channel does not exist
+     */
+    @SuppressWarnings("unchecked")
+    public <T> InMemorySource<T> source(String channel) {
+        InMemorySource<?> source = sources.get(channel);
+        if (source == null) {
+            throw new IllegalArgumentException("No such incoming channel registered: " + channel);
+        }
+        return (InMemorySource<T>) source;
+    }
+
+    /**
+     * Retrieves the sink receiving the messages written to an outgoing channel.
+     *
+     * @param channel
+     *            the name of an outgoing channel using the {@code in-memory} connector
+     * @param <T>
+     *            the type of payload
+     * @return the sink
+     * @throws IllegalArgumentException
+     *             if the channel does not exist
+     */
+    @SuppressWarnings("unchecked")
+    public <T> InMemorySink<T> sink(String channel) {
+        InMemorySink<?> sink = sinks.get(channel);
+        if (sink == null) {
+            throw new IllegalArgumentException("No such outgoing channel registered: " + channel);
+        }
+        return (InMemorySink<T>) sink;
+    }
+
+    /**
+     * Answers the requests written to an outgoing channel by a {@link RequestReplyEmitter}, acting as the remote
+     * service in request/reply tests.
+     * <p>
+     * The pending requests are drained from the sink of the request channel. For each request carrying a
+     * {@link CorrelationId} metadata entry, the responder computes the reply payload, which is sent to the reply
+     * channel in a message carrying the same entry. The entry is used rather than the {@link CorrelatedMessage} type,
+     * which is lost when the request is wrapped on its way to the connector. Requests that are not correlated are
+     * ignored, and requests for which the responder returns {@code null} are left unanswered, so their emitter times
+     * out.
+     *
+     * @param requests
+     *            the name of the outgoing channel receiving the requests
+     * @param replies
+     *            the name of the incoming channel consumed by the emitter
+     * @param responder
+     *            the function computing the reply payload from the request payload
+     * @param <Req>
+     *            the type of the request payload
+     * @param <Rep>
+     *            the type of the reply payload
+     * @return the number of replies sent
+     * @throws IllegalArgumentException
+     *             if one of the channels does not exist
+     * @throws IllegalStateException
+     *             if the buffer of the reply channel is full
+     */
+    public <Req, Rep> int reply(String requests, String replies, Function<Req, Rep> responder) {
+        InMemorySink<Req> sink = sink(requests);
+        InMemorySource<Rep> source = source(replies);
+        int sent = 0;
+        for (Message<Req> request : sink.drain()) {
+            Optional<CorrelationId> id = request.getMetadata(CorrelationId.class);
+            if (!id.isPresent()) {
+                continue;
+            }
+            Rep reply = responder.apply(request.getPayload());
+            if (reply != null) {
+                source.send(Message.of(reply).addMetadata(id.get()));
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    private static int bufferSize(String channel, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The buffer-size attribute of the in-memory channel " + channel
+                    + " must be strictly positive");
+        }
+        return size;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+/*
+ * This test checks that the in-memory connector shipped with the TCK can be used by the implementation.
+ */
+@RunWith(Arquillian.class)
+public class InMemoryConnectorTest {
+
+    // Not a power of two, to check that the capacity is honored exactly
+    private static final int SINK_BUFFER_SIZE = 3;
+
+    @Deployment
+    public static JavaArchive deployment() {
+        ConfigAsset config = new ConfigAsset()
+                .put("mp.messaging.incoming.in-memory-in.connector", InMemoryConnector.ID)
+                .put("mp.messaging.outgoing.in-memory-out.connector", InMemoryConnector.ID)
+                .put("mp.messaging.outgoing.in-memory-out.buffer-size", Integer.toString(SINK_BUFFER_SIZE));
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(InMemoryTestBean.class, InMemoryConnector.class,
+                        InMemoryConnectorIncomingConfiguration.class, InMemoryConnectorOutgoingConfiguration.class,
+                        InMemorySource.class, InMemorySink.class, RingBuffer.class, ConfigAsset.class,
+                        ArchiveExtender.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+
+        return archive;
+    }
+
+    @Inject
+    @Connector(InMemoryConnector.ID)
+    private InMemoryConnector connector;
+
+    @Test
+    public void testThatMessagesFlowThroughInMemoryChannels() {
+        InMemorySource<String> source = connector.source(InMemoryTestBean.IN);
+        InMemorySink<String> sink = connector.sink(InMemoryTestBean.OUT);
+        int acked = source.acked();
+
+        List<CompletionStage<Void>> acks = new ArrayList<>();
+        for (String payload : new String[]{"a", "b", "c"}) {
+            acks.add(source.send(payload));
+        }
+
+        await().until(() -> sink.size() == 3);
+        assertThat(sink.drainPayloads()).containsExactly("A", "B", "C");
+        await().until(() -> source.acked() == acked + 3);
+        assertThat(acks).allSatisfy(stage -> assertThat(stage).isCompleted());
+    }
+
+    @Test
+    public void testThatSlowSinksBackPressureTheApplication() {
+        InMemorySource<String> source = connector.source(InMemoryTestBean.IN);
+        InMemorySink<String> sink = connector.sink(InMemoryTestBean.OUT);
+        sink.drain();
+        int received = sink.received();
+
+        for (int i = 0; i < 10; i++) {
+            source.send("item-" + i);
+        }
+
+        // The sink must not receive more than it can buffer until it is drained
+        await().pollDelay(Duration.ofMillis(500)).until(() -> sink.size() == SINK_BUFFER_SIZE);
+        assertThat(sink.received()).isEqualTo(received + SINK_BUFFER_SIZE);
+
+        List<String> payloads = new ArrayList<>(sink.drainPayloads());
+        await().until(() -> {
+            payloads.addAll(sink.drainPayloads());
+            return payloads.size() == 10;
+        });
+        assertThat(payloads).containsExactly("ITEM-0", "ITEM-1", "ITEM-2", "ITEM-3", "ITEM-4", "ITEM-5", "ITEM-6",
+                "ITEM-7", "ITEM-8", "ITEM-9");
+    }
+
+    @Test
+    public void testThatNackedMessagesAreTracked() {
+        InMemorySource<String> source = connector.source(InMemoryTestBean.IN);
+        InMemorySink<String> sink = connector.sink(InMemoryTestBean.OUT);
+        sink.drain();
+        int nacked = source.nacked();
+
+        CompletionStage<Void> stage = source.send("fail");
+
+        await().until(() -> source.nacked() == nacked + 1);
+        assertThat(stage.toCompletableFuture()).isCompletedExceptionally();
+        assertThat(sink.size()).isZero();
+    }
+}
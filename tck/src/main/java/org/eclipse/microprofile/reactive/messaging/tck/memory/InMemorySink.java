@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * The receiving side of an outgoing {@code in-memory} channel.
+ * <p>
+ * The sink requests as many messages as its buffer can hold, and acknowledges them when they are stored. Draining
+ * messages from the sink frees room in the buffer and requests more messages, so an application producing faster than
+ * the test drains is back-pressured.
+ *
+ * @param <T>
+ *            the type of payload
+ */
+public class InMemorySink<T> implements Subscriber<Message<T>> {
+
+    private final String channel;
+    private final RingBuffer<Message<T>> queue;
+    private final AtomicLong pendingRequests = new AtomicLong();
+    private final AtomicInteger received = new AtomicInteger();
+
+    private volatile Subscription subscription;
+    private volatile boolean completed;
+    private volatile Throwable failure;
+
+    InMemorySink(String channel, int bufferSize) {
+        this.channel = channel;
+        this.queue = new RingBuffer<>(bufferSize);
+    }
+
+    /**
+     * @return the name of the channel
+     */
+    public String channel() {
+        return channel;
+    }
+
+    /**
+     * Removes the oldest received message.
+     *
+     * @return the message, {@code null} if no message is available
+     */
+    public Message<T> poll() {
+        Message<T> message = queue.poll();
+        if (message != null) {
+            request(1);
+        }
+        return message;
+    }
+
+    /**
+     * Removes all the received messages.
+     *
+     * @return the messages in the reception order, empty if no message is available
+     */
+    public List<Message<T>> drain() {
+        List<Message<T>> messages = new ArrayList<>();
+        Message<T> message;
+        while ((message = queue.poll()) != null) {
+            messages.add(message);
+        }
+        if (!messages.isEmpty()) {
+            request(messages.size());
+        }
+        return messages;
+    }
+
+    /**
+     * Removes all the received messages and extracts their payloads.
+     *
+     * @return the payloads in the reception order, empty if no message is available
+     */
+    public List<T> drainPayloads() {
+        List<T> payloads = new ArrayList<>();
+        for (Message<T> message : drain()) {
+            payloads.add(message.getPayload());
+        }
+        return payloads;
+    }
+
+    /**
+     * @return the number of messages waiting to be drained
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of messages received since the creation of the channel
+     */
+    public int received() {
+        return received.get();
+    }
+
+    /**
+     * @return {@code true} if the channel completed successfully
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * @return the failure propagated by the channel, {@code null} if the channel did not fail
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (subscription != null) {
+            s.cancel();
+            return;
+        }
+        subscription = s;
+        request(queue.capacity());
+    }
+
+    @Override
+    public void onNext(Message<T> message) {
+        if (!queue.offer(message)) {
+            // Cannot happen with a compliant upstream, as the sink never requests more than it can store.
+            message.nack(new IllegalStateException("The buffer of the in-memory channel " + channel + " is full"));
+            return;
+        }
+        received.incrementAndGet();
+        message.ack();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        failure = t;
+    }
+
+    @Override
+    public void onComplete() {
+        completed = true;
+    }
+
+    /**
+     * Serializes the calls to {@link Subscription#request(long)}, as draining can happen concurrently.
+     */
+    private void request(long n) {
+        if (pendingRequests.getAndAdd(n) != 0) {
+            return;
+        }
+        long toRequest = n;
+        for (;;) {
+            subscription.request(toRequest);
+            toRequest = pendingRequests.addAndGet(-toRequest);
+            if (toRequest == 0) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.memory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * The sending side of an incoming {@code in-memory} channel.
+ * <p>
+ * Messages are stored in a bounded ring buffer until the channel requests them. When the buffer is full,
+ * {@link #send(Message)} throws an {@link IllegalStateException}, and {@link #offer(Message)} returns {@code false}.
+ * The source counts the messages acknowledged and negatively acknowledged by the application. It wraps the sent
+ * messages to do so, the wrapper delegating {@link Message#unwrap(Class)} to the sent message, so connector-specific
+ * {@link Message} implementations can still be unwrapped.
+ *
+ * @param <T>
+ *            the type of payload
+ */
+public class InMemorySource<T> implements Publisher<Message<T>> {
+
+    private final String channel;
+    private final RingBuffer<Message<T>> queue;
+    private final AtomicReference<Subscriber<? super Message<T>>> subscriber = new AtomicReference<>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicInteger acked = new AtomicInteger();
+    private final AtomicInteger nacked = new AtomicInteger();
+
+    private volatile boolean done;
+    private volatile Throwable failure;
+    private volatile boolean cancelled;
+    private volatile boolean paused;
+    private volatile Throwable invalidRequest;
+
+    InMemorySource(String channel, int bufferSize) {
+        this.channel = channel;
+        this.queue = new RingBuffer<>(bufferSize);
+    }
+
+    /**
+     * @return the name of the channel
+     */
+    public String channel() {
+        return channel;
+    }
+
+    /**
+     * Sends a payload to the channel.
+     *
+     * @param payload
+     *            the payload, must not be {@code null}
+     * @return a completion stage completed when the message is acknowledged, or completed exceptionally when the
+     *         message is negatively acknowledged
+     * @throws IllegalStateException
+     *             if the buffer is full or the source is terminated
+     */
+    public CompletionStage<Void> send(T payload) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        send(Message.of(payload, () -> {
+            future.complete(null);
+            return CompletableFuture.completedFuture(null);
+        }, reason -> {
+            future.completeExceptionally(reason);
+            return CompletableFuture.completedFuture(null);
+        }));
+        return future;
+    }
+
+    /**
+     * Sends a message to the channel.
+     *
+     * @param message
+     *            the message, must not be {@code null}
+     * @throws IllegalStateException
+     *             if the buffer is full or the source is terminated
+     */
+    public void send(Message<T> message) {
+        if (!offer(message)) {
+            throw new IllegalStateException("The buffer of the in-memory channel " + channel + " is full");
+        }
+    }
+
+    /**
+     * Sends a message to the channel if there is room in the buffer.
+     *
+     * @param message
+     *            the message, must not be {@code null}
+     * @return {@code true} if the message has been enqueued, {@code false} if the buffer is full
+     * @throws IllegalStateException
+     *             if the source is terminated
+     */
+    public boolean offer(Message<T> message) {
+        if (message == null) {
+            throw new IllegalArgumentException("The message must not be `null`");
+        }
+        if (done) {
+            throw new IllegalStateException("The in-memory channel " + channel + " is terminated");
+        }
+        if (!queue.offer(track(message))) {
+            return false;
+        }
+        drain();
+        return true;
+    }
+
+    /**
+     * Completes the channel once the buffered messages are delivered.
+     */
+    public void complete() {
+        done = true;
+        drain();
+    }
+
+    /**
+     * Fails the channel once the buffered messages are delivered.
+     *
+     * @param reason
+     *            the failure, must not be {@code null}
+     */
+    public void fail(Throwable reason) {
+        failure = reason;
+        done = true;
+        drain();
+    }
+
+    /**
+     * @return the number of messages waiting in the buffer
+     */
+    public int buffered() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of messages acknowledged by the application
+     */
+    public int acked() {
+        return acked.get();
+    }
+
+    /**
+     * @return the number of messages negatively acknowledged by the application
+     */
+    public int nacked() {
+        return nacked.get();
+    }
+
+    /**
+     * @return {@code true} if the implementation notified the connector that the channel is paused
+     */
+    public boolean paused() {
+        return paused;
+    }
+
+    void paused(boolean paused) {
+        this.paused = paused;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Message<T>> s) {
+        if (!subscriber.compareAndSet(null, s)) {
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    // Ignored
+                }
+
+                @Override
+                public void cancel() {
+                    // Ignored
+                }
+            });
+            s.onError(new IllegalStateException("The in-memory channel " + channel + " only supports one subscriber"));
+            return;
+        }
+        s.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    // Signalled by the drain loop, so it is serialized with onNext
+                    invalidRequest = new IllegalArgumentException("Invalid request: " + n
+                            + ", must be strictly positive");
+                    drain();
+                    return;
+                }
+                long current;
+                long updated;
+                do {
+                    current = requested.get();
+                    updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!requested.compareAndSet(current, updated));
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+            }
+        });
+        drain();
+    }
+
+    private Message<T> track(Message<T> message) {
+        return new TrackedMessage<>(message, acked, nacked);
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            Subscriber<? super Message<T>> downstream = subscriber.get();
+            if (downstream != null && !cancelled) {
+                Throwable invalid = invalidRequest;
+                if (invalid != null) {
+                    cancelled = true;
+                    downstream.onError(invalid);
+                } else {
+                    emit(downstream);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void emit(Subscriber<? super Message<T>> downstream) {
+        long demand = requested.get();
+        long emitted = 0;
+        while (emitted != demand && !cancelled) {
+            boolean terminated = done;
+            Message<T> message = queue.poll();
+            if (message == null) {
+                if (terminated) {
+                    terminate(downstream);
+                }
+                break;
+            }
+            downstream.onNext(message);
+            emitted++;
+        }
+        if (emitted == demand && done && queue.isEmpty() && !cancelled) {
+            terminate(downstream);
+        }
+        if (emitted != 0 && demand != Long.MAX_VALUE) {
+            requested.addAndGet(-emitted);
+        }
+    }
+
+    private void terminate(Subscriber<? super Message<T>> downstream) {
+        cancelled = true;
+        Throwable reason = failure;
+        if (reason != null) {
+            downstream.onError(reason);
+        } else {
+            downstream.onComplete();
+        }
+    }
+
+    /**
+     * A sent message, counting its acknowledgements. The message is wrapped rather than rebuilt with
+     * {@link Message#withAck(java.util.function.Supplier)}, which would lose its type.
+     */
+    private static final class TrackedMessage<T> implements Message<T> {
+
+        private final Message<T> delegate;
+        private final AtomicInteger acked;
+        private final AtomicInteger nacked;
+
+        TrackedMessage(Message<T> delegate, AtomicInteger acked, AtomicInteger nacked) {
+            this.delegate = delegate;
+            this.acked = acked;
+            this.nacked = nacked;
+        }
+
+        @Override
+        public T getPayload() {
+            return delegate.getPayload();
+        }
+
+        @Override
+        public Metadata getMetadata() {
+            return delegate.getMetadata();
+        }
+
+        @Override
+        public Supplier<CompletionStage<Void>> getAck() {
+            return () -> {
+                acked.incrementAndGet();
+                return delegate.ack();
+            };
+        }
+
+        @Override
+        public Function<Throwable, CompletionStage<Void>> getNack() {
+            return reason -> {
+                nacked.incrementAndGet();
+                return delegate.nack(reason);
+            };
+        }
+
+        @Override
+        public <C> C unwrap(Class<C> unwrapType) {
+            if (unwrapType != null && unwrapType.isInstance(this)) {
+                return unwrapType.cast(this);
+            }
+            return delegate.unwrap(unwrapType);
+        }
+
+        @Override
+        public boolean isUnwrappable(Class<?> unwrapType) {
+            return unwrapType != null && unwrapType.isInstance(this) || delegate.isUnwrappable(unwrapType);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.merge;
+
+import java.util.ServiceLoader;
+
+import org.eclipse.microprofile.reactive.messaging.Broadcast;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Merge;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.jboss.arquillian.container.test.api.Deployer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.ShouldThrowException;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+@RunWith(Arquillian.class)
+public class InvalidMergeTest {
+
+    @Deployment(managed = false, name = "merge-without-incoming")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> mergeWithoutIncoming() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(MergeWithoutIncoming.class, Sink.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "merge-conflicting-modes")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> mergeConflictingModes() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(MergeConflictingModes.class, Sources.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @ArquillianResource
+    private Deployer deployer;
+
+    @Test
+    public void checkThatMergeWithoutIncomingIsRejected() {
+        deployer.deploy("merge-without-incoming");
+    }
+
+    @Test
+    public void checkThatConflictingMergeModesAreRejected() {
+        deployer.deploy("merge-conflicting-modes");
+    }
+
+    @ApplicationScoped
+    public static class Sources {
+
+        @Outgoing("merge-invalid")
+        @Broadcast
+        public PublisherBuilder<String> first() {
+            return ReactiveStreams.of("a", "b");
+        }
+
+        @Outgoing("merge-invalid")
+        @Broadcast
+        public PublisherBuilder<String> second() {
+            return ReactiveStreams.of("c", "d");
+        }
+    }
+
+    @ApplicationScoped
+    public static class Sink {
+
+        @Incoming("merge-invalid")
+        public void consume(String payload) {
+            // Valid consumer
+        }
+    }
+
+    @ApplicationScoped
+    public static class MergeWithoutIncoming {
+
+        @Outgoing("merge-invalid")
+        @Merge
+        public PublisherBuilder<String> source() {
+            return ReactiveStreams.of("a", "b");
+        }
+    }
+
+    @ApplicationScoped
+    public static class MergeConflictingModes {
+
+        @Incoming("merge-invalid")
+        @Merge(Merge.Mode.MERGE)
+        public void merge(String payload) {
+            // Not called
+        }
+
+        @Incoming("merge-invalid")
+        @Merge(Merge.Mode.CONCAT)
+        public void concat(String payload) {
+            // Not called
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.merge;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Merge;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class MergeBean {
+
+    public static final int COUNT = 20;
+    /**
+     * The number of messages of the flood upstream, enough to always have messages ready during the tests, since the
+     * consumer takes at least a millisecond per message.
+     */
+    public static final int FLOOD = 100_000;
+
+    private final List<String> merged = new CopyOnWriteArrayList<>();
+    private final List<String> concatenated = new CopyOnWriteArrayList<>();
+    private final List<String> selected = new CopyOnWriteArrayList<>();
+    private final List<String> fair = new CopyOnWriteArrayList<>();
+    private final AtomicInteger concurrentCalls = new AtomicInteger();
+    private final AtomicInteger maxConcurrentCalls = new AtomicInteger();
+
+    @Inject
+    @Channel("merge-merged")
+    private Emitter<String> first;
+
+    @Inject
+    @Channel("merge-merged")
+    private Emitter<String> second;
+
+    @Inject
+    @Channel("merge-fair")
+    private Emitter<String> rare;
+
+    @Outgoing("merge-concatenated")
+    public PublisherBuilder<String> concatenatedA() {
+        return ReactiveStreams.fromIterable(expected("a"));
+    }
+
+    @Outgoing("merge-concatenated")
+    public PublisherBuilder<String> concatenatedB() {
+        return ReactiveStreams.fromIterable(expected("b"));
+    }
+
+    @Outgoing("merge-selected")
+    public PublisherBuilder<String> selectedA() {
+        return ReactiveStreams.fromIterable(expected("a"));
+    }
+
+    @Outgoing("merge-selected")
+    public PublisherBuilder<String> selectedB() {
+        return ReactiveStreams.fromIterable(expected("b"));
+    }
+
+    @Outgoing("merge-fair")
+    public PublisherBuilder<String> flood() {
+        // Always has messages ready
+        return ReactiveStreams.generate(() -> "flood").limit(FLOOD);
+    }
+
+    @Incoming("merge-merged")
+    @Merge
+    public void consumeMerged(String payload) throws InterruptedException {
+        int current = concurrentCalls.incrementAndGet();
+        maxConcurrentCalls.accumulateAndGet(current, Math::max);
+        Thread.sleep(1);
+        merged.add(payload);
+        concurrentCalls.decrementAndGet();
+    }
+
+    @Incoming("merge-concatenated")
+    @Merge(Merge.Mode.CONCAT)
+    public void consumeConcatenated(String payload) {
+        concatenated.add(payload);
+    }
+
+    @Incoming("merge-selected")
+    @Merge(Merge.Mode.ONE)
+    public void consumeSelected(String payload) {
+        selected.add(payload);
+    }
+
+    @Incoming("merge-fair")
+    @Merge
+    public void consumeFair(String payload) throws InterruptedException {
+        Thread.sleep(1);
+        if (!payload.equals("flood")) {
+            fair.add(payload);
+        }
+    }
+
+    public static List<String> expected(String prefix) {
+        return IntStream.range(0, COUNT).mapToObj(i -> prefix + "-" + i).collect(Collectors.toList());
+    }
+
+    public Emitter<String> first() {
+        return first;
+    }
+
+    public Emitter<String> second() {
+        return second;
+    }
+
+    public Emitter<String> rare() {
+        return rare;
+    }
+
+    public List<String> merged() {
+        return merged;
+    }
+
+    public List<String> concatenated() {
+        return concatenated;
+    }
+
+    public List<String> selected() {
+        return selected;
+    }
+
+    public List<String> fair() {
+        return fair;
+    }
+
+    public int maxConcurrentCalls() {
+        return maxConcurrentCalls.get();
+    }
+}
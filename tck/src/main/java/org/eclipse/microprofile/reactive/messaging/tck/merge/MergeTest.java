@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.merge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.reactive.messaging.tck.TckBase;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+
+public class MergeTest extends TckBase {
+
+    @Deployment
+    public static Archive<JavaArchive> deployment() {
+        return getBaseArchive()
+                .addClasses(MergeBean.class);
+    }
+
+    @Inject
+    private MergeBean bean;
+
+    @Test
+    public void testThatMergeKeepsTheOrderOfEachUpstream() {
+        Thread a = new Thread(() -> MergeBean.expected("a").forEach(bean.first()::send));
+        Thread b = new Thread(() -> MergeBean.expected("b").forEach(bean.second()::send));
+        a.start();
+        b.start();
+
+        await().until(() -> bean.merged().size() == 2 * MergeBean.COUNT);
+        assertThat(only(bean.merged(), "a")).containsExactlyElementsOf(MergeBean.expected("a"));
+        assertThat(only(bean.merged(), "b")).containsExactlyElementsOf(MergeBean.expected("b"));
+        assertThat(bean.maxConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatConcatDeliversTheUpstreamsOneAfterTheOther() {
+        await().until(() -> bean.concatenated().size() == 2 * MergeBean.COUNT);
+        List<String> first = bean.concatenated().subList(0, MergeBean.COUNT);
+        List<String> second = bean.concatenated().subList(MergeBean.COUNT, 2 * MergeBean.COUNT);
+        if (first.get(0).startsWith("a")) {
+            assertThat(first).containsExactlyElementsOf(MergeBean.expected("a"));
+            assertThat(second).containsExactlyElementsOf(MergeBean.expected("b"));
+        } else {
+            assertThat(first).containsExactlyElementsOf(MergeBean.expected("b"));
+            assertThat(second).containsExactlyElementsOf(MergeBean.expected("a"));
+        }
+    }
+
+    @Test
+    public void testThatOneOnlyDeliversASingleUpstream() {
+        await().until(() -> bean.selected().size() == MergeBean.COUNT);
+        await().during(200, TimeUnit.MILLISECONDS).atMost(1, TimeUnit.SECONDS)
+                .until(() -> bean.selected().size() == MergeBean.COUNT);
+        String prefix = bean.selected().get(0).substring(0, 1);
+        assertThat(bean.selected()).containsExactlyElementsOf(MergeBean.expected(prefix));
+    }
+
+    @Test
+    public void testThatAFastUpstreamDoesNotStarveTheOthers() {
+        for (int i = 0; i < 5; i++) {
+            bean.rare().send("rare-" + i);
+        }
+        // The flood upstream always has messages ready, but the demand is distributed fairly
+        await().atMost(10, TimeUnit.SECONDS).until(() -> bean.fair().size() == 5);
+        assertThat(bean.fair()).containsExactly("rare-0", "rare-1", "rare-2", "rare-3", "rare-4");
+    }
+
+    private static List<String> only(List<String> payloads, String prefix) {
+        return payloads.stream().filter(payload -> payload.startsWith(prefix + "-")).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.metadata;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class MetadataBean {
+
+    private final List<Message<String>> fromPayloads = new CopyOnWriteArrayList<>();
+    private final List<Message<String>> fromMessages = new CopyOnWriteArrayList<>();
+
+    @Inject
+    @Channel("metadata-payload-in")
+    private Emitter<String> payloadEmitter;
+
+    @Inject
+    @Channel("metadata-message-in")
+    private Emitter<String> messageEmitter;
+
+    @Incoming("metadata-payload-in")
+    @Outgoing("metadata-payload-out")
+    public String processPayload(String payload) {
+        return payload.toUpperCase();
+    }
+
+    @Incoming("metadata-payload-out")
+    public void consumePayloadResult(Message<String> message) {
+        fromPayloads.add(message);
+        message.ack();
+    }
+
+    @Incoming("metadata-message-in")
+    @Outgoing("metadata-message-out")
+    public Message<String> processMessage(Message<String> message) {
+        return message.withPayload(message.getPayload().toUpperCase()).addMetadata(new Trace("processed"));
+    }
+
+    @Incoming("metadata-message-out")
+    public void consumeMessageResult(Message<String> message) {
+        fromMessages.add(message);
+        message.ack();
+    }
+
+    public Emitter<String> payloadEmitter() {
+        return payloadEmitter;
+    }
+
+    public Emitter<String> messageEmitter() {
+        return messageEmitter;
+    }
+
+    public List<Message<String>> fromPayloads() {
+        return fromPayloads;
+    }
+
+    public List<Message<String>> fromMessages() {
+        return fromMessages;
+    }
+
+    public static class Key {
+        private final String value;
+
+        public Key(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    public static class Trace {
+        private final String step;
+
+        public Trace(String step) {
+            this.step = step;
+        }
+
+        public String getStep() {
+            return step;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.Optional;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
+import org.eclipse.microprofile.reactive.messaging.tck.TckBase;
+import org.eclipse.microprofile.reactive.messaging.tck.metadata.MetadataBean.Key;
+import org.eclipse.microprofile.reactive.messaging.tck.metadata.MetadataBean.Trace;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+
+public class MetadataTest extends TckBase {
+
+    @Deployment
+    public static Archive<JavaArchive> deployment() {
+        return getBaseArchive()
+                .addClasses(MetadataBean.class, Key.class, Trace.class);
+    }
+
+    @Inject
+    private MetadataBean bean;
+
+    @Test
+    public void testThatMetadataIsPropagatedAcrossPayloadMethods() {
+        bean.payloadEmitter().send(Message.of("a").withMetadata(Metadata.of(new Key("key-a"))));
+
+        await().until(() -> bean.fromPayloads().size() == 1);
+        Message<String> result = bean.fromPayloads().get(0);
+        assertThat(result.getPayload()).isEqualTo("A");
+        assertThat(result.getMetadata(Key.class)).hasValueSatisfying(key -> assertThat(key.getValue()).isEqualTo(
+                "key-a"));
+    }
+
+    @Test
+    public void testThatMetadataIsKeptByMessageMethods() {
+        bean.messageEmitter().send(Message.of("b").withMetadata(Metadata.of(new Key("key-b"))));
+
+        await().until(() -> bean.fromMessages().size() == 1);
+        Message<String> result = bean.fromMessages().get(0);
+        assertThat(result.getPayload()).isEqualTo("B");
+        assertThat(result.getMetadata().size()).isEqualTo(2);
+        assertThat(result.getMetadata(Key.class).map(Key::getValue)).hasValue("key-b");
+        assertThat(result.getMetadata(Trace.class).map(Trace::getStep)).hasValue("processed");
+    }
+
+    @Test
+    public void testMetadataOperations() {
+        Key key = new Key("key");
+        Metadata metadata = Metadata.of(key);
+        assertThat(Metadata.empty().isEmpty()).isTrue();
+        assertThat(metadata.getOrNull(Key.class)).isSameAs(key);
+        assertThat(metadata.getOrNull(Trace.class)).isNull();
+        assertThat(metadata.get(Trace.class)).isEqualTo(Optional.empty());
+        // Entries can be retrieved using one of their super types
+        assertThat(metadata.getOrNull(Object.class)).isSameAs(key);
+
+        Key replacement = new Key("replacement");
+        Metadata replaced = metadata.with(replacement);
+        assertThat(replaced.size()).isEqualTo(1);
+        assertThat(replaced.getOrNull(Key.class)).isSameAs(replacement);
+        // Metadata is immutable
+        assertThat(metadata.getOrNull(Key.class)).isSameAs(key);
+        assertThat(metadata.with(key)).isSameAs(metadata);
+
+        Metadata extended = metadata.with(new Trace("step"));
+        assertThat(extended).containsExactly(key, extended.getOrNull(Trace.class));
+        assertThat(extended.without(Trace.class)).isEqualTo(metadata);
+        assertThat(metadata.without(Trace.class)).isSameAs(metadata);
+
+        assertThatThrownBy(() -> Metadata.of(key, replacement)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Metadata.of(key, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testThatDerivedMessagesShareTheMetadata() {
+        Metadata metadata = Metadata.of(new Key("key"));
+        Message<String> message = Message.of("payload").withMetadata(metadata);
+        assertThat(message.getMetadata()).isSameAs(metadata);
+        assertThat(message.withPayload(1).getMetadata()).isSameAs(metadata);
+        assertThat(message.withAck(() -> null).getMetadata()).isSameAs(metadata);
+        assertThat(message.withNack(reason -> null).getMetadata()).isSameAs(metadata);
+        assertThat(Message.of("payload").getMetadata()).isSameAs(Metadata.empty());
+    }
+}
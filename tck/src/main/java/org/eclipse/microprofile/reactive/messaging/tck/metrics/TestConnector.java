@@ -21,8 +21,8 @@ package org.eclipse.microprofile.reactive.messaging.tck.metrics;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.fail;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import org.eclipse.microprofile.config.Config;
@@ -45,8 +45,8 @@ public class TestConnector implements IncomingConnectorFactory, OutgoingConnecto
 
     public static final String ID = "test-connector";
 
-    private Map<String, FlowableEmitter<Message<String>>> incomingEmitters = new HashMap<>();
-    private Map<String, LinkedBlockingQueue<Message<String>>> outgoingQueues = new HashMap<>();
+    private Map<String, FlowableEmitter<Message<String>>> incomingEmitters = new ConcurrentHashMap<>();
+    private Map<String, LinkedBlockingQueue<Message<String>>> outgoingQueues = new ConcurrentHashMap<>();
 
     @Override
     public SubscriberBuilder<? extends Message<String>, Void> getSubscriberBuilder(Config config) {
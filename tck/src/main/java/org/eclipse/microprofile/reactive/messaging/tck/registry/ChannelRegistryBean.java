@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.registry;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class ChannelRegistryBean {
+
+    public static final String EMITTED = "registry-emitted";
+    public static final String PROCESSED = "registry-processed";
+    public static final String FROM_CONNECTOR = "registry-from-connector";
+    public static final String SLOW = "registry-slow";
+
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final List<String> receivedSlowly = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<Void> released = new CompletableFuture<>();
+
+    @Inject
+    @Channel(EMITTED)
+    @OnOverflow(value = OnOverflow.Strategy.BUFFER, bufferSize = 16)
+    private Emitter<String> emitter;
+
+    @Incoming(EMITTED)
+    @Outgoing(PROCESSED)
+    public String process(String payload) {
+        return payload.toUpperCase();
+    }
+
+    @Inject
+    @Channel(SLOW)
+    @OnOverflow(value = OnOverflow.Strategy.BUFFER, bufferSize = 32)
+    private Emitter<String> slowEmitter;
+
+    @Incoming(PROCESSED)
+    public void consume(String payload) {
+        received.add(payload);
+    }
+
+    @Incoming(FROM_CONNECTOR)
+    public void consumeFromConnector(String payload) {
+        received.add(payload);
+    }
+
+    /**
+     * Does not complete the processing of the messages until {@link #release()} is called, so the messages sent in the
+     * meantime are held by the channel.
+     */
+    @Incoming(SLOW)
+    public CompletionStage<Void> consumeSlowly(String payload) {
+        receivedSlowly.add(payload);
+        return released;
+    }
+
+    public void release() {
+        released.complete(null);
+    }
+
+    public Emitter<String> emitter() {
+        return emitter;
+    }
+
+    public Emitter<String> slowEmitter() {
+        return slowEmitter;
+    }
+
+    public List<String> received() {
+        return received;
+    }
+
+    public List<String> receivedSlowly() {
+        return receivedSlowly;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ServiceLoader;
+
+import org.eclipse.microprofile.reactive.messaging.ChannelEndpoint;
+import org.eclipse.microprofile.reactive.messaging.ChannelRegistry;
+import org.eclipse.microprofile.reactive.messaging.ChannelState;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.TestConnector;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+public class ChannelRegistryTest {
+
+    private static final String BEAN = ChannelRegistryBean.class.getName();
+
+    @Deployment
+    public static JavaArchive deployment() {
+        ConfigAsset config = new ConfigAsset()
+                .put("mp.messaging.incoming." + ChannelRegistryBean.FROM_CONNECTOR + ".connector", TestConnector.ID);
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(ChannelRegistryBean.class, TestConnector.class, ConfigAsset.class, ArchiveExtender.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+
+        return archive;
+    }
+
+    @Inject
+    private ChannelRegistry registry;
+
+    @Inject
+    private ChannelRegistryBean bean;
+
+    @Test
+    public void testChannelNames() {
+        assertThat(registry.getChannelNames()).contains(ChannelRegistryBean.EMITTED, ChannelRegistryBean.PROCESSED,
+                ChannelRegistryBean.FROM_CONNECTOR);
+        assertThat(registry.getChannel("registry-unknown")).isEmpty();
+    }
+
+    @Test
+    public void testEmitterChannel() {
+        ChannelState channel = registry.getChannel(ChannelRegistryBean.EMITTED).get();
+        assertThat(channel.getName()).isEqualTo(ChannelRegistryBean.EMITTED);
+        assertThat(channel.getUpstreams()).hasSize(1);
+        assertThat(channel.getUpstreams().get(0).getKind()).isEqualTo(ChannelEndpoint.Kind.EMITTER);
+        assertThat(channel.getUpstreams().get(0).getName()).isEqualTo(BEAN + "#emitter");
+        assertThat(channel.getDownstreams()).hasSize(1);
+        assertThat(channel.getDownstreams().get(0).getKind()).isEqualTo(ChannelEndpoint.Kind.METHOD);
+        assertThat(channel.getDownstreams().get(0).getName()).isEqualTo(BEAN + "#process(java.lang.String)");
+        assertThat(channel.getOverflowStrategy()).contains(OnOverflow.Strategy.BUFFER);
+    }
+
+    @Test
+    public void testMethodToMethodChannel() {
+        ChannelState channel = registry.getChannel(ChannelRegistryBean.PROCESSED).get();
+        assertThat(channel.getUpstreams()).extracting(ChannelEndpoint::getKind)
+                .containsExactly(ChannelEndpoint.Kind.METHOD);
+        assertThat(channel.getUpstreams()).extracting(ChannelEndpoint::getName)
+                .containsExactly(BEAN + "#process(java.lang.String)");
+        assertThat(channel.getDownstreams()).extracting(ChannelEndpoint::getName)
+                .containsExactly(BEAN + "#consume(java.lang.String)");
+        assertThat(channel.getOverflowStrategy()).isEmpty();
+    }
+
+    @Test
+    public void testConnectorChannel() {
+        ChannelState channel = registry.getChannel(ChannelRegistryBean.FROM_CONNECTOR).get();
+        assertThat(channel.getUpstreams()).hasSize(1);
+        assertThat(channel.getUpstreams().get(0).getKind()).isEqualTo(ChannelEndpoint.Kind.CONNECTOR);
+        // The name of the connector, as in the descriptor of the ChannelGraphProcessor (connector:<name>)
+        assertThat(channel.getUpstreams().get(0).getName()).isEqualTo(TestConnector.ID);
+        assertThat(channel.getDownstreams()).extracting(ChannelEndpoint::getName)
+                .containsExactly(BEAN + "#consumeFromConnector(java.lang.String)");
+    }
+
+    @Test
+    public void testBackPressureState() {
+        ChannelState channel = registry.getChannel(ChannelRegistryBean.SLOW).get();
+        int count = 10;
+        // The consumer does not complete the first message, so the following ones are held by the channel
+        for (int i = 0; i < count; i++) {
+            bean.slowEmitter().send("message-" + i);
+        }
+        await().until(() -> bean.receivedSlowly().size() >= 1);
+        await().until(() -> channel.getBuffered() > 0);
+        assertThat(channel.getBuffered()).isLessThanOrEqualTo(count);
+
+        // Once the consumer completes, the channel drains and the consumer requests more messages
+        bean.release();
+        await().until(() -> bean.receivedSlowly().size() == count);
+        await().until(() -> channel.getBuffered() == 0);
+        await().until(() -> channel.getRequested() > 0);
+    }
+}
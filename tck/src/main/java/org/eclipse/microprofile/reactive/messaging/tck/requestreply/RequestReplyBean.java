@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.requestreply;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.CorrelatedMessage;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.messaging.ReplyChannel;
+import org.eclipse.microprofile.reactive.messaging.RequestReplyEmitter;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class RequestReplyBean {
+
+    public static final String LOCAL_REQUESTS = "request-reply-local-requests";
+    public static final String LOCAL_REPLIES = "request-reply-local-replies";
+    public static final String REMOTE_REQUESTS = "request-reply-remote-requests";
+    public static final String REMOTE_REPLIES = "request-reply-remote-replies";
+    public static final long TIMEOUT = 500;
+    public static final int MAX_PENDING_REPLIES = 8;
+
+    @Inject
+    @Channel(LOCAL_REQUESTS)
+    @ReplyChannel(LOCAL_REPLIES)
+    @OnOverflow(OnOverflow.Strategy.UNBOUNDED_BUFFER)
+    private RequestReplyEmitter<String, String> local;
+
+    @Inject
+    @Channel(REMOTE_REQUESTS)
+    @ReplyChannel(value = REMOTE_REPLIES, timeout = TIMEOUT, maxPendingReplies = MAX_PENDING_REPLIES)
+    private RequestReplyEmitter<String, String> remote;
+
+    @Incoming(LOCAL_REQUESTS)
+    @Outgoing(LOCAL_REPLIES)
+    public CorrelatedMessage<String> reply(CorrelatedMessage<String> request) {
+        return request.reply(request.getPayload().toUpperCase());
+    }
+
+    public RequestReplyEmitter<String, String> local() {
+        return local;
+    }
+
+    public RequestReplyEmitter<String, String> remote() {
+        return remote;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.requestreply;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.microprofile.reactive.messaging.CorrelatedMessage;
+import org.eclipse.microprofile.reactive.messaging.CorrelationId;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.messaging.tck.memory.InMemoryConnector;
+import org.eclipse.microprofile.reactive.messaging.tck.memory.InMemoryConnectorTest;
+import org.eclipse.microprofile.reactive.messaging.tck.memory.InMemorySink;
+import org.eclipse.microprofile.reactive.messaging.tck.memory.InMemorySource;
+import org.eclipse.microprofile.reactive.messaging.tck.memory.InMemoryTestBean;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+@RunWith(Arquillian.class)
+public class RequestReplyEmitterTest {
+
+    @Deployment
+    public static JavaArchive deployment() {
+        ConfigAsset config = new ConfigAsset()
+                .put("mp.messaging.outgoing." + RequestReplyBean.REMOTE_REQUESTS + ".connector", InMemoryConnector.ID)
+                .put("mp.messaging.incoming." + RequestReplyBean.REMOTE_REPLIES + ".connector", InMemoryConnector.ID);
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(RequestReplyBean.class, ConfigAsset.class, ArchiveExtender.class)
+                // The in-memory connector, without its own test and test bean
+                .addPackages(false, Filters.exclude(InMemoryConnectorTest.class, InMemoryTestBean.class),
+                        InMemoryConnector.class.getPackage())
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+
+        return archive;
+    }
+
+    @Inject
+    private RequestReplyBean bean;
+
+    @Inject
+    @Connector(InMemoryConnector.ID)
+    private InMemoryConnector connector;
+
+    @Test
+    public void testThatThousandsOfRequestsReceiveTheirReply() throws Exception {
+        List<String> payloads = IntStream.range(0, 5000).mapToObj(i -> "request-" + i).collect(Collectors.toList());
+        List<CompletableFuture<String>> replies = payloads.stream()
+                .map(payload -> bean.local().request(payload).toCompletableFuture())
+                .collect(Collectors.toList());
+
+        CompletableFuture.allOf(replies.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+        for (int i = 0; i < payloads.size(); i++) {
+            assertThat(replies.get(i).getNow(null)).isEqualTo(payloads.get(i).toUpperCase());
+        }
+        assertThat(bean.local().getPendingReplies()).isZero();
+    }
+
+    @Test
+    public void testThatRepliesAreMatchedByCorrelationId() throws Exception {
+        InMemorySink<String> requests = connector.sink(RequestReplyBean.REMOTE_REQUESTS);
+        InMemorySource<String> replies = connector.source(RequestReplyBean.REMOTE_REPLIES);
+        CompletableFuture<String> a = bean.remote().request("a").toCompletableFuture();
+        CompletableFuture<String> b = bean.remote().request("b").toCompletableFuture();
+        CompletableFuture<String> c = bean.remote().request("c").toCompletableFuture();
+
+        await().until(() -> requests.size() == 3);
+        List<Message<String>> received = requests.drain();
+        assertThat(received).extracting(RequestReplyEmitterTest::correlationId).doesNotHaveDuplicates();
+
+        // Reply in the reverse order
+        for (int i = received.size() - 1; i >= 0; i--) {
+            Message<String> request = received.get(i);
+            replies.send(CorrelatedMessage.of(correlationId(request), request.getPayload() + "-reply"));
+        }
+        assertThat(a.get(10, TimeUnit.SECONDS)).isEqualTo("a-reply");
+        assertThat(b.get(10, TimeUnit.SECONDS)).isEqualTo("b-reply");
+        assertThat(c.get(10, TimeUnit.SECONDS)).isEqualTo("c-reply");
+        assertThat(bean.remote().getPendingReplies()).isZero();
+    }
+
+    @Test
+    public void testThatRepliesCanBeCorrelatedByMetadata() throws Exception {
+        InMemorySink<String> requests = connector.sink(RequestReplyBean.REMOTE_REQUESTS);
+        InMemorySource<String> replies = connector.source(RequestReplyBean.REMOTE_REPLIES);
+        CompletableFuture<String> reply = bean.remote().request("metadata").toCompletableFuture();
+
+        await().until(() -> requests.size() == 1);
+        Message<String> request = requests.poll();
+        CorrelationId id = request.getMetadata(CorrelationId.class).orElse(null);
+        assertThat(id).isNotNull();
+
+        // A regular message carrying the correlation id metadata is a valid reply
+        replies.send(Message.of("metadata-reply").addMetadata(id));
+        assertThat(reply.get(10, TimeUnit.SECONDS)).isEqualTo("metadata-reply");
+        assertThat(bean.remote().getPendingReplies()).isZero();
+    }
+
+    @Test
+    public void testThatUncorrelatedRepliesAreNacked() {
+        InMemorySource<String> replies = connector.source(RequestReplyBean.REMOTE_REPLIES);
+        int nacked = replies.nacked();
+
+        replies.send(Message.of("uncorrelated"));
+        await().until(() -> replies.nacked() == nacked + 1);
+    }
+
+    @Test
+    public void testThatNackedRequestsFailTheirReply() {
+        InMemorySink<String> requests = connector.sink(RequestReplyBean.REMOTE_REQUESTS);
+        CompletableFuture<String> reply = bean.remote().request("nacked").toCompletableFuture();
+
+        await().until(() -> requests.size() == 1);
+        IllegalStateException failure = new IllegalStateException("rejected by the remote service");
+        requests.poll().nack(failure);
+
+        assertThatThrownBy(() -> reply.get(10, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+        assertThat(bean.remote().getPendingReplies()).isZero();
+    }
+
+    @Test
+    public void testThatRequestsWithoutReplyTimeOut() {
+        InMemorySink<String> requests = connector.sink(RequestReplyBean.REMOTE_REQUESTS);
+        InMemorySource<String> replies = connector.source(RequestReplyBean.REMOTE_REPLIES);
+        CompletableFuture<String> reply = bean.remote().request("no-reply").toCompletableFuture();
+
+        await().until(() -> requests.size() == 1);
+        String id = correlationId(requests.poll());
+        assertThatThrownBy(() -> reply.get(10, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(bean.remote().getPendingReplies()).isZero();
+
+        // A late reply is acknowledged and ignored
+        int acked = replies.acked();
+        replies.send(CorrelatedMessage.of(id, "too-late"));
+        await().until(() -> replies.acked() == acked + 1);
+    }
+
+    @Test
+    public void testThatTheCorrelationTableIsBounded() throws Exception {
+        List<CompletableFuture<String>> pending = new ArrayList<>();
+        for (int i = 0; i < RequestReplyBean.MAX_PENDING_REPLIES; i++) {
+            pending.add(bean.remote().request("pending-" + i).toCompletableFuture());
+        }
+        assertThat(bean.remote().getPendingReplies()).isEqualTo(RequestReplyBean.MAX_PENDING_REPLIES);
+        assertThatThrownBy(() -> bean.remote().request("rejected")).isInstanceOf(IllegalStateException.class);
+
+        await().until(() -> connector.sink(RequestReplyBean.REMOTE_REQUESTS)
+                .size() == RequestReplyBean.MAX_PENDING_REPLIES);
+        assertThat(connector.<String, String>reply(RequestReplyBean.REMOTE_REQUESTS, RequestReplyBean.REMOTE_REPLIES,
+                String::toUpperCase)).isEqualTo(RequestReplyBean.MAX_PENDING_REPLIES);
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+        assertThat(bean.remote().getPendingReplies()).isZero();
+
+        // Room has been freed in the table
+        CompletableFuture<String> accepted = bean.remote().request("accepted").toCompletableFuture();
+        await().until(() -> connector.<String, String>reply(RequestReplyBean.REMOTE_REQUESTS,
+                RequestReplyBean.REMOTE_REPLIES, String::toUpperCase) == 1);
+        assertThat(accepted.get(10, TimeUnit.SECONDS)).isEqualTo("ACCEPTED");
+    }
+
+    private static String correlationId(Message<String> message) {
+        return message.getMetadata(CorrelationId.class).map(CorrelationId::getValue)
+                .orElseThrow(() -> new AssertionError("The request has no correlation id: " + message));
+    }
+}
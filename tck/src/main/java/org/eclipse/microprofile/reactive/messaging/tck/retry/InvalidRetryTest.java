@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.retry;
+
+import java.util.ServiceLoader;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.messaging.Retry;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
+import org.jboss.arquillian.container.test.api.Deployer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.ShouldThrowException;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+@RunWith(Arquillian.class)
+public class InvalidRetryTest {
+
+    @Deployment(managed = false, name = "retry-without-incoming")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> retryWithoutIncoming() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(RetryWithoutIncoming.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "retry-on-stream")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> retryOnStream() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(RetryOnStream.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "retry-invalid-attempts")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> retryInvalidAttempts() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(RetryInvalidAttempts.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "retry-invalid-max-delay")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> retryInvalidMaxDelay() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(RetryInvalidMaxDelay.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "retry-invalid-factor")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> retryInvalidFactor() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(RetryInvalidFactor.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "retry-invalid-jitter")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> retryInvalidJitter() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(RetryInvalidJitter.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @ArquillianResource
+    private Deployer deployer;
+
+    @Test
+    public void checkThatRetryWithoutIncomingIsRejected() {
+        deployer.deploy("retry-without-incoming");
+    }
+
+    @Test
+    public void checkThatRetryOnStreamConsumersIsRejected() {
+        deployer.deploy("retry-on-stream");
+    }
+
+    @Test
+    public void checkThatNonPositiveMaxAttemptsAreRejected() {
+        deployer.deploy("retry-invalid-attempts");
+    }
+
+    @Test
+    public void checkThatMaxDelaysLowerThanTheDelayAreRejected() {
+        deployer.deploy("retry-invalid-max-delay");
+    }
+
+    @Test
+    public void checkThatFactorsLowerThanOneAreRejected() {
+        deployer.deploy("retry-invalid-factor");
+    }
+
+    @Test
+    public void checkThatJittersGreaterThanOneAreRejected() {
+        deployer.deploy("retry-invalid-jitter");
+    }
+
+    @ApplicationScoped
+    public static class Source {
+
+        @Outgoing("retry-invalid")
+        public PublisherBuilder<String> source() {
+            return ReactiveStreams.of("a", "b");
+        }
+    }
+
+    @ApplicationScoped
+    public static class RetryWithoutIncoming {
+
+        @Incoming("retry-invalid")
+        public void consume(String payload) {
+            // Valid consumer, the invalid method is below
+        }
+
+        @Retry
+        public void notAConsumer(String payload) {
+            // Not called
+        }
+    }
+
+    @ApplicationScoped
+    public static class RetryOnStream {
+
+        @Incoming("retry-invalid")
+        @Retry
+        public SubscriberBuilder<String, Void> consume() {
+            return ReactiveStreams.<String>builder().ignore();
+        }
+    }
+
+    @ApplicationScoped
+    public static class RetryInvalidAttempts {
+
+        @Incoming("retry-invalid")
+        @Retry(maxAttempts = 0)
+        public void consume(String payload) {
+            // Not called
+        }
+    }
+
+    @ApplicationScoped
+    public static class RetryInvalidMaxDelay {
+
+        @Incoming("retry-invalid")
+        @Retry(delay = 1000, maxDelay = 10)
+        public void consume(String payload) {
+            // Not called
+        }
+    }
+
+    @ApplicationScoped
+    public static class RetryInvalidFactor {
+
+        @Incoming("retry-invalid")
+        @Retry(factor = 0.5)
+        public void consume(String payload) {
+            // Not called
+        }
+    }
+
+    @ApplicationScoped
+    public static class RetryInvalidJitter {
+
+        @Incoming("retry-invalid")
+        @Retry(jitter = 1.5)
+        public void consume(String payload) {
+            // Not called
+        }
+    }
+}
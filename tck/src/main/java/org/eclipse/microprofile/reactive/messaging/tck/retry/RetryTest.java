@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Retry;
+import org.eclipse.microprofile.reactive.messaging.tck.TckBase;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Before;
+import org.junit.Test;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+public class RetryTest extends TckBase {
+
+    @Deployment
+    public static Archive<JavaArchive> deployment() {
+        return getBaseArchive()
+                .addClasses(Source.class, RetryingConsumer.class);
+    }
+
+    @Inject
+    private Source source;
+
+    @Inject
+    private RetryingConsumer consumer;
+
+    private final Set<String> acked = ConcurrentHashMap.newKeySet();
+    private final Map<String, Throwable> nacked = new ConcurrentHashMap<>();
+
+    @Before
+    public void reset() {
+        consumer.reset();
+        acked.clear();
+        nacked.clear();
+    }
+
+    @Test
+    public void testThatTransientFailuresAreRetried() {
+        send("a");
+        send("transient");
+        send("c");
+
+        await().until(() -> acked.size() == 3);
+        assertThat(nacked).isEmpty();
+        assertThat(consumer.processed()).containsExactlyInAnyOrder("a", "transient", "c");
+        assertThat(consumer.attempts("a")).isEqualTo(1);
+        assertThat(consumer.attempts("transient")).isEqualTo(RetryingConsumer.MAX_ATTEMPTS);
+        assertThat(consumer.attempts("c")).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatOtherMessagesFlowWhileAMessageWaitsForARetry() {
+        send("transient");
+        send("c");
+
+        await().until(() -> acked.size() == 2);
+        // "c" must not wait for the retries of "transient"
+        assertThat(consumer.processed()).containsExactly("c", "transient");
+    }
+
+    @Test
+    public void testThatMessagesAreNackedOnceMaxAttemptsIsReached() {
+        send("permanent");
+        send("c");
+
+        await().until(() -> nacked.size() == 1 && acked.size() == 1);
+        assertThat(nacked).containsKey("permanent");
+        assertThat(nacked.get("permanent")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(consumer.attempts("permanent")).isEqualTo(RetryingConsumer.MAX_ATTEMPTS);
+        assertThat(acked).containsExactly("c");
+    }
+
+    @Test
+    public void testThatAbortedFailuresAreNotRetried() {
+        send("abort");
+
+        await().until(() -> nacked.size() == 1);
+        assertThat(nacked.get("abort")).isInstanceOf(IllegalStateException.class);
+        assertThat(consumer.attempts("abort")).isEqualTo(1);
+        assertThat(acked).isEmpty();
+    }
+
+    private void send(String payload) {
+        source.emitter().send(Message.of(payload,
+                () -> {
+                    acked.add(payload);
+                    return CompletableFuture.completedFuture(null);
+                }, t -> {
+                    nacked.put(payload, t);
+                    return CompletableFuture.completedFuture(null);
+                }));
+    }
+
+    @ApplicationScoped
+    public static class Source {
+        @Inject
+        @Channel("retry-data")
+        private Emitter<String> emitter;
+
+        public Emitter<String> emitter() {
+            return emitter;
+        }
+    }
+
+    @ApplicationScoped
+    public static class RetryingConsumer {
+
+        static final int MAX_ATTEMPTS = 3;
+
+        private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        private final List<String> processed = new CopyOnWriteArrayList<>();
+
+        @Incoming("retry-data")
+        @Retry(maxAttempts = MAX_ATTEMPTS, delay = 200, factor = 1.0, jitter = 0.0, abortOn = IllegalStateException.class)
+        public void consume(String payload) {
+            int attempt = attempts.computeIfAbsent(payload, x -> new AtomicInteger()).incrementAndGet();
+            if (payload.equals("transient") && attempt < MAX_ATTEMPTS) {
+                throw new IllegalArgumentException("transient failure #" + attempt);
+            }
+            if (payload.equals("permanent")) {
+                throw new IllegalArgumentException("permanent failure");
+            }
+            if (payload.equals("abort")) {
+                throw new IllegalStateException("not retryable");
+            }
+            processed.add(payload);
+        }
+
+        public int attempts(String payload) {
+            AtomicInteger counter = attempts.get(payload);
+            return counter == null ? 0 : counter.get();
+        }
+
+        public List<String> processed() {
+            return processed;
+        }
+
+        public void reset() {
+            attempts.clear();
+            processed.clear();
+        }
+    }
+}
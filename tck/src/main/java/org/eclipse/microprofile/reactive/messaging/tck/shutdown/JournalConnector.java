@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.shutdown;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
+import org.eclipse.microprofile.reactive.messaging.spi.OutgoingConnectorFactory;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * A connector recording what happens to messages in a journal file, which outlives the deployment.
+ * <p>
+ * Incoming channels emit an unbounded sequence of integers, as requested, and record {@code emitted <i>},
+ * {@code acked <i>} and {@code nacked <i>} lines. Outgoing channels record {@code written <payload>} lines and
+ * acknowledge the messages.
+ */
+@ApplicationScoped
+@Connector(JournalConnector.ID)
+public class JournalConnector implements IncomingConnectorFactory, OutgoingConnectorFactory {
+
+    public static final String ID = "journal";
+    public static final String PATH_ATTRIBUTE = "path";
+
+    @Override
+    public PublisherBuilder<? extends Message<?>> getPublisherBuilder(Config config) {
+        Path journal = Paths.get(config.getValue(PATH_ATTRIBUTE, String.class));
+        return ReactiveStreams.iterate(0, i -> i + 1).map(i -> {
+            record(journal, "emitted " + i);
+            return Message.of(i, () -> {
+                record(journal, "acked " + i);
+                return CompletableFuture.completedFuture(null);
+            }, reason -> {
+                record(journal, "nacked " + i);
+                return CompletableFuture.completedFuture(null);
+            });
+        });
+    }
+
+    @Override
+    public SubscriberBuilder<? extends Message<?>, Void> getSubscriberBuilder(Config config) {
+        Path journal = Paths.get(config.getValue(PATH_ATTRIBUTE, String.class));
+        return ReactiveStreams.<Message<?>>builder().forEach(message -> {
+            record(journal, "written " + message.getPayload());
+            message.ack();
+        });
+    }
+
+    private static synchronized void record(Path journal, String line) {
+        try {
+            Files.write(journal, Collections.singletonList(line), StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
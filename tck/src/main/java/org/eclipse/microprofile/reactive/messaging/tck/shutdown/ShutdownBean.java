@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.shutdown;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class ShutdownBean {
+
+    /**
+     * The processing of this value never completes, so it is still in flight when the drain times out.
+     */
+    public static final int STUCK = 3;
+
+    /**
+     * The number of payloads sent with the emitter when the application starts.
+     */
+    public static final int EMITTED = 20;
+
+    public static final long PROCESSING_DELAY = 50;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    @Inject
+    @Channel("shutdown-emitted")
+    @OnOverflow(OnOverflow.Strategy.UNBOUNDED_BUFFER)
+    private Emitter<String> emitter;
+
+    public void start(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        for (int i = 0; i < EMITTED; i++) {
+            emitter.send("e-" + i);
+        }
+    }
+
+    @Incoming("shutdown-source")
+    @Outgoing("shutdown-processed")
+    public CompletionStage<String> process(int value) {
+        if (value == STUCK) {
+            return new CompletableFuture<>();
+        }
+        return delayed("p-" + value);
+    }
+
+    @Incoming("shutdown-emitted")
+    @Outgoing("shutdown-emitted-processed")
+    public CompletionStage<String> processEmitted(String payload) {
+        // Slow enough for the emitter buffer to still contain payloads when the application is stopped
+        return delayed(payload);
+    }
+
+    private CompletionStage<String> delayed(String payload) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        executor.schedule(() -> result.complete(payload), PROCESSING_DELAY, TimeUnit.MILLISECONDS);
+        return result;
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+}
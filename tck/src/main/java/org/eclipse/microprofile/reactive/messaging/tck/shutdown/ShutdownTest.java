@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.shutdown;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/*
+ * Undeploys an application while messages are in flight, and checks from the journal written by the connector that the
+ * application was drained: the emitter buffer is flushed, in-flight processing completes and is acknowledged, and the
+ * message still in flight when the shutdown timeout expires is nacked.
+ */
+@RunWith(Arquillian.class)
+public class ShutdownTest {
+
+    private static final String DEPLOYMENT = "shutdown";
+    private static final long SHUTDOWN_TIMEOUT = 5000;
+
+    private static Path journal;
+
+    @ArquillianResource
+    private Deployer deployer;
+
+    @Deployment(managed = false, name = DEPLOYMENT)
+    public static Archive<JavaArchive> deployment() throws IOException {
+        journal = Files.createTempFile("mp-rm-shutdown", ".journal");
+        ConfigAsset config = new ConfigAsset()
+                .put("mp.messaging.shutdown-timeout", Long.toString(SHUTDOWN_TIMEOUT))
+                .put("mp.messaging.incoming.shutdown-source.connector", JournalConnector.ID)
+                .put("mp.messaging.incoming.shutdown-source.path", journal.toString())
+                .put("mp.messaging.outgoing.shutdown-processed.connector", JournalConnector.ID)
+                .put("mp.messaging.outgoing.shutdown-processed.path", journal.toString())
+                .put("mp.messaging.outgoing.shutdown-emitted-processed.connector", JournalConnector.ID)
+                .put("mp.messaging.outgoing.shutdown-emitted-processed.path", journal.toString());
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(ShutdownBean.class, JournalConnector.class, ConfigAsset.class, ArchiveExtender.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Test
+    public void testThatUndeployingDrainsTheApplication() {
+        deployer.deploy(DEPLOYMENT);
+        // Mid-stream: the stuck message is in flight, and the emitter buffer is not empty yet
+        await().until(() -> journal().contains("written p-" + (ShutdownBean.STUCK - 1))
+                && journal().contains("written e-0"));
+
+        long start = System.nanoTime();
+        deployer.undeploy(DEPLOYMENT);
+        long duration = (System.nanoTime() - start) / 1_000_000;
+
+        List<String> lines = journal();
+        // The emitter buffer was flushed
+        assertThat(lines).containsAll(IntStream.range(0, ShutdownBean.EMITTED).mapToObj(i -> "written e-" + i)
+                .collect(Collectors.toList()));
+        // The processing that completed was acknowledged, the stuck message was nacked once the timeout expired
+        for (int i = 0; i < ShutdownBean.STUCK; i++) {
+            assertThat(lines).contains("written p-" + i, "acked " + i);
+        }
+        assertThat(lines).contains("nacked " + ShutdownBean.STUCK).doesNotContain("acked " + ShutdownBean.STUCK);
+        // Every emitted message was either acked or nacked, exactly once
+        List<String> emitted = lines.stream().filter(line -> line.startsWith("emitted "))
+                .map(line -> line.substring("emitted ".length())).collect(Collectors.toList());
+        for (String value : emitted) {
+            long outcomes = lines.stream()
+                    .filter(line -> line.equals("acked " + value) || line.equals("nacked " + value)).count();
+            assertThat(outcomes).as("outcomes of %s", value).isEqualTo(1);
+        }
+        // The drain is bounded by the shutdown timeout
+        assertThat(duration).isLessThan(SHUTDOWN_TIMEOUT + 10_000);
+    }
+
+    private static List<String> journal() {
+        try {
+            return Files.readAllLines(journal, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.signatures.converters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class ConverterBean {
+
+    private static final List<String> EXPECTED = Arrays.asList("1", "2", "3", "4", "5", "6", "7", "8", "9", "10");
+
+    private final Map<String, List<String>> collector = new ConcurrentHashMap<>();
+    private final List<byte[]> sentArrays = new CopyOnWriteArrayList<>();
+    private final List<Boolean> sharedArrays = new CopyOnWriteArrayList<>();
+    private final List<Order> orders = new CopyOnWriteArrayList<>();
+
+    @Inject
+    private OrderConverter orderConverter;
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private byte[] tracked(String value) {
+        byte[] array = bytes(value);
+        sentArrays.add(array);
+        return array;
+    }
+
+    private boolean isSent(byte[] array) {
+        return sentArrays.stream().anyMatch(sent -> sent == array);
+    }
+
+    @Outgoing("converter-bytes-to-string")
+    public PublisherBuilder<byte[]> bytesForString() {
+        return ReactiveStreams.fromIterable(EXPECTED).map(ConverterBean::bytes);
+    }
+
+    @Incoming("converter-bytes-to-string")
+    public void consumeString(String payload) {
+        add("converter-bytes-to-string", payload);
+    }
+
+    @Outgoing("converter-string-to-bytes")
+    public PublisherBuilder<String> stringsForBytes() {
+        return ReactiveStreams.fromIterable(EXPECTED);
+    }
+
+    @Incoming("converter-string-to-bytes")
+    public void consumeBytes(byte[] payload) {
+        add("converter-string-to-bytes", string(payload));
+    }
+
+    @Outgoing("converter-bytes-to-buffer")
+    public PublisherBuilder<byte[]> bytesForBuffer() {
+        return ReactiveStreams.fromIterable(EXPECTED).map(this::tracked);
+    }
+
+    @Incoming("converter-bytes-to-buffer")
+    public void consumeBuffer(ByteBuffer payload) {
+        // Wrapped, not copied
+        sharedArrays.add(payload.hasArray() && isSent(payload.array()));
+        add("converter-bytes-to-buffer", StandardCharsets.UTF_8.decode(payload.duplicate()).toString());
+    }
+
+    @Outgoing("converter-buffer-to-bytes")
+    public PublisherBuilder<ByteBuffer> buffersForBytes() {
+        return ReactiveStreams.fromIterable(EXPECTED).map(this::tracked).map(ByteBuffer::wrap);
+    }
+
+    @Incoming("converter-buffer-to-bytes")
+    public void consumeBufferAsBytes(byte[] payload) {
+        // The buffers span the whole of their array, so the array is returned without copy
+        sharedArrays.add(isSent(payload));
+        add("converter-buffer-to-bytes", string(payload));
+    }
+
+    @Outgoing("converter-buffer-to-string")
+    public PublisherBuilder<ByteBuffer> buffersForString() {
+        return ReactiveStreams.fromIterable(EXPECTED).map(ConverterBean::bytes).map(ByteBuffer::wrap)
+                .map(ByteBuffer::asReadOnlyBuffer);
+    }
+
+    @Incoming("converter-buffer-to-string")
+    public void consumeBufferAsString(String payload) {
+        add("converter-buffer-to-string", payload);
+    }
+
+    @Outgoing("converter-message")
+    public PublisherBuilder<Message<byte[]>> messagesOfBytes() {
+        return ReactiveStreams.fromIterable(EXPECTED).map(ConverterBean::bytes).map(Message::of);
+    }
+
+    @Incoming("converter-message")
+    public void consumeMessage(Message<String> message) {
+        add("converter-message", message.getPayload());
+    }
+
+    @Outgoing("converter-orders")
+    public PublisherBuilder<byte[]> encodedOrders() {
+        return ReactiveStreams.fromIterable(EXPECTED).map(id -> Order.encode(id, Integer.parseInt(id) * 10));
+    }
+
+    @Incoming("converter-orders")
+    @Outgoing("converter-order-ids")
+    public String orderId(Order order) {
+        orders.add(order);
+        return order.getId();
+    }
+
+    @Incoming("converter-order-ids")
+    public void consumeOrderId(String id) {
+        add("converter-order-ids", id);
+    }
+
+    private void add(String key, String value) {
+        collector.computeIfAbsent(key, x -> new CopyOnWriteArrayList<>()).add(value);
+    }
+
+    private List<String> received(String key) {
+        return collector.getOrDefault(key, new CopyOnWriteArrayList<>());
+    }
+
+    void verifyBuiltInConverters() {
+        List<String> keys = Arrays.asList("converter-bytes-to-string", "converter-string-to-bytes",
+                "converter-bytes-to-buffer", "converter-buffer-to-bytes", "converter-buffer-to-string",
+                "converter-message");
+        await().until(() -> keys.stream().allMatch(key -> received(key).size() == EXPECTED.size()));
+        for (String key : keys) {
+            assertThat(received(key)).as(key).containsExactlyElementsOf(EXPECTED);
+        }
+        assertThat(sharedArrays).hasSize(2 * EXPECTED.size()).containsOnly(true);
+    }
+
+    void verifyApplicationConverter() {
+        await().until(() -> received("converter-order-ids").size() == EXPECTED.size());
+        assertThat(received("converter-order-ids")).containsExactlyElementsOf(EXPECTED);
+        assertThat(orders.stream().map(Order::getAmount).collect(Collectors.toList()))
+                .containsExactlyElementsOf(
+                        EXPECTED.stream().map(id -> Integer.parseInt(id) * 10).collect(Collectors.toList()));
+        // The converter with the highest priority is selected
+        assertThat(orders).extracting(Order::getConvertedBy).containsOnly("order-converter");
+        // The converter is resolved once for the channel and method, but invoked for every message
+        assertThat(orderConverter.resolutions()).isEqualTo(1);
+        assertThat(orderConverter.conversions()).isEqualTo(EXPECTED.size());
+    }
+}
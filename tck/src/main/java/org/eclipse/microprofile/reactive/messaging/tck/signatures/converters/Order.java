@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.signatures.converters;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An application payload, received as {@code <id>:<amount>} encoded in UTF-8.
+ */
+public class Order {
+
+    private final String id;
+    private final int amount;
+    private final String convertedBy;
+
+    public Order(String id, int amount, String convertedBy) {
+        this.id = id;
+        this.amount = amount;
+        this.convertedBy = convertedBy;
+    }
+
+    static byte[] encode(String id, int amount) {
+        return (id + ":" + amount).getBytes(StandardCharsets.UTF_8);
+    }
+
+    static Order parse(byte[] bytes, String convertedBy) {
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        int separator = value.indexOf(':');
+        return new Order(value.substring(0, separator), Integer.parseInt(value.substring(separator + 1)),
+                convertedBy);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public String getConvertedBy() {
+        return convertedBy;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.signatures.converters;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.MessageConverter;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Converts {@code byte[]} payloads to {@link Order Orders}, counting how many times the implementation resolves and
+ * invokes it.
+ */
+@ApplicationScoped
+public class OrderConverter implements MessageConverter {
+
+    private final AtomicInteger resolutions = new AtomicInteger();
+    private final AtomicInteger conversions = new AtomicInteger();
+
+    @Override
+    public boolean canConvert(Class<?> payloadClass, Type target) {
+        if (target != Order.class) {
+            return false;
+        }
+        resolutions.incrementAndGet();
+        return payloadClass == byte[].class;
+    }
+
+    @Override
+    public Message<?> convert(Message<?> message, Type target) {
+        conversions.incrementAndGet();
+        return message.withPayload(Order.parse((byte[]) message.getPayload(), "order-converter"));
+    }
+
+    public int resolutions() {
+        return resolutions.get();
+    }
+
+    public int conversions() {
+        return conversions.get();
+    }
+}
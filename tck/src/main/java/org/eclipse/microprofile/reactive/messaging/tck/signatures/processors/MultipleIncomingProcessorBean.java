@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.signatures.processors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.ProcessorBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class MultipleIncomingProcessorBean {
+
+    private static final List<String> EXPECTED = Arrays.asList("1", "2", "3", "4", "5", "6", "7", "8", "9", "10");
+
+    private Map<String, List<String>> collector = new ConcurrentHashMap<>();
+
+    private static Map<String, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    private static void increment(String counter) {
+        counters.computeIfAbsent(counter, x -> new AtomicInteger(0)).incrementAndGet();
+    }
+
+    private static PublisherBuilder<String> source(String prefix) {
+        return ReactiveStreams.fromIterable(EXPECTED).map(i -> prefix + "-" + i);
+    }
+
+    @Outgoing("multiple-payload-a")
+    public PublisherBuilder<String> sourceForPayloadA() {
+        return source("a");
+    }
+
+    @Outgoing("multiple-payload-b")
+    public PublisherBuilder<String> sourceForPayloadB() {
+        return source("b");
+    }
+
+    @Incoming("multiple-payload-a")
+    @Incoming("multiple-payload-b")
+    @Outgoing("multiple-payload-out")
+    public String processPayload(String payload) {
+        increment("multiple-payload");
+        return payload.toUpperCase();
+    }
+
+    @Incoming("multiple-payload-out")
+    public void sinkForPayload(String payload) {
+        add("multiple-payload", payload);
+    }
+
+    @Outgoing("multiple-message-a")
+    public PublisherBuilder<Message<String>> sourceForMessageA() {
+        return source("a").map(Message::of);
+    }
+
+    @Outgoing("multiple-message-b")
+    public PublisherBuilder<Message<String>> sourceForMessageB() {
+        return source("b").map(Message::of);
+    }
+
+    @Incoming("multiple-message-a")
+    @Incoming("multiple-message-b")
+    @Outgoing("multiple-message-out")
+    public Message<String> processMessage(Message<String> message) {
+        increment("multiple-message");
+        return message.withPayload(message.getPayload().toUpperCase());
+    }
+
+    @Incoming("multiple-message-out")
+    public void sinkForMessage(String payload) {
+        add("multiple-message", payload);
+    }
+
+    @Outgoing("multiple-processor-builder-a")
+    public PublisherBuilder<String> sourceForProcessorBuilderA() {
+        return source("a");
+    }
+
+    @Outgoing("multiple-processor-builder-b")
+    public PublisherBuilder<String> sourceForProcessorBuilderB() {
+        return source("b");
+    }
+
+    @Incoming("multiple-processor-builder-a")
+    @Incoming("multiple-processor-builder-b")
+    @Outgoing("multiple-processor-builder-out")
+    public ProcessorBuilder<String, String> processorBuilderOfPayloads() {
+        // Invoked once per channel
+        increment("multiple-processor-builder");
+        return ReactiveStreams.<String>builder().map(String::toUpperCase);
+    }
+
+    @Incoming("multiple-processor-builder-out")
+    public void sinkForProcessorBuilder(String payload) {
+        add("multiple-processor-builder", payload);
+    }
+
+    private void add(String key, String value) {
+        collector.computeIfAbsent(key, x -> new CopyOnWriteArrayList<>()).add(value);
+    }
+
+    private List<String> received(String key, String prefix) {
+        return collector.get(key).stream()
+                .filter(p -> p.startsWith(prefix + "-"))
+                .map(p -> p.substring(prefix.length() + 1))
+                .collect(Collectors.toList());
+    }
+
+    void verify() {
+        List<String> keys = Arrays.asList("multiple-payload", "multiple-message", "multiple-processor-builder");
+        await().until(() -> keys.stream()
+                .allMatch(key -> collector.containsKey(key) && collector.get(key).size() == 2 * EXPECTED.size()));
+        for (String key : keys) {
+            // The outgoing channel receives the results of both channels, each one in order
+            assertThat(received(key, "A")).containsExactlyElementsOf(EXPECTED);
+            assertThat(received(key, "B")).containsExactlyElementsOf(EXPECTED);
+        }
+        assertThat(counters.get("multiple-payload")).hasValue(2 * EXPECTED.size());
+        assertThat(counters.get("multiple-message")).hasValue(2 * EXPECTED.size());
+        assertThat(counters.get("multiple-processor-builder")).hasValue(2);
+    }
+}
@@ -31,7 +31,8 @@ public class ProcessorShapeTest extends TckBase {
     @Deployment
     public static Archive<JavaArchive> deployment() {
         return getBaseArchive()
-                .addClasses(ProcessorBean.class, PublisherBean.class, DirectProcessorBean.class, TransformerBean.class);
+                .addClasses(ProcessorBean.class, PublisherBean.class, DirectProcessorBean.class, TransformerBean.class,
+                        MultipleIncomingProcessorBean.class);
     }
 
     @Inject
@@ -46,6 +47,9 @@ public class ProcessorShapeTest extends TckBase {
     @Inject
     private TransformerBean beanTransformingStreams;
 
+    @Inject
+    private MultipleIncomingProcessorBean beanConsumingMultipleChannels;
+
     @Test
     public void verifySignaturesReturningProcessors() {
         beanContainingMethodReturningProcessors.verify();
@@ -65,4 +69,9 @@ public class ProcessorShapeTest extends TckBase {
     public void verifySignatureConsumingAndProducingStreams() {
         beanTransformingStreams.verify();
     }
+
+    @Test
+    public void verifySignaturesConsumingMultipleChannels() {
+        beanConsumingMultipleChannels.verify();
+    }
 }
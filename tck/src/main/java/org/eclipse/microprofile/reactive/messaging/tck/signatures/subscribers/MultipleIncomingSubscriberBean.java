@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.signatures.subscribers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class MultipleIncomingSubscriberBean {
+
+    private static final List<String> EXPECTED = Arrays.asList("1", "2", "3", "4", "5", "6", "7", "8", "9", "10");
+
+    private Map<String, List<String>> collector = new ConcurrentHashMap<>();
+
+    private static Map<String, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    private static void increment(String counter) {
+        counters.computeIfAbsent(counter, x -> new AtomicInteger(0)).incrementAndGet();
+    }
+
+    private static PublisherBuilder<String> source(String prefix) {
+        return ReactiveStreams.fromIterable(EXPECTED).map(i -> prefix + "-" + i);
+    }
+
+    @Outgoing("multiple-void-payload-a")
+    public PublisherBuilder<String> sourceForVoidPayloadA() {
+        return source("a");
+    }
+
+    @Outgoing("multiple-void-payload-b")
+    public PublisherBuilder<String> sourceForVoidPayloadB() {
+        return source("b");
+    }
+
+    @Incoming("multiple-void-payload-a")
+    @Incoming("multiple-void-payload-b")
+    public void consumePayload(String payload) {
+        increment("multiple-void-payload");
+        add("multiple-void-payload", payload);
+    }
+
+    @Outgoing("multiple-cs-void-message-a")
+    public PublisherBuilder<Message<String>> sourceForCsVoidMessageA() {
+        return source("a").map(Message::of);
+    }
+
+    @Outgoing("multiple-cs-void-message-b")
+    public PublisherBuilder<Message<String>> sourceForCsVoidMessageB() {
+        return source("b").map(Message::of);
+    }
+
+    @Incoming("multiple-cs-void-message-a")
+    @Incoming("multiple-cs-void-message-b")
+    public CompletionStage<Void> consumeMessage(Message<String> message) {
+        increment("multiple-cs-void-message");
+        add("multiple-cs-void-message", message.getPayload());
+        return message.ack();
+    }
+
+    @Outgoing("multiple-subscriber-builder-payload-a")
+    public PublisherBuilder<String> sourceForSubscriberBuilderA() {
+        return source("a");
+    }
+
+    @Outgoing("multiple-subscriber-builder-payload-b")
+    public PublisherBuilder<String> sourceForSubscriberBuilderB() {
+        return source("b");
+    }
+
+    @Incoming("multiple-subscriber-builder-payload-a")
+    @Incoming("multiple-subscriber-builder-payload-b")
+    public SubscriberBuilder<String, Void> subscriberBuilderOfPayloads() {
+        // Invoked once per channel
+        increment("multiple-subscriber-builder-payload");
+        return ReactiveStreams.<String>builder().forEach(p -> add("multiple-subscriber-builder-payload", p));
+    }
+
+    @Outgoing("multiple-independent-a")
+    public PublisherBuilder<String> sourceForIndependentA() {
+        return source("a");
+    }
+
+    @Outgoing("multiple-independent-b")
+    public PublisherBuilder<String> sourceForIndependentB() {
+        return source("b");
+    }
+
+    @Incoming("multiple-independent-a")
+    @Incoming("multiple-independent-b")
+    public CompletionStage<Void> consumeIndependently(String payload) {
+        add("multiple-independent", payload);
+        if (payload.startsWith("a-")) {
+            // Never completes, so the first channel never requests another message
+            return new CompletableFuture<>();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void add(String key, String value) {
+        collector.computeIfAbsent(key, x -> new CopyOnWriteArrayList<>()).add(value);
+    }
+
+    private List<String> received(String key, String prefix) {
+        return collector.getOrDefault(key, new CopyOnWriteArrayList<>()).stream()
+                .filter(p -> p.startsWith(prefix + "-"))
+                .map(p -> p.substring(prefix.length() + 1))
+                .collect(Collectors.toList());
+    }
+
+    void verify() {
+        await().until(() -> collector.containsKey("multiple-void-payload")
+                && collector.get("multiple-void-payload").size() == 2 * EXPECTED.size()
+                && collector.containsKey("multiple-cs-void-message")
+                && collector.get("multiple-cs-void-message").size() == 2 * EXPECTED.size()
+                && collector.containsKey("multiple-subscriber-builder-payload")
+                && collector.get("multiple-subscriber-builder-payload").size() == 2 * EXPECTED.size());
+        for (String key : Arrays.asList("multiple-void-payload", "multiple-cs-void-message",
+                "multiple-subscriber-builder-payload")) {
+            assertThat(received(key, "a")).containsExactlyElementsOf(EXPECTED);
+            assertThat(received(key, "b")).containsExactlyElementsOf(EXPECTED);
+        }
+        assertThat(counters.get("multiple-void-payload")).hasValue(2 * EXPECTED.size());
+        assertThat(counters.get("multiple-cs-void-message")).hasValue(2 * EXPECTED.size());
+        assertThat(counters.get("multiple-subscriber-builder-payload")).hasValue(2);
+    }
+
+    void verifyIndependentDemand() {
+        // The pending message of the first channel does not prevent the second channel from being consumed
+        await().until(() -> received("multiple-independent", "b").size() == EXPECTED.size());
+        assertThat(received("multiple-independent", "b")).containsExactlyElementsOf(EXPECTED);
+        assertThat(received("multiple-independent", "a")).containsExactly("1");
+    }
+}
@@ -31,14 +31,27 @@ public class SubscriberShapeTest extends TckBase {
     @Deployment
     public static Archive<JavaArchive> deployment() {
         return getBaseArchive()
-                .addClasses(SubscriberBean.class);
+                .addClasses(SubscriberBean.class, MultipleIncomingSubscriberBean.class);
     }
 
     @Inject
     private SubscriberBean verifier;
 
+    @Inject
+    private MultipleIncomingSubscriberBean multipleIncomingVerifier;
+
     @Test
     public void verifySubscriberSignatures() {
         verifier.verify();
     }
+
+    @Test
+    public void verifySubscriberSignaturesConsumingMultipleChannels() {
+        multipleIncomingVerifier.verify();
+    }
+
+    @Test
+    public void verifyThatMultipleChannelsHaveIndependentDemand() {
+        multipleIncomingVerifier.verifyIndependentDemand();
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.microprofile.reactive.messaging.tck.startup.StartupBean.LARGE_CHANNELS;
+import static org.eclipse.microprofile.reactive.messaging.tck.startup.StartupBean.LARGE_PREFIX;
+import static org.eclipse.microprofile.reactive.messaging.tck.startup.StartupBean.SMALL_CHANNELS;
+import static org.eclipse.microprofile.reactive.messaging.tck.startup.StartupBean.SMALL_PREFIX;
+
+import java.util.ServiceLoader;
+
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.messaging.tck.metrics.ConfigAsset;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.inject.Inject;
+
+/**
+ * Verifies that channels are created in parallel when {@code mp.messaging.startup-parallelism} allows it, so the
+ * startup time grows sublinearly with the number of slow channels: the {@link SlowConnector.Large} connector creates
+ * four times as many channels as the {@link SlowConnector.Small} one, in less than twice the time.
+ */
+@RunWith(Arquillian.class)
+public class ParallelStartupTest {
+
+    @Deployment
+    public static JavaArchive deployment() {
+        ConfigAsset config = new ConfigAsset()
+                .put("mp.messaging.startup-parallelism", Integer.toString(SMALL_CHANNELS + LARGE_CHANNELS));
+        for (int i = 0; i < SMALL_CHANNELS; i++) {
+            config.put("mp.messaging.incoming." + SMALL_PREFIX + i + ".connector", SlowConnector.Small.ID);
+        }
+        for (int i = 0; i < LARGE_CHANNELS; i++) {
+            config.put("mp.messaging.incoming." + LARGE_PREFIX + i + ".connector", SlowConnector.Large.ID);
+        }
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(StartupBean.class, SlowConnector.class, SlowConnector.Small.class,
+                        SlowConnector.Large.class, ConfigAsset.class, ArchiveExtender.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+
+        return archive;
+    }
+
+    @Inject
+    private StartupBean bean;
+
+    @Inject
+    @Connector(SlowConnector.Small.ID)
+    private SlowConnector.Small small;
+
+    @Inject
+    @Connector(SlowConnector.Large.ID)
+    private SlowConnector.Large large;
+
+    @Test
+    public void testThatStartupTimeGrowsSublinearlyWithTheNumberOfChannels() {
+        assertThat(small.created()).isEqualTo(SMALL_CHANNELS);
+        assertThat(large.created()).isEqualTo(LARGE_CHANNELS);
+        assertThat(large.maxConcurrentCreations()).isGreaterThan(1);
+        // Sequential creation takes LARGE_CHANNELS * DELAY_MS, require at least half of it to overlap
+        assertThat(large.creationTimeMillis()).isLessThan(LARGE_CHANNELS * SlowConnector.DELAY_MS / 2);
+        // Sequential creation takes four times longer for the large connector
+        assertThat(large.creationTimeMillis()).isLessThan(2 * small.creationTimeMillis());
+    }
+
+    @Test
+    public void testThatMessagesFlowOnceAllChannelsAreCreated() {
+        int channels = SMALL_CHANNELS + LARGE_CHANNELS;
+        await().until(() -> bean.received().size() == channels);
+        assertThat(bean.received()).hasSize(channels).doesNotHaveDuplicates();
+        assertThat(bean.createdOnReception()).containsOnly(channels);
+    }
+}
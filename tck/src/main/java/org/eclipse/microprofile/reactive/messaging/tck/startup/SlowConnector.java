@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.startup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorFactory;
+import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * A connector taking {@link #DELAY_MS} milliseconds to create each channel, as a connector opening a broker connection
+ * would. Each channel emits its name.
+ * <p>
+ * The connector records when the first creation started and the last one ended, and how many creations ran
+ * concurrently. {@link ParallelStartupTest} compares the creation times of the {@link Small} and {@link Large}
+ * connectors, which create a different number of channels.
+ */
+public abstract class SlowConnector implements IncomingConnectorFactory {
+
+    public static final long DELAY_MS = 500;
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastEnd = new AtomicLong(Long.MIN_VALUE);
+
+    @Override
+    public PublisherBuilder<? extends Message<?>> getPublisherBuilder(Config config) {
+        String channel = config.getValue(ConnectorFactory.CHANNEL_NAME_ATTRIBUTE, String.class);
+        firstStart.accumulateAndGet(System.nanoTime(), Math::min);
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating " + channel, e);
+        } finally {
+            running.decrementAndGet();
+            lastEnd.accumulateAndGet(System.nanoTime(), Math::max);
+        }
+        created.incrementAndGet();
+        return ReactiveStreams.of(Message.of(channel));
+    }
+
+    /**
+     * @return the number of channels created
+     */
+    public int created() {
+        return created.get();
+    }
+
+    /**
+     * @return the maximum number of channels created concurrently
+     */
+    public int maxConcurrentCreations() {
+        return maxRunning.get();
+    }
+
+    /**
+     * @return the time elapsed between the start of the first creation and the end of the last one, in milliseconds
+     */
+    public long creationTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastEnd.get() - firstStart.get());
+    }
+
+    @ApplicationScoped
+    @Connector(Small.ID)
+    public static class Small extends SlowConnector {
+
+        public static final String ID = "slow-small";
+    }
+
+    @ApplicationScoped
+    @Connector(Large.ID)
+    public static class Large extends SlowConnector {
+
+        public static final String ID = "slow-large";
+    }
+}
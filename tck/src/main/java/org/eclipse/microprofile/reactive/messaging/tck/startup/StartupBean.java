@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.startup;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Consumes the {@value #SMALL_CHANNELS} channels of the {@link SlowConnector.Small} connector and the
+ * {@value #LARGE_CHANNELS} channels of the {@link SlowConnector.Large} connector, recording for each message how many
+ * channels had been created when it arrived.
+ */
+@ApplicationScoped
+public class StartupBean {
+
+    public static final int SMALL_CHANNELS = 2;
+    public static final int LARGE_CHANNELS = 4 * SMALL_CHANNELS;
+    public static final String SMALL_PREFIX = "startup-small-";
+    public static final String LARGE_PREFIX = "startup-large-";
+
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final List<Integer> createdOnReception = new CopyOnWriteArrayList<>();
+
+    @Inject
+    @Connector(SlowConnector.Small.ID)
+    private SlowConnector.Small small;
+
+    @Inject
+    @Connector(SlowConnector.Large.ID)
+    private SlowConnector.Large large;
+
+    @Incoming(SMALL_PREFIX + "0")
+    @Incoming(SMALL_PREFIX + "1")
+    public void consumeSmall(String channel) {
+        consume(channel);
+    }
+
+    @Incoming(LARGE_PREFIX + "0")
+    @Incoming(LARGE_PREFIX + "1")
+    @Incoming(LARGE_PREFIX + "2")
+    @Incoming(LARGE_PREFIX + "3")
+    @Incoming(LARGE_PREFIX + "4")
+    @Incoming(LARGE_PREFIX + "5")
+    @Incoming(LARGE_PREFIX + "6")
+    @Incoming(LARGE_PREFIX + "7")
+    public void consumeLarge(String channel) {
+        consume(channel);
+    }
+
+    private void consume(String channel) {
+        createdOnReception.add(small.created() + large.created());
+        received.add(channel);
+    }
+
+    public List<String> received() {
+        return received;
+    }
+
+    /**
+     * @return for each received message, the number of channels created when it was received
+     */
+    public List<Integer> createdOnReception() {
+        return createdOnReception;
+    }
+}
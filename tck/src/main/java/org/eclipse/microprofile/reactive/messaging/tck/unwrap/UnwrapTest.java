@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.unwrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+import org.eclipse.microprofile.reactive.messaging.CorrelatedMessage;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.tck.TckBase;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class UnwrapTest extends TckBase {
+
+    private static final int PROBES = 100_000;
+
+    /**
+     * Allocating a single object per probe would exceed this bound, while leaving room for the allocations of the
+     * measurement itself.
+     */
+    private static final long MAX_ALLOCATED_BYTES = PROBES;
+
+    @Deployment
+    public static Archive<JavaArchive> deployment() {
+        return getBaseArchive()
+                .addClasses(RecordMessage.class, Record.class, ClaimingMessage.class);
+    }
+
+    @Test
+    public void testProbingTheDefaultImplementation() {
+        Message<String> message = Message.of("hello");
+
+        assertThat(message.isUnwrappable(Message.class)).isTrue();
+        assertThat(message.isUnwrappable(CorrelatedMessage.class)).isFalse();
+        assertThat(message.tryUnwrap(Message.class)).containsSame(message);
+        assertThat(message.tryUnwrap(CorrelatedMessage.class)).isEmpty();
+        assertThatThrownBy(() -> message.unwrap(CorrelatedMessage.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> message.unwrap(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> message.isUnwrappable(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> message.tryUnwrap(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testProbingAConnectorImplementation() {
+        Record record = new Record("key");
+        RecordMessage message = new RecordMessage(record);
+
+        assertThat(message.isUnwrappable(Record.class)).isTrue();
+        assertThat(message.unwrap(Record.class)).isSameAs(record);
+        assertThat(message.tryUnwrap(Record.class)).containsSame(record);
+        assertThat(message.isUnwrappable(RecordMessage.class)).isTrue();
+        assertThat(message.isUnwrappable(String.class)).isFalse();
+        assertThat(message.tryUnwrap(String.class)).isEmpty();
+        assertThatThrownBy(() -> message.unwrap(String.class)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testThatTheDefaultUnwrapOnlyCastsToTheTypesOfTheMessage() {
+        Message<String> message = new ClaimingMessage();
+
+        assertThatThrownBy(() -> message.unwrap(Record.class)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> message.tryUnwrap(Record.class)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(message.unwrap(Message.class)).isSameAs(message);
+        assertThatThrownBy(() -> message.unwrap(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> message.tryUnwrap(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testThatProbingDoesNotAllocate() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Method allocatedBytes = allocatedBytesMethod(threads);
+        Assume.assumeTrue("Measuring allocations is not supported by this JVM", allocatedBytes != null);
+
+        Message<String> message = Message.of("hello");
+        RecordMessage recordMessage = new RecordMessage(new Record("key"));
+        // Warm up, so the measured loop does not include class loading
+        probe(message, recordMessage);
+
+        long before = allocatedBytes(threads, allocatedBytes);
+        int hits = probe(message, recordMessage);
+        long allocated = allocatedBytes(threads, allocatedBytes) - before;
+
+        assertThat(hits).isEqualTo(2 * PROBES);
+        assertThat(allocated).isLessThan(MAX_ALLOCATED_BYTES);
+    }
+
+    private static int probe(Message<String> message, RecordMessage recordMessage) {
+        int hits = 0;
+        for (int i = 0; i < PROBES; i++) {
+            // Miss
+            if (message.isUnwrappable(CorrelatedMessage.class)) {
+                hits--;
+            }
+            // Hits, including the unwrapping
+            if (message.isUnwrappable(Message.class) && message.unwrap(Message.class) == message) {
+                hits++;
+            }
+            if (recordMessage.isUnwrappable(Record.class) && recordMessage.unwrap(Record.class) != null) {
+                hits++;
+            }
+            // Miss through tryUnwrap, returning the shared empty Optional
+            if (recordMessage.tryUnwrap(String.class).isPresent()) {
+                hits--;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * The allocated bytes are exposed by {@code com.sun.management.ThreadMXBean}, which is not available on all the
+     * JVMs, so it is accessed reflectively.
+     */
+    private static Method allocatedBytesMethod(ThreadMXBean threads) {
+        try {
+            Method method = Class.forName("com.sun.management.ThreadMXBean")
+                    .getMethod("getThreadAllocatedBytes", long.class);
+            return (long) method.invoke(threads, Thread.currentThread().getId()) >= 0 ? method : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static long allocatedBytes(ThreadMXBean threads, Method method) {
+        try {
+            return (long) method.invoke(threads, Thread.currentThread().getId());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A connector-specific record, wrapped by {@link RecordMessage}.
+     */
+    public static class Record {
+        private final String key;
+
+        public Record(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    /**
+     * A connector-specific message, unwrappable to the underlying {@link Record}.
+     */
+    public static class RecordMessage implements Message<String> {
+        private final Record record;
+
+        public RecordMessage(Record record) {
+            this.record = record;
+        }
+
+        @Override
+        public String getPayload() {
+            return record.getKey();
+        }
+
+        @Override
+        public boolean isUnwrappable(Class<?> unwrapType) {
+            return unwrapType == Record.class || Message.super.isUnwrappable(unwrapType);
+        }
+
+        @Override
+        public <C> C unwrap(Class<C> unwrapType) {
+            if (unwrapType == Record.class) {
+                return unwrapType.cast(record);
+            }
+            return Message.super.unwrap(unwrapType);
+        }
+    }
+
+    /**
+     * An inconsistent implementation, claiming to support {@link Record} without overriding {@code unwrap}.
+     */
+    public static class ClaimingMessage implements Message<String> {
+
+        @Override
+        public String getPayload() {
+            return "hello";
+        }
+
+        @Override
+        public boolean isUnwrappable(Class<?> unwrapType) {
+            return unwrapType == Record.class || Message.super.isUnwrappable(unwrapType);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.window;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.messaging.Window;
+import org.eclipse.microprofile.reactive.messaging.tck.ArchiveExtender;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.jboss.arquillian.container.test.api.Deployer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.ShouldThrowException;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+@RunWith(Arquillian.class)
+public class InvalidWindowTest {
+
+    @Deployment(managed = false, name = "window-without-bound")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> windowWithoutBound() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(WindowWithoutBound.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "window-slide-greater-than-size")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> windowSlideGreaterThanSize() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(WindowSlideGreaterThanSize.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "window-slide-with-both-bounds")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> windowSlideWithBothBounds() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(WindowSlideWithBothBounds.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "window-negative-slide")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> windowNegativeSlide() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(WindowNegativeSlide.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "window-without-incoming")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> windowWithoutIncoming() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(WindowWithoutIncoming.class, Sink.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @Deployment(managed = false, name = "window-without-list")
+    @ShouldThrowException(value = DeploymentException.class, testable = true)
+    public static Archive<JavaArchive> windowWithoutList() {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                .addClasses(WindowWithoutList.class, Source.class, ArchiveExtender.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+
+        ServiceLoader.load(ArchiveExtender.class).iterator().forEachRemaining(ext -> ext.extend(archive));
+        return archive;
+    }
+
+    @ArquillianResource
+    private Deployer deployer;
+
+    @Test
+    public void checkThatWindowsWithoutSizeNorDurationAreRejected() {
+        deployer.deploy("window-without-bound");
+    }
+
+    @Test
+    public void checkThatSlidesGreaterThanTheSizeAreRejected() {
+        deployer.deploy("window-slide-greater-than-size");
+    }
+
+    @Test
+    public void checkThatSlidesWithBothBoundsAreRejected() {
+        deployer.deploy("window-slide-with-both-bounds");
+    }
+
+    @Test
+    public void checkThatNegativeSlidesAreRejected() {
+        deployer.deploy("window-negative-slide");
+    }
+
+    @Test
+    public void checkThatWindowWithoutIncomingIsRejected() {
+        deployer.deploy("window-without-incoming");
+    }
+
+    @Test
+    public void checkThatWindowOnAMethodNotAcceptingAListIsRejected() {
+        deployer.deploy("window-without-list");
+    }
+
+    @ApplicationScoped
+    public static class Source {
+
+        @Outgoing("window-invalid")
+        public PublisherBuilder<String> source() {
+            return ReactiveStreams.of("a", "b");
+        }
+    }
+
+    @ApplicationScoped
+    public static class Sink {
+
+        @Incoming("window-invalid")
+        public void consume(String payload) {
+            // Valid consumer
+        }
+    }
+
+    @ApplicationScoped
+    public static class WindowWithoutBound {
+
+        @Incoming("window-invalid")
+        @Window
+        public void consume(List<String> payloads) {
+            // Not called
+        }
+    }
+
+    @ApplicationScoped
+    public static class WindowSlideGreaterThanSize {
+
+        @Incoming("window-invalid")
+        @Window(size = 2, slide = 3)
+        public void consume(List<String> payloads) {
+            // Not called
+        }
+    }
+
+    @ApplicationScoped
+    public static class WindowSlideWithBothBounds {
+
+        @Incoming("window-invalid")
+        @Window(size = 2, duration = 100, slide = 1)
+        public void consume(List<String> payloads) {
+            // Not called
+        }
+    }
+
+    @ApplicationScoped
+    public static class WindowNegativeSlide {
+
+        @Incoming("window-invalid")
+        @Window(size = 2, slide = -1)
+        public void consume(List<String> payloads) {
+            // Not called
+        }
+    }
+
+    @ApplicationScoped
+    public static class WindowWithoutIncoming {
+
+        @Outgoing("window-invalid")
+        @Window(size = 2)
+        public PublisherBuilder<String> source() {
+            return ReactiveStreams.of("a", "b");
+        }
+    }
+
+    @ApplicationScoped
+    public static class WindowWithoutList {
+
+        @Incoming("window-invalid")
+        @Window(size = 2)
+        public void consume(String payload) {
+            // Not called
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.window;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.messaging.Window;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class WindowBean {
+
+    public static final long DURATION = 300;
+
+    private final List<Integer> sums = new CopyOnWriteArrayList<>();
+    private final List<List<String>> sliding = new CopyOnWriteArrayList<>();
+    private final List<List<String>> timed = new CopyOnWriteArrayList<>();
+    private final List<Long> timedAt = new CopyOnWriteArrayList<>();
+    private final List<List<String>> acked = new CopyOnWriteArrayList<>();
+    private final List<Message<String>> joined = new CopyOnWriteArrayList<>();
+    private final AtomicInteger concurrentCalls = new AtomicInteger();
+    private final AtomicInteger maxConcurrentCalls = new AtomicInteger();
+
+    @Inject
+    @Channel("window-timed")
+    private Emitter<String> timedEmitter;
+
+    @Inject
+    @Channel("window-ack")
+    private Emitter<String> ackEmitter;
+
+    @Inject
+    @Channel("window-outgoing")
+    private Emitter<String> outgoingEmitter;
+
+    @Outgoing("window-count")
+    public PublisherBuilder<Integer> numbers() {
+        return ReactiveStreams.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Incoming("window-count")
+    @Outgoing("window-count-sums")
+    @Window(size = 3)
+    public int sum(List<Integer> numbers) {
+        int current = concurrentCalls.incrementAndGet();
+        maxConcurrentCalls.accumulateAndGet(current, Math::max);
+        int sum = numbers.stream().mapToInt(Integer::intValue).sum();
+        concurrentCalls.decrementAndGet();
+        return sum;
+    }
+
+    @Incoming("window-count-sums")
+    public void collectSum(int sum) {
+        sums.add(sum);
+    }
+
+    @Outgoing("window-sliding")
+    public PublisherBuilder<String> letters() {
+        return ReactiveStreams.of("a", "b", "c", "d", "e");
+    }
+
+    @Incoming("window-sliding")
+    @Window(size = 3, slide = 1)
+    public void slide(List<String> letters) {
+        sliding.add(letters);
+    }
+
+    @Incoming("window-timed")
+    @Window(duration = DURATION)
+    public void time(List<String> payloads) {
+        timedAt.add(System.nanoTime());
+        timed.add(payloads);
+    }
+
+    @Incoming("window-ack")
+    @Window(size = 2)
+    public void acknowledge(List<String> payloads) {
+        if (payloads.contains("fail")) {
+            throw new IllegalArgumentException("fail");
+        }
+        acked.add(payloads);
+    }
+
+    @Incoming("window-outgoing")
+    @Outgoing("window-outgoing-joined")
+    @Window(size = 3)
+    public String join(List<String> payloads) {
+        return String.join(",", payloads);
+    }
+
+    @Incoming("window-outgoing-joined")
+    public CompletionStage<Void> collectJoined(Message<String> message) {
+        // Acknowledged by the test
+        joined.add(message);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public List<Integer> sums() {
+        return sums;
+    }
+
+    public List<List<String>> sliding() {
+        return sliding;
+    }
+
+    public List<List<String>> timed() {
+        return timed;
+    }
+
+    public List<Long> timedAt() {
+        return timedAt;
+    }
+
+    public List<List<String>> acked() {
+        return acked;
+    }
+
+    public List<Message<String>> joined() {
+        return joined;
+    }
+
+    public int maxConcurrentCalls() {
+        return maxConcurrentCalls.get();
+    }
+
+    public Emitter<String> timedEmitter() {
+        return timedEmitter;
+    }
+
+    public Emitter<String> ackEmitter() {
+        return ackEmitter;
+    }
+
+    public Emitter<String> outgoingEmitter() {
+        return outgoingEmitter;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.reactive.messaging.tck.window;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.tck.TckBase;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Test;
+
+import jakarta.inject.Inject;
+
+public class WindowTest extends TckBase {
+
+    @Deployment
+    public static Archive<JavaArchive> deployment() {
+        return getBaseArchive()
+                .addClasses(WindowBean.class);
+    }
+
+    @Inject
+    private WindowBean bean;
+
+    @Test
+    public void testTumblingCountWindows() {
+        // The last window is emitted when the upstream completes
+        await().until(() -> bean.sums().size() == 4);
+        assertThat(bean.sums()).containsExactly(6, 15, 24, 10);
+        assertThat(bean.maxConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    public void testSlidingCountWindows() {
+        await().until(() -> bean.sliding().size() == 5);
+        assertThat(bean.sliding()).containsExactly(
+                Arrays.asList("a", "b", "c"),
+                Arrays.asList("b", "c", "d"),
+                Arrays.asList("c", "d", "e"),
+                Arrays.asList("d", "e"),
+                Arrays.asList("e"));
+    }
+
+    @Test
+    public void testTimeWindows() {
+        long start = System.nanoTime();
+        bean.timedEmitter().send("a");
+        bean.timedEmitter().send("b");
+        bean.timedEmitter().send("c");
+        await().until(() -> bean.timed().size() == 1);
+        // The window is only closed once its duration has elapsed
+        assertThat(bean.timedAt().get(0) - start).isGreaterThanOrEqualTo(
+                TimeUnit.MILLISECONDS.toNanos(WindowBean.DURATION));
+
+        bean.timedEmitter().send("d");
+        bean.timedEmitter().send("e");
+        await().until(() -> bean.timed().size() == 2);
+        assertThat(bean.timed()).containsExactly(
+                Arrays.asList("a", "b", "c"),
+                Arrays.asList("d", "e"));
+    }
+
+    @Test
+    public void testThatTheMessagesOfAWindowAreAckedTogether() {
+        AtomicInteger acked = new AtomicInteger();
+        AtomicReference<Throwable> nacked = new AtomicReference<>();
+        bean.ackEmitter().send(message("first", acked, nacked));
+        await().during(200, TimeUnit.MILLISECONDS).atMost(1, TimeUnit.SECONDS).until(() -> acked.get() == 0);
+
+        bean.ackEmitter().send(message("second", acked, nacked));
+        await().until(() -> acked.get() == 2);
+        assertThat(bean.acked()).containsExactly(Arrays.asList("first", "second"));
+        assertThat(nacked).hasValue(null);
+    }
+
+    @Test
+    public void testThatTheMessagesOfAWindowAreAckedWithTheProducedMessage() {
+        Set<String> acked = ConcurrentHashMap.newKeySet();
+        AtomicReference<Throwable> nacked = new AtomicReference<>();
+        for (String payload : new String[]{"x", "y", "z"}) {
+            bean.outgoingEmitter().send(Message.of(payload, () -> {
+                acked.add(payload);
+                return CompletableFuture.completedFuture(null);
+            }, reason -> {
+                nacked.set(reason);
+                return CompletableFuture.completedFuture(null);
+            }));
+        }
+        await().until(() -> bean.joined().size() == 1);
+        assertThat(bean.joined().get(0).getPayload()).isEqualTo("x,y,z");
+        assertThat(acked).isEmpty();
+
+        bean.joined().get(0).ack();
+        await().until(() -> acked.size() == 3);
+        assertThat(acked).containsExactlyInAnyOrder("x", "y", "z");
+        assertThat(nacked).hasValue(null);
+    }
+
+    @Test
+    public void testThatTheMessagesOfAFailedWindowAreNacked() {
+        AtomicInteger acked = new AtomicInteger();
+        AtomicInteger nacked = new AtomicInteger();
+        AtomicReference<Throwable> reason = new AtomicReference<>();
+        for (String payload : new String[]{"ok", "fail"}) {
+            bean.ackEmitter().send(Message.of(payload, () -> {
+                acked.incrementAndGet();
+                return CompletableFuture.completedFuture(null);
+            }, failure -> {
+                nacked.incrementAndGet();
+                reason.set(failure);
+                return CompletableFuture.completedFuture(null);
+            }));
+        }
+        await().until(() -> nacked.get() == 2);
+        assertThat(acked).hasValue(0);
+        assertThat(reason.get()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Message<String> message(String payload, AtomicInteger acked, AtomicReference<Throwable> nacked) {
+        return Message.of(payload, () -> {
+            acked.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }, reason -> {
+            nacked.set(reason);
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+}